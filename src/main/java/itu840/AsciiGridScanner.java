@@ -0,0 +1,445 @@
+package itu840;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <p><b>Allocation-free scanner for the ITU-R P.840-9 TXT digital maps</b></p>
+ *
+ * <p>Parses the rows of a digital map straight from its bytes, without creating a <code>String</code> per line
+ *    or per value. The results and diagnostics are the same as reading the file line by line,
+ *    splitting each trimmed line on <code>\s+</code>, and calling {@link Double#parseDouble(String)} on each token:</p>
+ * <ul>
+ *   <li>Lines end at <code>\n</code>, <code>\r</code>, or <code>\r\n</code>, like {@link BufferedReader#readLine()}.</li>
+ *   <li>Leading and trailing characters &le; <code>U+0020</code> are ignored, like {@link String#trim()}.</li>
+ *   <li>Values are separated by runs of <code>[ \t\n\x0B\f\r]</code>.</li>
+ *   <li>Plain decimal values with up to 15 significant digits and a decimal exponent within &plusmn;22 are converted
+ *       exactly (a single correctly rounded multiplication or division, see Clinger's fast path). <code>NaN</code>
+ *       is recognized directly. Every other token is passed to {@link Double#parseDouble(String)}, so the results
+ *       are always bit-for-bit identical.</li>
+ * </ul>
+ */
+final class AsciiGridScanner {
+
+    /** <p>Utility class, no instances.</p> */
+    private AsciiGridScanner() {
+        throw new AssertionError("AsciiGridScanner is a utility class and cannot be instantiated.");
+    }
+
+    // Exactly representable powers of ten (10^0 … 10^22)
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final int MAX_FAST_PATH_DIGITS = 15;
+    private static final int MAX_FAST_PATH_EXPONENT = 22;
+
+    // Rows per task of the chunked parser (721 rows => 23 tasks)
+    private static final int ROWS_PER_CHUNK = 32;
+
+    /**
+     * <p>Parses a complete digital map into a grid.</p>
+     *
+     * @param bytes Content of the digital map file
+     * @param rows Expected number of rows
+     * @param columns Expected number of columns
+     * @return A grid
+     * @throws IOException If a row is missing or empty, a row has fewer or more columns than expected,
+     *                     a value cannot be parsed as a number, or the file contains more rows than expected
+     */
+    static double[][] parseGrid(byte[] bytes, int rows, int columns) throws IOException {
+        double[][] grid = new double[rows][columns];
+        parseInto(bytes, rows, columns, grid, null, null);
+
+        return grid;
+    }
+
+    /**
+     * <p>Parses a complete digital map into a grid, splitting it into ranges of rows that are parsed on an executor.</p>
+     *
+     * <p>The line boundaries are located first, then each range of rows is parsed by its own task. The diagnostics
+     *    are the same as {@link #parseGrid(byte[], int, int)}: a failure in an earlier range is reported before a
+     *    failure in a later one, and the missing or extra row checks only apply if all present rows are valid.</p>
+     *
+     * @param bytes Content of the digital map file
+     * @param rows Expected number of rows
+     * @param columns Expected number of columns
+     * @param executor Executor that parses the ranges of rows
+     * @return A grid
+     * @throws IOException If a row is missing or empty, a row has fewer or more columns than expected,
+     *                     a value cannot be parsed as a number, the file contains more rows than expected,
+     *                     or the calling thread is interrupted
+     */
+    static double[][] parseGrid(byte[] bytes, int rows, int columns, ExecutorService executor) throws IOException {
+        double[][] grid = new double[rows][columns];
+        parseInto(bytes, rows, columns, grid, null, executor);
+
+        return grid;
+    }
+
+    /**
+     * <p>Parses a complete digital map into a single row-major array (see {@link Grid}).</p>
+     *
+     * @param bytes Content of the digital map file
+     * @param rows Expected number of rows
+     * @param columns Expected number of columns
+     * @param executor Executor that parses ranges of rows, or <code>null</code> to parse them on the calling thread
+     * @return Row-major grid values
+     * @throws IOException If a row is missing or empty, a row has fewer or more columns than expected,
+     *                     a value cannot be parsed as a number, the file contains more rows than expected,
+     *                     or the calling thread is interrupted
+     */
+    static double[] parseFlatGrid(byte[] bytes, int rows, int columns, ExecutorService executor) throws IOException {
+        double[] values = new double[rows * columns];
+        parseInto(bytes, rows, columns, null, values, executor);
+
+        return values;
+    }
+
+    /**
+     * <p>Parses a complete digital map into either an array of rows or a single row-major array.</p>
+     *
+     * @param bytes Content of the digital map file
+     * @param rows Expected number of rows
+     * @param columns Expected number of columns
+     * @param grid Array of rows that receives the values, or <code>null</code>
+     * @param values Row-major array that receives the values if <code>grid</code> is <code>null</code>
+     * @param executor Executor that parses ranges of rows, or <code>null</code> to parse them on the calling thread
+     * @throws IOException If the digital map is invalid or the calling thread is interrupted
+     */
+    private static void parseInto(byte[] bytes, int rows, int columns, double[][] grid, double[] values, ExecutorService executor) throws IOException {
+        if (executor == null) {
+            int position = 0;
+
+            for (int row = 0; row < rows; row++) {
+                if (position >= bytes.length) {
+                    throw new IOException("Row " + (row + 1) + " is missing.");
+                }
+
+                int lineEnd = findLineEnd(bytes, position, bytes.length);
+                parseRow(bytes, position, lineEnd, row, grid, values, columns);
+                position = skipLineTerminator(bytes, lineEnd, bytes.length);
+            }
+
+            if (position < bytes.length) {
+                throw new IOException("File has more rows than expected.");
+            }
+
+            return;
+        }
+
+        int[] lineStarts = new int[rows];
+        int[] lineEnds = new int[rows];
+        int lineCount = 0;
+        int position = 0;
+
+        while (lineCount < rows && position < bytes.length) {
+            int lineEnd = findLineEnd(bytes, position, bytes.length);
+            lineStarts[lineCount] = position;
+            lineEnds[lineCount] = lineEnd;
+            lineCount++;
+            position = skipLineTerminator(bytes, lineEnd, bytes.length);
+        }
+
+        List<Future<Void>> futures = new ArrayList<>();
+
+        try {
+            for (int firstRow = 0; firstRow < lineCount; firstRow += ROWS_PER_CHUNK) {
+                final int chunkStart = firstRow;
+                final int chunkEnd = Math.min(firstRow + ROWS_PER_CHUNK, lineCount);
+
+                futures.add(executor.submit(() -> {
+                    for (int row = chunkStart; row < chunkEnd; row++) {
+                        parseRow(bytes, lineStarts[row], lineEnds[row], row, grid, values, columns);
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<Void> future : futures) {
+                Itu840.await(future);
+            }
+        }
+        finally {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        if (lineCount < rows) {
+            throw new IOException("Row " + (lineCount + 1) + " is missing.");
+        }
+
+        if (position < bytes.length) {
+            throw new IOException("File has more rows than expected.");
+        }
+    }
+
+    /**
+     * <p>Parses one line into either its row array or its slice of a row-major array.</p>
+     *
+     * @param bytes Content of the digital map file
+     * @param lineStart Index of the first byte of the line
+     * @param lineEnd Index after the last byte of the line (excluding the terminator)
+     * @param row Zero-based row index
+     * @param grid Array of rows that receives the values, or <code>null</code>
+     * @param values Row-major array that receives the values if <code>grid</code> is <code>null</code>
+     * @param columns Expected number of columns
+     * @throws IOException If the row is empty, has fewer or more columns than expected, or a value cannot be parsed
+     */
+    private static void parseRow(byte[] bytes, int lineStart, int lineEnd, int row, double[][] grid, double[] values, int columns) throws IOException {
+        if (grid != null) {
+            parseRow(bytes, lineStart, lineEnd, row, grid[row], 0, columns);
+        }
+        else {
+            parseRow(bytes, lineStart, lineEnd, row, values, row * columns, columns);
+        }
+    }
+
+    /**
+     * <p>Returns the index of the line terminator (<code>\n</code> or <code>\r</code>) that ends the line
+     *    starting at <code>position</code>, or <code>limit</code> if the line is not terminated.</p>
+     *
+     * @param bytes Content of the digital map file
+     * @param position Index of the first byte of the line
+     * @param limit Index after the last byte to be scanned
+     * @return Index after the last byte of the line
+     */
+    static int findLineEnd(byte[] bytes, int position, int limit) {
+        while (position < limit && bytes[position] != '\n' && bytes[position] != '\r') {
+            position++;
+        }
+
+        return position;
+    }
+
+    /**
+     * <p>Skips the line terminator (<code>\n</code>, <code>\r</code>, or <code>\r\n</code>) at <code>lineEnd</code>.</p>
+     *
+     * @param bytes Content of the digital map file
+     * @param lineEnd Index returned by {@link #findLineEnd(byte[], int, int)}
+     * @param limit Index after the last byte to be scanned
+     * @return Index of the first byte of the next line
+     */
+    static int skipLineTerminator(byte[] bytes, int lineEnd, int limit) {
+        if (lineEnd >= limit) {
+            return lineEnd;
+        }
+        if (bytes[lineEnd] == '\r' && lineEnd + 1 < limit && bytes[lineEnd + 1] == '\n') {
+            return lineEnd + 2;
+        }
+
+        return lineEnd + 1;
+    }
+
+    /**
+     * <p>Parses one line of a digital map into a row of the grid.</p>
+     *
+     * <p>The column count is validated before any invalid value is reported, so the diagnostics are the same
+     *    as splitting the whole line first.</p>
+     *
+     * @param bytes Content of the digital map file
+     * @param lineStart Index of the first byte of the line
+     * @param lineEnd Index after the last byte of the line (excluding the terminator)
+     * @param row Zero-based row index, used in the diagnostics
+     * @param destination Array that receives the values
+     * @param offset Index in <code>destination</code> of the first value
+     * @param columns Expected number of columns
+     * @throws IOException If the row is empty, has fewer or more columns than expected, or a value cannot be parsed
+     */
+    static void parseRow(byte[] bytes, int lineStart, int lineEnd, int row, double[] destination, int offset, int columns) throws IOException {
+        int start = lineStart;
+        int end = lineEnd;
+
+        while (start < end && (bytes[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (bytes[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+
+        if (start == end) {
+            throw new IOException("Row " + (row + 1) + " is missing.");
+        }
+
+        int column = 0;
+        int invalidColumn = -1;
+        int invalidTokenStart = 0;
+        int invalidTokenEnd = 0;
+        int position = start;
+
+        while (position < end) {
+            int tokenStart = position;
+
+            while (position < end && !isSeparator(bytes[position])) {
+                position++;
+            }
+
+            if (column >= columns) {
+                throw new IOException("Row " + (row + 1) + " has more columns than expected.");
+            }
+
+            if (invalidColumn < 0) {
+                try {
+                    destination[offset + column] = parseDouble(bytes, tokenStart, position);
+                }
+                catch (NumberFormatException e) {
+                    invalidColumn = column;
+                    invalidTokenStart = tokenStart;
+                    invalidTokenEnd = position;
+                }
+            }
+
+            column++;
+
+            while (position < end && isSeparator(bytes[position])) {
+                position++;
+            }
+        }
+
+        if (column < columns) {
+            throw new IOException("Row " + (row + 1) + " has fewer columns than expected.");
+        }
+
+        if (invalidColumn >= 0) {
+            String token = new String(bytes, invalidTokenStart, invalidTokenEnd - invalidTokenStart, StandardCharsets.UTF_8);
+
+            try {
+                Double.parseDouble(token);
+            }
+            catch (NumberFormatException e) {
+                throw new IOException("Invalid number at row " + (row + 1) + ", column " + (invalidColumn + 1) + ": " + token + ".", e);
+            }
+        }
+    }
+
+    /**
+     * <p>Parses a single token, with the same result as {@link Double#parseDouble(String)}.</p>
+     *
+     * @param bytes Content of the digital map file
+     * @param start Index of the first byte of the token
+     * @param end Index after the last byte of the token
+     * @return Value of the token
+     * @throws NumberFormatException If the token is not a valid number
+     */
+    static double parseDouble(byte[] bytes, int start, int end) {
+        int position = start;
+        boolean negative = false;
+
+        if (position < end && (bytes[position] == '-' || bytes[position] == '+')) {
+            negative = bytes[position] == '-';
+            position++;
+        }
+
+        if (end - position == 3 && bytes[position] == 'N' && bytes[position + 1] == 'a' && bytes[position + 2] == 'N') {
+            return Double.NaN;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int decimalExponent = 0;
+        boolean seenDigit = false;
+
+        // Integer part (digits beyond the fast path limit are only counted, the token then falls back)
+        while (position < end && isDigit(bytes[position])) {
+            seenDigit = true;
+            int digit = bytes[position++] - '0';
+
+            if (significantDigits > 0 || digit != 0) {
+                if (++significantDigits <= MAX_FAST_PATH_DIGITS) {
+                    mantissa = mantissa * 10 + digit;
+                }
+            }
+        }
+
+        // Fractional part
+        if (position < end && bytes[position] == '.') {
+            position++;
+
+            while (position < end && isDigit(bytes[position])) {
+                seenDigit = true;
+                int digit = bytes[position++] - '0';
+
+                if (significantDigits > 0 || digit != 0) {
+                    if (++significantDigits <= MAX_FAST_PATH_DIGITS) {
+                        mantissa = mantissa * 10 + digit;
+                    }
+                }
+
+                decimalExponent--;
+            }
+        }
+
+        // Exponent part
+        if (seenDigit && position < end && (bytes[position] == 'e' || bytes[position] == 'E')) {
+            position++;
+            boolean negativeExponent = false;
+
+            if (position < end && (bytes[position] == '-' || bytes[position] == '+')) {
+                negativeExponent = bytes[position] == '-';
+                position++;
+            }
+
+            if (position == end) {
+                return fallback(bytes, start, end);
+            }
+
+            int exponent = 0;
+
+            while (position < end && isDigit(bytes[position])) {
+                if (exponent < 10_000) {
+                    exponent = exponent * 10 + (bytes[position] - '0');
+                }
+                position++;
+            }
+
+            decimalExponent += negativeExponent ? -exponent : exponent;
+        }
+
+        if (!seenDigit || position != end || significantDigits > MAX_FAST_PATH_DIGITS) {
+            return fallback(bytes, start, end);
+        }
+
+        double value;
+
+        if (mantissa == 0) {
+            value = 0.0;
+        }
+        else if (decimalExponent >= 0 && decimalExponent <= MAX_FAST_PATH_EXPONENT) {
+            value = mantissa * POWERS_OF_TEN[decimalExponent];
+        }
+        else if (decimalExponent < 0 && decimalExponent >= -MAX_FAST_PATH_EXPONENT) {
+            value = mantissa / POWERS_OF_TEN[-decimalExponent];
+        }
+        else {
+            return fallback(bytes, start, end);
+        }
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * <p>Converts a token outside the fast path with {@link Double#parseDouble(String)}.</p>
+     *
+     * @param bytes Content of the digital map file
+     * @param start Index of the first byte of the token
+     * @param end Index after the last byte of the token
+     * @return Value of the token
+     * @throws NumberFormatException If the token is not a valid number
+     */
+    private static double fallback(byte[] bytes, int start, int end) {
+        return Double.parseDouble(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r';
+    }
+}
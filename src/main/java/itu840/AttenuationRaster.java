@@ -0,0 +1,370 @@
+package itu840;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <p><b>Parallel attenuation raster engine</b></p>
+ *
+ * <p>A regular latitude-longitude raster of any resolution and bounding box, on which Equation (13) or Equation (15)
+ *    is evaluated for one (f, p, &theta;) at every point. Ranges of rows are evaluated in parallel on a {@link ForkJoinPool},
+ *    and the results are written row-major into a caller-supplied <code>double[]</code>, southernmost row first,
+ *    like the digital maps.</p>
+ *
+ * <p>Everything that does not depend on the location is computed once per raster: K<sub>L</sub>(f), sin(&theta;), and for
+ *    Equation (13) the bracketing levels and their log<sub>10</sub>(p) terms. The per-point arithmetic is otherwise that of
+ *    the point methods, so each value is bit-for-bit identical to
+ *    {@link Itu840#computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityAxis)} and
+ *    {@link Itu840#computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, Grid, Grid, Grid)}
+ *    in the default {@link CloudLiquidMassAbsorptionCoefficientTable.Mode#EXACT} mode.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ */
+public final class AttenuationRaster {
+
+    // Number of rows below which a task is not split further
+    private static final int ROWS_PER_TASK = 4;
+
+    private static final double EDGE_TOLERANCE_DEGREES = 1e-9;
+
+    private final double southernLatitude;
+    private final double westernLongitude;
+    private final double latitudeStep;
+    private final double longitudeStep;
+    private final int numberOfRows;
+    private final int numberOfColumns;
+    private final CloudLiquidMassAbsorptionCoefficientTable.Mode mode;
+
+    /**
+     * <p>Creates a raster from its south-west point, point spacing, and size.</p>
+     *
+     * @param southernLatitude Latitude of the first row in degrees
+     * @param westernLongitude Longitude of the first column in degrees
+     * @param latitudeStep Spacing of the rows in degrees, greater than 0
+     * @param longitudeStep Spacing of the columns in degrees, greater than 0
+     * @param numberOfRows Number of rows, at least 1
+     * @param numberOfColumns Number of columns, at least 1
+     * @throws IllegalArgumentException If a step or size is not positive, the raster leaves [&minus;90°, 90°] × [&minus;180°, 180°],
+     *                                  or it has more than {@link Integer#MAX_VALUE} points
+     */
+    public AttenuationRaster(double southernLatitude, double westernLongitude, double latitudeStep, double longitudeStep, int numberOfRows, int numberOfColumns) {
+        this(southernLatitude, westernLongitude, latitudeStep, longitudeStep, numberOfRows, numberOfColumns, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Creates a raster from its south-west point, point spacing, and size, with a K<sub>L</sub>(f) mode.</p>
+     *
+     * @param southernLatitude Latitude of the first row in degrees
+     * @param westernLongitude Longitude of the first column in degrees
+     * @param latitudeStep Spacing of the rows in degrees, greater than 0
+     * @param longitudeStep Spacing of the columns in degrees, greater than 0
+     * @param numberOfRows Number of rows, at least 1
+     * @param numberOfColumns Number of columns, at least 1
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @throws IllegalArgumentException If a step or size is not positive, the raster leaves [&minus;90°, 90°] × [&minus;180°, 180°],
+     *                                  or it has more than {@link Integer#MAX_VALUE} points
+     */
+    public AttenuationRaster(double southernLatitude, double westernLongitude, double latitudeStep, double longitudeStep, int numberOfRows, int numberOfColumns,
+                             CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+        if (!(latitudeStep > 0.0 && longitudeStep > 0.0) || numberOfRows < 1 || numberOfColumns < 1) {
+            throw new IllegalArgumentException("Steps and sizes must be positive.");
+        }
+
+        if ((long) numberOfRows * numberOfColumns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Raster has more than " + Integer.MAX_VALUE + " points.");
+        }
+
+        double northernLatitude = southernLatitude + (numberOfRows - 1) * latitudeStep;
+        double easternLongitude = westernLongitude + (numberOfColumns - 1) * longitudeStep;
+
+        // The tolerance admits edges such as -180 + 3600 × 0.1, which rounds to just above 180
+        if (!(southernLatitude >= Itu840.LATITUDE_MIN_DEGREES - EDGE_TOLERANCE_DEGREES && northernLatitude <= Itu840.LATITUDE_MAX_DEGREES + EDGE_TOLERANCE_DEGREES &&
+              westernLongitude >= Itu840.LONGITUDE_MIN_DEGREES - EDGE_TOLERANCE_DEGREES && easternLongitude <= Itu840.LONGITUDE_MAX_DEGREES + EDGE_TOLERANCE_DEGREES)) {
+            throw new IllegalArgumentException("Raster [" + southernLatitude + ", " + northernLatitude + "] × [" + westernLongitude + ", " + easternLongitude +
+                                               "] leaves [-90, 90] × [-180, 180].");
+        }
+
+        this.southernLatitude = southernLatitude;
+        this.westernLongitude = westernLongitude;
+        this.latitudeStep = latitudeStep;
+        this.longitudeStep = longitudeStep;
+        this.numberOfRows = numberOfRows;
+        this.numberOfColumns = numberOfColumns;
+        this.mode = Objects.requireNonNull(mode, "mode");
+    }
+
+    /**
+     * <p>Creates a raster that covers a bounding box at the given resolution, including its edges.</p>
+     *
+     * <p>Rows and columns start at the south-west corner; if the box is not a multiple of the resolution, the last row or
+     *    column lies inside the box. <code>covering(-90, 90, -180, 180, 0.25)</code> has the 721 × 1441 points of the digital maps.</p>
+     *
+     * @param southernLatitude Southern edge in degrees
+     * @param northernLatitude Northern edge in degrees
+     * @param westernLongitude Western edge in degrees
+     * @param easternLongitude Eastern edge in degrees
+     * @param resolution Spacing of the rows and columns in degrees
+     * @return A raster
+     * @throws IllegalArgumentException If the box is empty or inverted, the resolution is not positive,
+     *                                  or the box leaves [&minus;90°, 90°] × [&minus;180°, 180°]
+     */
+    public static AttenuationRaster covering(double southernLatitude, double northernLatitude, double westernLongitude, double easternLongitude, double resolution) {
+        return covering(southernLatitude, northernLatitude, westernLongitude, easternLongitude, resolution, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Creates a raster that covers a bounding box at the given resolution, including its edges, with a K<sub>L</sub>(f) mode
+     *    (see {@link #covering(double, double, double, double, double)}).</p>
+     *
+     * @param southernLatitude Southern edge in degrees
+     * @param northernLatitude Northern edge in degrees
+     * @param westernLongitude Western edge in degrees
+     * @param easternLongitude Eastern edge in degrees
+     * @param resolution Spacing of the rows and columns in degrees
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return A raster
+     * @throws IllegalArgumentException If the box is empty or inverted, the resolution is not positive,
+     *                                  or the box leaves [&minus;90°, 90°] × [&minus;180°, 180°]
+     */
+    public static AttenuationRaster covering(double southernLatitude, double northernLatitude, double westernLongitude, double easternLongitude, double resolution,
+                                             CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+        if (!(northernLatitude >= southernLatitude && easternLongitude >= westernLongitude && resolution > 0.0)) {
+            throw new IllegalArgumentException("Bounding box must not be inverted, and resolution must be positive.");
+        }
+
+        // A small tolerance keeps edges that are a multiple of the resolution despite rounding
+        long numberOfRows = (long) Math.floor((northernLatitude - southernLatitude) / resolution + 1e-9) + 1;
+        long numberOfColumns = (long) Math.floor((easternLongitude - westernLongitude) / resolution + 1e-9) + 1;
+
+        if (numberOfRows > Integer.MAX_VALUE || numberOfColumns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Raster has more than " + Integer.MAX_VALUE + " points.");
+        }
+
+        return new AttenuationRaster(southernLatitude, westernLongitude, resolution, resolution, (int) numberOfRows, (int) numberOfColumns, mode);
+    }
+
+    // ==================================================================================
+    //                                     Geometry
+    // ==================================================================================
+
+    /**
+     * <p>Returns the number of rows.</p>
+     *
+     * @return Number of rows (latitudes)
+     */
+    public int numberOfRows() {
+        return numberOfRows;
+    }
+
+    /**
+     * <p>Returns the number of columns.</p>
+     *
+     * @return Number of columns (longitudes)
+     */
+    public int numberOfColumns() {
+        return numberOfColumns;
+    }
+
+    /**
+     * <p>Returns the number of points, which is the length a result buffer needs.</p>
+     *
+     * @return Number of rows × number of columns
+     */
+    public int size() {
+        return numberOfRows * numberOfColumns;
+    }
+
+    /**
+     * <p>Returns the latitude of a row.</p>
+     *
+     * @param row Row index, 0 being the southernmost row
+     * @return Latitude in degrees
+     */
+    public double latitude(int row) {
+        return southernLatitude + row * latitudeStep;
+    }
+
+    /**
+     * <p>Returns the longitude of a column.</p>
+     *
+     * @param column Column index, 0 being the westernmost column
+     * @return Longitude in degrees
+     */
+    public double longitude(int column) {
+        return westernLongitude + column * longitudeStep;
+    }
+
+    // ==================================================================================
+    //                                Prediction Methods
+    // ==================================================================================
+
+    /**
+     * <p>Evaluates Equation (13) at every point of the raster on the common pool.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param attenuations Array that receives the attenuation in dB of each point, row-major; at least {@link #size()} long
+     * @throws IllegalArgumentException If p is outside the levels of the axis, or the array is too short
+     */
+    public void computeSlantPathStatisticalCloudAttenuation(double frequency, double exceedanceProbability, double elevationAngle,
+                                                            ProbabilityAxis probabilityAxis, double[] attenuations) {
+        computeSlantPathStatisticalCloudAttenuation(frequency, exceedanceProbability, elevationAngle, probabilityAxis, attenuations, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>Evaluates Equation (13) at every point of the raster, splitting the rows across the given pool.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param attenuations Array that receives the attenuation in dB of each point, row-major; at least {@link #size()} long
+     * @param pool Pool that evaluates the rows
+     * @throws IllegalArgumentException If p is outside the levels of the axis, or the array is too short
+     */
+    public void computeSlantPathStatisticalCloudAttenuation(double frequency, double exceedanceProbability, double elevationAngle,
+                                                            ProbabilityAxis probabilityAxis, double[] attenuations, ForkJoinPool pool) {
+        checkBuffer(attenuations);
+
+        double cloudLiquidMassAbsorptionCoefficient = mode.value(frequency);
+        double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+
+        int indexBelow = probabilityAxis.floorIndex(exceedanceProbability);
+        boolean isGridProbability = probabilityAxis.levels[indexBelow] == exceedanceProbability;
+        Grid gridBelow = probabilityAxis.grids[indexBelow];
+        Grid gridAbove = isGridProbability ? gridBelow : probabilityAxis.grids[indexBelow + 1];
+
+        // Same operands as the point method, so that the per-point arithmetic is unchanged
+        double logPDifference = isGridProbability ? 0.0 : Math.log10(exceedanceProbability) - probabilityAxis.log10Levels[indexBelow];
+        double logPRange = isGridProbability ? 1.0 : probabilityAxis.log10Levels[indexBelow + 1] - probabilityAxis.log10Levels[indexBelow];
+
+        RowKernel kernel = (row, rowOffset) -> {
+            double latitude = latitude(row);
+
+            for (int column = 0; column < numberOfColumns; column++) {
+                double longitude = longitude(column);
+                double integratedCloudLiquidWaterContent = Itu840.bilinearInterpolation(latitude, longitude, gridBelow);
+
+                if (!isGridProbability) {
+                    double integratedCloudLiquidWaterContentAbove = Itu840.bilinearInterpolation(latitude, longitude, gridAbove);
+
+                    integratedCloudLiquidWaterContent = Itu840.interpolateInLog10Probability(
+                            integratedCloudLiquidWaterContent, integratedCloudLiquidWaterContentAbove, logPDifference, logPRange);
+                }
+
+                attenuations[rowOffset + column] = cloudLiquidMassAbsorptionCoefficient * integratedCloudLiquidWaterContent / sineOfElevationAngle;
+            }
+        };
+
+        pool.invoke(new RowTask(kernel, 0, numberOfRows));
+    }
+
+    /**
+     * <p>Evaluates Equation (15) at every point of the raster on the common pool.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalGrids m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grids
+     * @param attenuations Array that receives the attenuation in dB of each point, row-major; at least {@link #size()} long
+     * @throws IllegalArgumentException If the array is too short
+     */
+    public void computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double frequency, double exceedanceProbability, double elevationAngle,
+                                                                                       LogNormalGrids logNormalGrids, double[] attenuations) {
+        computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequency, exceedanceProbability, elevationAngle, logNormalGrids, attenuations,
+                                                                               ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>Evaluates Equation (15) at every point of the raster, splitting the rows across the given pool.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalGrids m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grids
+     * @param attenuations Array that receives the attenuation in dB of each point, row-major; at least {@link #size()} long
+     * @param pool Pool that evaluates the rows
+     * @throws IllegalArgumentException If the array is too short
+     */
+    public void computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double frequency, double exceedanceProbability, double elevationAngle,
+                                                                                       LogNormalGrids logNormalGrids, double[] attenuations, ForkJoinPool pool) {
+        checkBuffer(attenuations);
+
+        double cloudLiquidMassAbsorptionCoefficient = mode.value(frequency);
+        double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+
+        Grid logNormalMeanParameterGrid = logNormalGrids.logNormalMeanParameterGrid();
+        Grid logNormalStandardDeviationParameterGrid = logNormalGrids.logNormalStandardDeviationParameterGrid();
+        Grid cloudProbabilityGrid = logNormalGrids.cloudProbabilityGrid();
+
+        RowKernel kernel = (row, rowOffset) -> {
+            double latitude = latitude(row);
+
+            for (int column = 0; column < numberOfColumns; column++) {
+                attenuations[rowOffset + column] = Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuationFused(
+                        cloudLiquidMassAbsorptionCoefficient, sineOfElevationAngle, GridLocation.of(latitude, longitude(column)), exceedanceProbability,
+                        logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid);
+            }
+        };
+
+        pool.invoke(new RowTask(kernel, 0, numberOfRows));
+    }
+
+    // ==================================================================================
+    //                                 Helper Functions
+    // ==================================================================================
+
+    private void checkBuffer(double[] attenuations) {
+        if (attenuations.length < size()) {
+            throw new IllegalArgumentException("Buffer must have at least " + size() + " elements, but has " + attenuations.length + ".");
+        }
+    }
+
+    /** <p>Evaluates one row of a raster.</p> */
+    @FunctionalInterface
+    private interface RowKernel {
+
+        /**
+         * <p>Evaluates a row and writes its values.</p>
+         *
+         * @param row Row index
+         * @param rowOffset Index of the first value of the row in the result buffer
+         */
+        void evaluate(int row, int rowOffset);
+    }
+
+    /** <p>Evaluates a range of rows, splitting it in halves down to {@value #ROWS_PER_TASK} rows.</p> */
+    private final class RowTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Tasks only run within one evaluation and are never serialized
+        private final transient RowKernel kernel;
+        private final transient int firstRow;
+        private final transient int endRow;
+
+        RowTask(RowKernel kernel, int firstRow, int endRow) {
+            this.kernel = kernel;
+            this.firstRow = firstRow;
+            this.endRow = endRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (endRow - firstRow <= ROWS_PER_TASK) {
+                for (int row = firstRow; row < endRow; row++) {
+                    kernel.evaluate(row, row * numberOfColumns);
+                }
+
+                return;
+            }
+
+            int middleRow = (firstRow + endRow) >>> 1;
+            invokeAll(new RowTask(kernel, firstRow, middleRow), new RowTask(kernel, middleRow, endRow));
+        }
+    }
+}
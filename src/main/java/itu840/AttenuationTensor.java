@@ -0,0 +1,357 @@
+package itu840;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <p><b>Site × frequency × probability attenuation tensor</b></p>
+ *
+ * <p>Evaluates Equation (13) or Equation (15) for every combination of N sites, F frequencies, and P exceedance
+ *    probabilities at one elevation angle. Both equations separate into K<sub>L</sub>(f) · T(site, p) / sin(&theta;),
+ *    where T is L(p) for Equation (13) and exp(m<sub>L</sub> + &sigma;<sub>L</sub> · Q<sup>-1</sup>(p / P<sub>L</sub>)),
+ *    or 0, for Equation (15). So K<sub>L</sub>(f) is computed once per frequency, T once per site and probability, and the
+ *    tensor is their outer product, instead of N × F × P calls of the point methods.</p>
+ *
+ * <p>Blocks of sites are evaluated in parallel on a {@link ForkJoinPool}: each block first computes its rows of T, which
+ *    read the digital maps, and then writes its slice of the tensor in one sequential pass. The results are written into a
+ *    caller-supplied <code>double[]</code>, site-major, then frequency, then probability (see {@link #index(int, int, int)}).
+ *    Each value is bit-for-bit identical to
+ *    {@link Itu840#computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityAxis)} and
+ *    {@link Itu840#computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, Grid, Grid, Grid)}
+ *    in the default {@link CloudLiquidMassAbsorptionCoefficientTable.Mode#EXACT} mode.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ */
+public final class AttenuationTensor {
+
+    // Number of sites below which a task is not split further
+    private static final int SITES_PER_TASK = 16;
+
+    private final GridLocation[] locations;
+    private final double[] frequencies;
+    private final double[] exceedanceProbabilities;
+    private final CloudLiquidMassAbsorptionCoefficientTable.Mode mode;
+
+    /**
+     * <p>Creates a tensor from its sites, frequencies, and probabilities. The arrays are copied.</p>
+     *
+     * @param latitudes Latitude of each site in degrees
+     * @param longitudes Longitude of each site in degrees
+     * @param frequencies Frequencies in gigahertz
+     * @param exceedanceProbabilities p values in percent, in any order
+     * @throws IllegalArgumentException If there are no sites, frequencies, or probabilities, the latitudes and longitudes
+     *                                  differ in length, or the tensor has more than {@link Integer#MAX_VALUE} values
+     */
+    public AttenuationTensor(double[] latitudes, double[] longitudes, double[] frequencies, double[] exceedanceProbabilities) {
+        this(latitudes, longitudes, frequencies, exceedanceProbabilities, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Creates a tensor from its sites, frequencies, and probabilities, with a K<sub>L</sub>(f) mode. The arrays are copied.</p>
+     *
+     * @param latitudes Latitude of each site in degrees
+     * @param longitudes Longitude of each site in degrees
+     * @param frequencies Frequencies in gigahertz
+     * @param exceedanceProbabilities p values in percent, in any order
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @throws IllegalArgumentException If there are no sites, frequencies, or probabilities, the latitudes and longitudes
+     *                                  differ in length, or the tensor has more than {@link Integer#MAX_VALUE} values
+     */
+    public AttenuationTensor(double[] latitudes, double[] longitudes, double[] frequencies, double[] exceedanceProbabilities,
+                             CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Latitudes (" + latitudes.length + ") and longitudes (" + longitudes.length + ") must have the same length.");
+        }
+
+        if (latitudes.length == 0 || frequencies.length == 0 || exceedanceProbabilities.length == 0) {
+            throw new IllegalArgumentException("Sites, frequencies, and probabilities must not be empty.");
+        }
+
+        if ((long) latitudes.length * frequencies.length * exceedanceProbabilities.length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tensor has more than " + Integer.MAX_VALUE + " values.");
+        }
+
+        this.locations = new GridLocation[latitudes.length];
+
+        for (int site = 0; site < latitudes.length; site++) {
+            locations[site] = GridLocation.of(latitudes[site], longitudes[site]);
+        }
+
+        this.frequencies = frequencies.clone();
+        this.exceedanceProbabilities = exceedanceProbabilities.clone();
+        this.mode = Objects.requireNonNull(mode, "mode");
+    }
+
+    // ==================================================================================
+    //                                      Layout
+    // ==================================================================================
+
+    /**
+     * <p>Returns the number of sites.</p>
+     *
+     * @return N
+     */
+    public int numberOfSites() {
+        return locations.length;
+    }
+
+    /**
+     * <p>Returns the number of frequencies.</p>
+     *
+     * @return F
+     */
+    public int numberOfFrequencies() {
+        return frequencies.length;
+    }
+
+    /**
+     * <p>Returns the number of probabilities.</p>
+     *
+     * @return P
+     */
+    public int numberOfProbabilities() {
+        return exceedanceProbabilities.length;
+    }
+
+    /**
+     * <p>Returns the number of values, which is the length a result buffer needs.</p>
+     *
+     * @return N × F × P
+     */
+    public int size() {
+        return locations.length * frequencies.length * exceedanceProbabilities.length;
+    }
+
+    /**
+     * <p>Returns the position of a value in the result buffer.</p>
+     *
+     * @param site Site index
+     * @param frequencyIndex Frequency index
+     * @param probabilityIndex Probability index
+     * @return (site · F + frequencyIndex) · P + probabilityIndex
+     */
+    public int index(int site, int frequencyIndex, int probabilityIndex) {
+        return (site * frequencies.length + frequencyIndex) * exceedanceProbabilities.length + probabilityIndex;
+    }
+
+    // ==================================================================================
+    //                                Prediction Methods
+    // ==================================================================================
+
+    /**
+     * <p>Evaluates Equation (13) for every site, frequency, and probability on the common pool.</p>
+     *
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param attenuations Array that receives the attenuations in dB (see {@link #index(int, int, int)}); at least {@link #size()} long
+     * @throws IllegalArgumentException If a p is outside the levels of the axis, or the array is too short
+     */
+    public void computeSlantPathStatisticalCloudAttenuation(double elevationAngle, ProbabilityAxis probabilityAxis, double[] attenuations) {
+        computeSlantPathStatisticalCloudAttenuation(elevationAngle, probabilityAxis, attenuations, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>Evaluates Equation (13) for every site, frequency, and probability, splitting the sites across the given pool.</p>
+     *
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param attenuations Array that receives the attenuations in dB (see {@link #index(int, int, int)}); at least {@link #size()} long
+     * @param pool Pool that evaluates the sites
+     * @throws IllegalArgumentException If a p is outside the levels of the axis, or the array is too short
+     */
+    public void computeSlantPathStatisticalCloudAttenuation(double elevationAngle, ProbabilityAxis probabilityAxis, double[] attenuations, ForkJoinPool pool) {
+        checkBuffer(attenuations);
+
+        int numberOfProbabilities = exceedanceProbabilities.length;
+
+        // Bracketing levels and log10(p) terms of each p, with the same operands as the point method
+        int[] indicesBelow = new int[numberOfProbabilities];
+        int[] indicesAbove = new int[numberOfProbabilities];
+        double[] logPDifferences = new double[numberOfProbabilities];
+        double[] logPRanges = new double[numberOfProbabilities];
+        boolean[] isLevelNeeded = new boolean[probabilityAxis.levels.length];
+
+        for (int i = 0; i < numberOfProbabilities; i++) {
+            double exceedanceProbability = exceedanceProbabilities[i];
+            int indexBelow = probabilityAxis.floorIndex(exceedanceProbability);
+            boolean isGridProbability = probabilityAxis.levels[indexBelow] == exceedanceProbability;
+
+            indicesBelow[i] = indexBelow;
+            indicesAbove[i] = isGridProbability ? indexBelow : indexBelow + 1;
+            logPDifferences[i] = isGridProbability ? 0.0 : Math.log10(exceedanceProbability) - probabilityAxis.log10Levels[indexBelow];
+            logPRanges[i] = isGridProbability ? 1.0 : probabilityAxis.log10Levels[indexBelow + 1] - probabilityAxis.log10Levels[indexBelow];
+
+            isLevelNeeded[indicesBelow[i]] = true;
+            isLevelNeeded[indicesAbove[i]] = true;
+        }
+
+        TermKernel kernel = (site, terms, termOffset, scratch) -> {
+            GridLocation location = locations[site];
+
+            // L at each level that brackets a p, interpolated once per site
+            for (int level = 0; level < isLevelNeeded.length; level++) {
+                if (isLevelNeeded[level]) {
+                    scratch[level] = Itu840.bilinearInterpolation(location, probabilityAxis.grids[level]);
+                }
+            }
+
+            for (int i = 0; i < numberOfProbabilities; i++) {
+                double integratedCloudLiquidWaterContent = scratch[indicesBelow[i]];
+
+                if (indicesAbove[i] != indicesBelow[i]) {
+                    double integratedCloudLiquidWaterContentAbove = scratch[indicesAbove[i]];
+
+                    integratedCloudLiquidWaterContent = Itu840.interpolateInLog10Probability(
+                            integratedCloudLiquidWaterContent, integratedCloudLiquidWaterContentAbove, logPDifferences[i], logPRanges[i]);
+                }
+
+                terms[termOffset + i] = integratedCloudLiquidWaterContent;
+            }
+        };
+
+        evaluate(elevationAngle, kernel, probabilityAxis.levels.length, attenuations, pool);
+    }
+
+    /**
+     * <p>Evaluates Equation (15) for every site, frequency, and probability on the common pool.</p>
+     *
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalGrids m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grids
+     * @param attenuations Array that receives the attenuations in dB (see {@link #index(int, int, int)}); at least {@link #size()} long
+     * @throws IllegalArgumentException If the array is too short
+     */
+    public void computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double elevationAngle, LogNormalGrids logNormalGrids, double[] attenuations) {
+        computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(elevationAngle, logNormalGrids, attenuations, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>Evaluates Equation (15) for every site, frequency, and probability, splitting the sites across the given pool.</p>
+     *
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalGrids m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grids
+     * @param attenuations Array that receives the attenuations in dB (see {@link #index(int, int, int)}); at least {@link #size()} long
+     * @param pool Pool that evaluates the sites
+     * @throws IllegalArgumentException If the array is too short
+     */
+    public void computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double elevationAngle, LogNormalGrids logNormalGrids, double[] attenuations,
+                                                                                       ForkJoinPool pool) {
+        checkBuffer(attenuations);
+
+        Grid logNormalMeanParameterGrid = logNormalGrids.logNormalMeanParameterGrid();
+        Grid logNormalStandardDeviationParameterGrid = logNormalGrids.logNormalStandardDeviationParameterGrid();
+        Grid cloudProbabilityGrid = logNormalGrids.cloudProbabilityGrid();
+
+        // T = exp(m_L + σ_L · Q^-1(p / P_L)), or 0
+        TermKernel kernel = (site, terms, termOffset, scratch) -> {
+            for (int i = 0; i < exceedanceProbabilities.length; i++) {
+                terms[termOffset + i] = Itu840.computeLogNormalApproximationTerm(
+                        locations[site], exceedanceProbabilities[i], logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid);
+            }
+        };
+
+        evaluate(elevationAngle, kernel, 0, attenuations, pool);
+    }
+
+    // ==================================================================================
+    //                                 Helper Functions
+    // ==================================================================================
+
+    private void checkBuffer(double[] attenuations) {
+        if (attenuations.length < size()) {
+            throw new IllegalArgumentException("Buffer must have at least " + size() + " elements, but has " + attenuations.length + ".");
+        }
+    }
+
+    /**
+     * <p>Computes K<sub>L</sub>(f) and sin(&theta;) once, and the outer product with the terms of every site in parallel.</p>
+     *
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param kernel Kernel that computes the terms of a site
+     * @param scratchLength Length of the per-task scratch array of the kernel
+     * @param attenuations Array that receives the attenuations in dB
+     * @param pool Pool that evaluates the sites
+     */
+    private void evaluate(double elevationAngle, TermKernel kernel, int scratchLength, double[] attenuations, ForkJoinPool pool) {
+        double[] cloudLiquidMassAbsorptionCoefficients = new double[frequencies.length];
+        mode.value(frequencies, cloudLiquidMassAbsorptionCoefficients);
+
+        double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+
+        pool.invoke(new SiteTask(kernel, scratchLength, cloudLiquidMassAbsorptionCoefficients, sineOfElevationAngle, attenuations, 0, locations.length));
+    }
+
+    /** <p>Computes the terms T(site, p) of one site.</p> */
+    @FunctionalInterface
+    private interface TermKernel {
+
+        /**
+         * <p>Computes T(site, p) for every probability of a site.</p>
+         *
+         * @param site Site index
+         * @param terms Array that receives the terms
+         * @param termOffset Index of the term of the first probability in <code>terms</code>
+         * @param scratch Scratch array of the task
+         */
+        void evaluate(int site, double[] terms, int termOffset, double[] scratch);
+    }
+
+    /** <p>Evaluates a range of sites, splitting it in halves down to {@value #SITES_PER_TASK} sites.</p> */
+    private final class SiteTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Tasks only run within one evaluation and are never serialized
+        private final transient TermKernel kernel;
+        private final transient int scratchLength;
+        private final transient double[] cloudLiquidMassAbsorptionCoefficients;
+        private final transient double sineOfElevationAngle;
+        private final transient double[] attenuations;
+        private final transient int firstSite;
+        private final transient int endSite;
+
+        SiteTask(TermKernel kernel, int scratchLength, double[] cloudLiquidMassAbsorptionCoefficients, double sineOfElevationAngle,
+                 double[] attenuations, int firstSite, int endSite) {
+            this.kernel = kernel;
+            this.scratchLength = scratchLength;
+            this.cloudLiquidMassAbsorptionCoefficients = cloudLiquidMassAbsorptionCoefficients;
+            this.sineOfElevationAngle = sineOfElevationAngle;
+            this.attenuations = attenuations;
+            this.firstSite = firstSite;
+            this.endSite = endSite;
+        }
+
+        @Override
+        protected void compute() {
+            if (endSite - firstSite > SITES_PER_TASK) {
+                int middleSite = (firstSite + endSite) >>> 1;
+                invokeAll(new SiteTask(kernel, scratchLength, cloudLiquidMassAbsorptionCoefficients, sineOfElevationAngle, attenuations, firstSite, middleSite),
+                          new SiteTask(kernel, scratchLength, cloudLiquidMassAbsorptionCoefficients, sineOfElevationAngle, attenuations, middleSite, endSite));
+
+                return;
+            }
+
+            int numberOfProbabilities = exceedanceProbabilities.length;
+            double[] terms = new double[(endSite - firstSite) * numberOfProbabilities];
+            double[] scratch = new double[scratchLength];
+
+            // Map reads of the block first, then its slice of the tensor in one sequential pass
+            for (int site = firstSite; site < endSite; site++) {
+                kernel.evaluate(site, terms, (site - firstSite) * numberOfProbabilities, scratch);
+            }
+
+            int index = index(firstSite, 0, 0);
+
+            for (int site = firstSite; site < endSite; site++) {
+                int termOffset = (site - firstSite) * numberOfProbabilities;
+
+                for (double cloudLiquidMassAbsorptionCoefficient : cloudLiquidMassAbsorptionCoefficients) {
+                    for (int i = 0; i < numberOfProbabilities; i++) {
+                        attenuations[index++] = cloudLiquidMassAbsorptionCoefficient * terms[termOffset + i] / sineOfElevationAngle;
+                    }
+                }
+            }
+        }
+    }
+}
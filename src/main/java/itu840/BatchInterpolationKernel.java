@@ -0,0 +1,29 @@
+package itu840;
+
+/**
+ * <p><b>Kernel of the batch bilinear interpolation</b></p>
+ *
+ * <p>Lets {@link Itu840#bilinearInterpolation(double[], double[], Grid, double[])} use {@link VectorInterpolation} without
+ *    linking against <code>jdk.incubator.vector</code>: the kernel is loaded by name on first use, so the rest of the
+ *    library compiles and runs without the incubator module (see {@link Itu840#isBatchInterpolationVectorized()}).</p>
+ */
+interface BatchInterpolationKernel {
+
+    /**
+     * <p>Returns the number of locations interpolated at once.</p>
+     *
+     * @return Number of lanes
+     */
+    int laneCount();
+
+    /**
+     * <p>Interpolates a flat grid of doubles at each location, with the results of
+     *    {@link Itu840#bilinearInterpolation(double, double, Grid)} bit for bit.</p>
+     *
+     * @param latitudes Latitudes in degrees
+     * @param longitudes Longitudes in degrees, same length as the latitudes
+     * @param grid A flat grid of doubles
+     * @param destination Receives the interpolated values, at least as long as the latitudes
+     */
+    void bilinearInterpolation(double[] latitudes, double[] longitudes, Grid.DoubleGrid grid, double[] destination);
+}
@@ -0,0 +1,365 @@
+package itu840;
+
+import java.io.*;
+import java.lang.foreign.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.zip.*;
+
+/**
+ * <p><b>Binary grid cache for the ITU-R P.840-9 digital maps</b></p>
+ *
+ * <p>Parsing a 721 × 1441 TXT map means converting about a million decimal strings. This class compiles a TXT map
+ *    once into a compact binary file that can be memory-mapped and read without any parsing.</p>
+ *
+ * <p><b>File layout</b> (little-endian):</p>
+ * <ul>
+ *   <li>Bytes 0–7: Magic <code>ITU840GR</code></li>
+ *   <li>Bytes 8–11: Format version</li>
+ *   <li>Bytes 12–19: Number of rows and columns</li>
+ *   <li>Bytes 24–31: Size of the source TXT file in bytes</li>
+ *   <li>Bytes 32–39: Last modification time of the source TXT file in milliseconds</li>
+ *   <li>Bytes 40–47: CRC-32C hash of the source TXT file</li>
+ *   <li>Bytes 64–: Grid values as row-major 64-bit doubles</li>
+ * </ul>
+ *
+ * <p>A cache file is stale when its recorded size or hash no longer matches the source TXT file. A change in the
+ *    modification time alone triggers a hash check, so touching or re-checking out a file does not force a rebuild.
+ *    Stale cache files are rebuilt automatically by {@link #readGrid(String)} and {@link #map(String, Arena)}.</p>
+ */
+public final class BinaryGridFile {
+
+    /** <p>Utility class, no instances.</p> */
+    private BinaryGridFile() {
+        throw new AssertionError("BinaryGridFile is a utility class and cannot be instantiated.");
+    }
+
+    /** <p>Extension appended to the TXT file name to obtain the default cache file name.</p> */
+    public static final String FILE_EXTENSION = ".bin";
+
+    // ===================== Header layout =====================
+    private static final long MAGIC = 0x5247303438555449L; // "ITU840GR" in little-endian byte order
+    private static final int VERSION = 1;
+    private static final long MAGIC_OFFSET = 0;
+    private static final long VERSION_OFFSET = 8;
+    private static final long ROWS_OFFSET = 12;
+    private static final long COLUMNS_OFFSET = 16;
+    private static final long SOURCE_SIZE_OFFSET = 24;
+    private static final long SOURCE_LAST_MODIFIED_OFFSET = 32;
+    private static final long SOURCE_HASH_OFFSET = 40;
+    private static final long HEADER_SIZE = 64;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    /** <p>Layout of the grid values, shared with the off-heap grids of {@link Grid}.</p> */
+    static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    // ==================================================================================
+    //                                   Conversion
+    // ==================================================================================
+
+    /**
+     * <p>Returns the default cache file path of a TXT map, i.e. the TXT path with {@link #FILE_EXTENSION} appended.</p>
+     *
+     * @param textFilePath Path to the digital map file
+     * @return Path to the binary cache file
+     */
+    public static String binaryFilePathFor(String textFilePath) {
+        return textFilePath + FILE_EXTENSION;
+    }
+
+    /**
+     * <p>Reads a digital map with {@link Itu840#readGridFromFile(String)} and writes it in the binary format.</p>
+     *
+     * <p>The file is written to a temporary file first and then moved into place, so concurrent readers never
+     *    observe a partially written cache file.</p>
+     *
+     * @param textFilePath Path to the digital map file
+     * @param binaryFilePath Path to the binary cache file to be written
+     * @throws IOException If the digital map cannot be parsed or the binary file cannot be written
+     */
+    public static void compile(String textFilePath, String binaryFilePath) throws IOException {
+        Path textFile = Path.of(textFilePath);
+        Path binaryFile = Path.of(binaryFilePath).toAbsolutePath();
+
+        BasicFileAttributes attributes = Files.readAttributes(textFile, BasicFileAttributes.class);
+        long sourceHash = computeHash(textFile);
+        double[][] grid = Itu840.readGridFromFile(textFilePath);
+
+        int rows = grid.length;
+        int columns = grid[0].length;
+
+        Path temporaryFile = Files.createTempFile(binaryFile.getParent(), binaryFile.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 Arena arena = Arena.ofConfined()) {
+
+                MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) rows * columns * Double.BYTES, arena);
+
+                segment.set(LONG, MAGIC_OFFSET, MAGIC);
+                segment.set(INT, VERSION_OFFSET, VERSION);
+                segment.set(INT, ROWS_OFFSET, rows);
+                segment.set(INT, COLUMNS_OFFSET, columns);
+                segment.set(LONG, SOURCE_SIZE_OFFSET, attributes.size());
+                segment.set(LONG, SOURCE_LAST_MODIFIED_OFFSET, attributes.lastModifiedTime().toMillis());
+                segment.set(LONG, SOURCE_HASH_OFFSET, sourceHash);
+
+                for (int row = 0; row < rows; row++) {
+                    MemorySegment.copy(grid[row], 0, segment, DOUBLE, HEADER_SIZE + (long) row * columns * Double.BYTES, columns);
+                }
+
+                segment.force();
+            }
+
+            Files.move(temporaryFile, binaryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * <p>Compiles every <code>*.TXT</code> digital map in a folder into its default cache file.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @return Number of compiled maps
+     * @throws IOException If the folder is missing or empty, or a map cannot be compiled
+     */
+    public static int compileFolder(String folderPath) throws IOException {
+        File[] files = new File(folderPath).listFiles();
+
+        if (files == null || files.length == 0) {
+            throw new IOException("Folder is empty or missing: " + folderPath + ".");
+        }
+
+        int compiled = 0;
+
+        for (File file : files) {
+            if (!file.getName().toUpperCase().endsWith(".TXT")) {
+                continue;
+            }
+
+            try {
+                compile(file.getPath(), binaryFilePathFor(file.getPath()));
+                compiled++;
+            }
+            catch (IOException e) {
+                throw new IOException("Failed to compile " + file.getName() + " in " + folderPath + ".", e);
+            }
+        }
+
+        return compiled;
+    }
+
+    /**
+     * <p>Checks whether a binary cache file exists and matches its source TXT file.</p>
+     *
+     * <p>If only the modification time differs but the hash still matches, the recorded modification time
+     *    is refreshed so that the next check is cheap again.</p>
+     *
+     * @param textFilePath Path to the digital map file
+     * @param binaryFilePath Path to the binary cache file
+     * @return <code>true</code> If the cache file is valid for the current TXT file, else <code>false</code>
+     * @throws IOException If the TXT file cannot be read
+     */
+    public static boolean isUpToDate(String textFilePath, String binaryFilePath) throws IOException {
+        Path textFile = Path.of(textFilePath);
+        Path binaryFile = Path.of(binaryFilePath);
+
+        if (!Files.isRegularFile(binaryFile) || Files.size(binaryFile) < HEADER_SIZE) {
+            return false;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(textFile, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+
+        try (FileChannel channel = FileChannel.open(binaryFile, StandardOpenOption.READ);
+             Arena arena = Arena.ofConfined()) {
+
+            MemorySegment header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE, arena);
+
+            if (!isValidHeader(header, channel.size()) || header.get(LONG, SOURCE_SIZE_OFFSET) != attributes.size()) {
+                return false;
+            }
+
+            if (header.get(LONG, SOURCE_LAST_MODIFIED_OFFSET) == lastModified) {
+                return true;
+            }
+
+            if (header.get(LONG, SOURCE_HASH_OFFSET) != computeHash(textFile)) {
+                return false;
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(binaryFile, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, lastModified);
+            channel.write(buffer, SOURCE_LAST_MODIFIED_OFFSET);
+        }
+        catch (IOException e) {
+            // A read-only cache stays valid, only the next check pays for the hash again
+        }
+
+        return true;
+    }
+
+    // ==================================================================================
+    //                                     Loading
+    // ==================================================================================
+
+    /**
+     * <p>Memory-maps the binary cache of a digital map, rebuilding it first if it is missing or stale.</p>
+     *
+     * <p>The returned segment contains only the grid values (row-major, 721 × 1441 doubles) and stays valid
+     *    until the given arena is closed. Use {@link #value(MemorySegment, int, int)} to read it.</p>
+     *
+     * @param textFilePath Path to the digital map file
+     * @param arena Arena that controls the lifetime of the mapping
+     * @return Read-only segment of the grid values
+     * @throws IOException If the cache file cannot be built, read, or has an invalid header
+     */
+    public static MemorySegment map(String textFilePath, Arena arena) throws IOException {
+        String binaryFilePath = binaryFilePathFor(textFilePath);
+
+        if (!isUpToDate(textFilePath, binaryFilePath)) {
+            compile(textFilePath, binaryFilePath);
+        }
+
+        return mapBinaryFile(binaryFilePath, arena);
+    }
+
+    /**
+     * <p>Memory-maps an existing binary cache file without checking it against a source TXT file.</p>
+     *
+     * @param binaryFilePath Path to the binary cache file
+     * @param arena Arena that controls the lifetime of the mapping
+     * @return Read-only segment of the grid values
+     * @throws IOException If the file cannot be read or has an invalid header
+     */
+    public static MemorySegment mapBinaryFile(String binaryFilePath, Arena arena) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(binaryFilePath), StandardOpenOption.READ)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+
+            if (!isValidHeader(segment, channel.size())) {
+                throw new IOException("Invalid binary grid file: " + binaryFilePath + ".");
+            }
+
+            return segment.asSlice(HEADER_SIZE);
+        }
+    }
+
+    /**
+     * <p>Returns a grid value from a segment obtained by {@link #map(String, Arena)}.</p>
+     *
+     * @param values Segment of the grid values
+     * @param row Row (latitude) index
+     * @param column Column (longitude) index
+     * @return Grid value
+     */
+    public static double value(MemorySegment values, int row, int column) {
+        return values.getAtIndex(DOUBLE, (long) row * Itu840.NUMBER_OF_LONGITUDE_POINTS + column);
+    }
+
+    /**
+     * <p>Reads a digital map through its binary cache and constructs the corresponding grid.</p>
+     *
+     * <p>This is a drop-in replacement for {@link Itu840#readGridFromFile(String)}: the cache file is built
+     *    on first use (or when stale) and later calls only copy the mapped values into the grid.</p>
+     *
+     * @param textFilePath Path to the digital map file
+     * @return A grid
+     * @throws IOException If the digital map or its cache file cannot be read
+     */
+    public static double[][] readGrid(String textFilePath) throws IOException {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment values = map(textFilePath, arena);
+            double[][] grid = new double[Itu840.NUMBER_OF_LATITUDE_POINTS][Itu840.NUMBER_OF_LONGITUDE_POINTS];
+
+            for (int row = 0; row < Itu840.NUMBER_OF_LATITUDE_POINTS; row++) {
+                MemorySegment.copy(values, DOUBLE, (long) row * Itu840.NUMBER_OF_LONGITUDE_POINTS * Double.BYTES, grid[row], 0, Itu840.NUMBER_OF_LONGITUDE_POINTS);
+            }
+
+            return grid;
+        }
+    }
+
+    // ==================================================================================
+    //                                 Helper Functions
+    // ==================================================================================
+
+    /**
+     * <p>Checks the magic, version, dimensions, and total size recorded in a header.</p>
+     *
+     * @param header Segment starting at the header
+     * @param fileSize Size of the binary file in bytes
+     * @return <code>true</code> If the header describes a complete 721 × 1441 grid, else <code>false</code>
+     */
+    private static boolean isValidHeader(MemorySegment header, long fileSize) {
+        return header.get(LONG, MAGIC_OFFSET) == MAGIC &&
+               header.get(INT, VERSION_OFFSET) == VERSION &&
+               header.get(INT, ROWS_OFFSET) == Itu840.NUMBER_OF_LATITUDE_POINTS &&
+               header.get(INT, COLUMNS_OFFSET) == Itu840.NUMBER_OF_LONGITUDE_POINTS &&
+               fileSize == HEADER_SIZE + (long) Itu840.NUMBER_OF_LATITUDE_POINTS * Itu840.NUMBER_OF_LONGITUDE_POINTS * Double.BYTES;
+    }
+
+    /**
+     * <p>Computes the CRC-32C hash of a file.</p>
+     *
+     * @param file File to hash
+     * @return CRC-32C value
+     * @throws IOException If the file cannot be read
+     */
+    private static long computeHash(Path file) throws IOException {
+        CRC32C crc = new CRC32C();
+        byte[] buffer = new byte[1 << 16];
+
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+            }
+        }
+
+        return crc.getValue();
+    }
+
+    // ==================================================================================
+    //                              Command Line Interface
+    // ==================================================================================
+
+    /**
+     * <p>One-time converter that compiles the digital maps of the given folders into binary cache files.</p>
+     *
+     * <p>Without arguments, the annual, log-normal annual, and twelve monthly folders under <code>data/</code> are compiled.</p>
+     *
+     * @param args Digital maps folders (optional)
+     */
+    public static void main(String[] args) {
+        String[] folderPaths = args;
+
+        if (folderPaths.length == 0) {
+            folderPaths = new String[14];
+            folderPaths[0] = "data/annual/";
+            folderPaths[1] = "data/logNormalAnnual/";
+
+            for (int month = 1; month <= 12; month++) {
+                folderPaths[month + 1] = String.format("data/month%02d/", month);
+            }
+        }
+
+        for (String folderPath : folderPaths) {
+            try {
+                int compiled = compileFolder(folderPath);
+                System.out.println("Compiled " + compiled + " digital maps in " + folderPath + ".");
+            }
+            catch (IOException io) {
+                System.err.println("Failed to compile digital maps in " + folderPath + ".");
+                System.err.println(io.getMessage());
+            }
+        }
+    }
+}
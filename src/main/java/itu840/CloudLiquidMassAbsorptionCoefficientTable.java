@@ -0,0 +1,179 @@
+package itu840;
+
+/**
+ * <p><b>Frequency-response table of K<sub>L</sub>(f)</b></p>
+ *
+ * <p>Tabulates the cloud liquid mass absorption coefficient of Equations (12, 14, 16) over the frequency range of
+ *    ITU-R P.840-9, 1–200 GHz, with {@link #NODES_PER_GIGAHERTZ} nodes per gigahertz, and evaluates it by cubic Hermite
+ *    interpolation between the two nodes around a frequency. Each node holds K<sub>L</sub> and its derivative, so a
+ *    lookup costs a few multiplications instead of the double-Debye permittivity, the Gaussian terms, and their
+ *    <code>Math.exp</code> calls.</p>
+ *
+ * <p>The table is built on first use (about 50 KB) and verified against
+ *    {@link Itu840#computeCloudLiquidMassAbsorptionCoefficient(double)} inside every interval; the largest relative
+ *    error found is reported by {@link #maximumRelativeError()} and is of the order of 10<sup>-10</sup>.
+ *    Frequencies outside 1–200 GHz are computed exactly.</p>
+ *
+ * <p>The prediction methods of {@link Itu840} compute K<sub>L</sub>(f) exactly unless they are given {@link Mode#TABLE}:
+ *    the point methods of Equations (11), (13), and (15) on a probability axis or cube and on log-normal grids, the
+ *    frequency sweeps, {@link LinkEvaluator}, {@link AttenuationRaster}, and {@link AttenuationTensor} accept a mode.</p>
+ */
+public final class CloudLiquidMassAbsorptionCoefficientTable {
+
+    /** <p>Utility class, no instances.</p> */
+    private CloudLiquidMassAbsorptionCoefficientTable() {
+        throw new AssertionError("CloudLiquidMassAbsorptionCoefficientTable is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * <p>How K<sub>L</sub>(f) is computed by the methods that accept a mode.</p>
+     */
+    public enum Mode {
+
+        /**
+         * <p>Equations (12, 14, 16), as {@link Itu840#computeCloudLiquidMassAbsorptionCoefficient(double)}. Results are
+         *    identical bit for bit to the prediction methods without a mode.</p>
+         */
+        EXACT,
+
+        /**
+         * <p>The table, as {@link CloudLiquidMassAbsorptionCoefficientTable#value(double)}, with a relative error of at most
+         *    {@link CloudLiquidMassAbsorptionCoefficientTable#maximumRelativeError()}. Worthwhile where K<sub>L</sub>(f) is
+         *    computed for many frequencies, as in the frequency sweeps.</p>
+         */
+        TABLE;
+
+        /**
+         * <p>Computes K<sub>L</sub>(f) in this mode.</p>
+         *
+         * @param frequency Frequency in gigahertz
+         * @return K<sub>L</sub>(f) in dB/(kg/m<sup>2</sup>)
+         */
+        public double value(double frequency) {
+            return (this == TABLE) ? CloudLiquidMassAbsorptionCoefficientTable.value(frequency) : Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency);
+        }
+
+        /**
+         * <p>Computes K<sub>L</sub>(f) in this mode for an array of frequencies.</p>
+         *
+         * @param frequencies Frequencies in gigahertz
+         * @param cloudLiquidMassAbsorptionCoefficients Array that receives K<sub>L</sub>(f) in dB/(kg/m<sup>2</sup>) for each frequency;
+         *                                              at least as long as the frequencies
+         */
+        public void value(double[] frequencies, double[] cloudLiquidMassAbsorptionCoefficients) {
+            if (this == TABLE) {
+                for (int i = 0; i < frequencies.length; i++) {
+                    cloudLiquidMassAbsorptionCoefficients[i] = CloudLiquidMassAbsorptionCoefficientTable.value(frequencies[i]);
+                }
+            }
+            else {
+                Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequencies, cloudLiquidMassAbsorptionCoefficients);
+            }
+        }
+    }
+
+    /** <p>Number of table nodes per gigahertz.</p> */
+    public static final int NODES_PER_GIGAHERTZ = 16;
+
+    static final double FREQUENCY_MIN_GHZ = 1.0;
+    static final double FREQUENCY_MAX_GHZ = 200.0;
+
+    private static final int NUMBER_OF_NODES = (int) ((FREQUENCY_MAX_GHZ - FREQUENCY_MIN_GHZ) * NODES_PER_GIGAHERTZ) + 1;
+    private static final double FREQUENCY_STEP_GHZ = 1.0 / NODES_PER_GIGAHERTZ;
+
+    // Relative step of the central difference for the node derivatives
+    private static final double DERIVATIVE_RELATIVE_STEP = 1e-5;
+
+    // Verification points per interval, at (k + 0.5) / VERIFICATION_POINTS_PER_INTERVAL
+    private static final int VERIFICATION_POINTS_PER_INTERVAL = 4;
+
+    // Interleaved per node: K_L(f_i), then dK_L/df(f_i) · step, so that an interval reads one run of four doubles
+    private static final double[] NODES = buildNodes();
+    private static final double MAXIMUM_RELATIVE_ERROR = computeMaximumRelativeError();
+
+    // ==================================================================================
+    //                                      Lookup
+    // ==================================================================================
+
+    /**
+     * <p>Computes K<sub>L</sub>(f) from the table.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @return K<sub>L</sub>(f) in dB/(kg/m<sup>2</sup>), interpolated within 1–200 GHz and exact outside
+     */
+    public static double value(double frequency) {
+        if (!(frequency >= FREQUENCY_MIN_GHZ && frequency <= FREQUENCY_MAX_GHZ)) {
+            return Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency);
+        }
+
+        double position = (frequency - FREQUENCY_MIN_GHZ) * NODES_PER_GIGAHERTZ;
+        int interval = Math.min((int) position, NUMBER_OF_NODES - 2);
+
+        return interpolate(interval, position - interval);
+    }
+
+    /**
+     * <p>Returns the largest relative error of the table against the exact K<sub>L</sub>(f), found when it was built.</p>
+     *
+     * @return Maximum relative error (dimensionless)
+     */
+    public static double maximumRelativeError() {
+        return MAXIMUM_RELATIVE_ERROR;
+    }
+
+    // ==================================================================================
+    //                                 Helper Functions
+    // ==================================================================================
+
+    /**
+     * <p>Evaluates the cubic Hermite polynomial of an interval.</p>
+     *
+     * @param interval Index of the node at the lower end of the interval
+     * @param t Position within the interval, between 0 and 1
+     * @return Interpolated K<sub>L</sub>(f) in dB/(kg/m<sup>2</sup>)
+     */
+    private static double interpolate(int interval, double t) {
+        int index = 2 * interval;
+        double lowerValue = NODES[index];
+        double lowerScaledDerivative = NODES[index + 1];
+        double upperValue = NODES[index + 2];
+        double upperScaledDerivative = NODES[index + 3];
+
+        double t2 = t * t;
+        double t3 = t2 * t;
+
+        return (2.0 * t3 - 3.0 * t2 + 1.0) * lowerValue + (t3 - 2.0 * t2 + t) * lowerScaledDerivative +
+               (3.0 * t2 - 2.0 * t3) * upperValue + (t3 - t2) * upperScaledDerivative;
+    }
+
+    private static double[] buildNodes() {
+        double[] nodes = new double[2 * NUMBER_OF_NODES];
+
+        for (int node = 0; node < NUMBER_OF_NODES; node++) {
+            double frequency = FREQUENCY_MIN_GHZ + node * FREQUENCY_STEP_GHZ;
+            double delta = DERIVATIVE_RELATIVE_STEP * frequency;
+            double derivative = (Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency + delta) -
+                                 Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency - delta)) / (2.0 * delta);
+
+            nodes[2 * node] = Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency);
+            nodes[2 * node + 1] = derivative * FREQUENCY_STEP_GHZ;
+        }
+
+        return nodes;
+    }
+
+    private static double computeMaximumRelativeError() {
+        double maximumRelativeError = 0.0;
+
+        for (int interval = 0; interval < NUMBER_OF_NODES - 1; interval++) {
+            for (int k = 0; k < VERIFICATION_POINTS_PER_INTERVAL; k++) {
+                double t = (k + 0.5) / VERIFICATION_POINTS_PER_INTERVAL;
+                double exact = Itu840.computeCloudLiquidMassAbsorptionCoefficient(FREQUENCY_MIN_GHZ + (interval + t) * FREQUENCY_STEP_GHZ);
+
+                maximumRelativeError = Math.max(maximumRelativeError, Math.abs(interpolate(interval, t) - exact) / Math.abs(exact));
+            }
+        }
+
+        return maximumRelativeError;
+    }
+}
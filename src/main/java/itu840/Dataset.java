@@ -0,0 +1,79 @@
+package itu840;
+
+/**
+ * <p><b>ITU-R P.840-9 digital map packages</b></p>
+ *
+ * <p>Identifies one folder of digital maps under the data folder (see README):</p>
+ * <ul>
+ *   <li>{@link #ANNUAL}: <code>annual/</code>, annual statistics of L (<code>L_*.TXT</code>), p from 0.01% to 100%</li>
+ *   <li>{@link #MONTH_01} … {@link #MONTH_12}: <code>month01/</code> … <code>month12/</code>, monthly statistics of L, p from 0.1% to 100%</li>
+ *   <li>{@link #LOG_NORMAL_ANNUAL}: <code>logNormalAnnual/</code>, annual log-normal parameters (<code>mL.TXT</code>, <code>sL.TXT</code>, <code>PL.TXT</code>)</li>
+ * </ul>
+ */
+public enum Dataset {
+
+    ANNUAL("annual", 0.01),
+    MONTH_01("month01", 0.1),
+    MONTH_02("month02", 0.1),
+    MONTH_03("month03", 0.1),
+    MONTH_04("month04", 0.1),
+    MONTH_05("month05", 0.1),
+    MONTH_06("month06", 0.1),
+    MONTH_07("month07", 0.1),
+    MONTH_08("month08", 0.1),
+    MONTH_09("month09", 0.1),
+    MONTH_10("month10", 0.1),
+    MONTH_11("month11", 0.1),
+    MONTH_12("month12", 0.1),
+    LOG_NORMAL_ANNUAL("logNormalAnnual", 0.01);
+
+    private final String folderName;
+    private final double minimumExceedanceProbability;
+
+    Dataset(String folderName, double minimumExceedanceProbability) {
+        this.folderName = folderName;
+        this.minimumExceedanceProbability = minimumExceedanceProbability;
+    }
+
+    /**
+     * <p>Returns the monthly dataset of a month.</p>
+     *
+     * @param month Month number (1-12)
+     * @return The monthly dataset
+     * @throws IllegalArgumentException If the month is not between 1 and 12
+     */
+    public static Dataset month(int month) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12.");
+        }
+
+        return values()[MONTH_01.ordinal() + month - 1];
+    }
+
+    /**
+     * <p>Returns the name of the folder that contains the digital maps.</p>
+     *
+     * @return Folder name, e.g. <code>month01</code>
+     */
+    public String folderName() {
+        return folderName;
+    }
+
+    /**
+     * <p>Returns the smallest p covered by the statistics.</p>
+     *
+     * @return p in percent
+     */
+    public double minimumExceedanceProbability() {
+        return minimumExceedanceProbability;
+    }
+
+    /**
+     * <p>Checks whether the dataset holds log-normal parameter grids rather than grids of L(p).</p>
+     *
+     * @return <code>true</code> For {@link #LOG_NORMAL_ANNUAL}, else <code>false</code>
+     */
+    public boolean isLogNormal() {
+        return this == LOG_NORMAL_ANNUAL;
+    }
+}
@@ -0,0 +1,393 @@
+package itu840;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <p><b>Memory-budgeted cache of L(p) grids</b></p>
+ *
+ * <p>Holds grids of the annual and monthly datasets up to a byte budget. When a newly read grid pushes the resident size
+ *    over the budget, the least recently used grids (or, with {@link EvictionUnit#DATASET}, the least recently used
+ *    datasets as a whole) are dropped, and are read again transparently the next time they are requested.
+ *    Grids are read through their binary cache files (see {@link Grid#readBinaryCache(String, Grid.StorageMode)}),
+ *    so a reload copies doubles instead of parsing text; if a cache file cannot be used, the TXT map is parsed instead.</p>
+ *
+ * <p>{@link #bracketingGrids(Dataset, double)} returns only the grids that Equation (13) needs for one p, as a map that
+ *    {@link Itu840#computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, NavigableMap)}
+ *    accepts unchanged. A grid handed out stays valid after it is evicted; eviction only drops the reference held by the cache.
+ *    The grid or dataset being requested is never evicted by its own read, so a budget smaller than one request
+ *    is exceeded rather than thrashed.</p>
+ *
+ * <p>Hits, misses, and evictions are counted per grid. All methods are thread-safe; reads happen outside the cache lock,
+ *    and concurrent requests of the same grid wait for the same read.</p>
+ */
+public final class DatasetCache {
+
+    /** <p>Unit in which resident grids are evicted.</p> */
+    public enum EvictionUnit {
+        /** <p>Evict single grids of L(p).</p> */
+        GRID,
+        /** <p>Evict all resident grids of a dataset (e.g. a whole monthly stack) at once.</p> */
+        DATASET
+    }
+
+    private record GridKey(Dataset dataset, double exceedanceProbability) {}
+
+    private static final class Entry {
+        final FutureTask<Grid> task;
+        long sizeInBytes; // 0 until the grid is resident
+
+        Entry(FutureTask<Grid> task) {
+            this.task = task;
+        }
+    }
+
+    private final String dataFolderPath;
+    private final long budgetInBytes;
+    private final Grid.StorageMode storageMode;
+    private final EvictionUnit evictionUnit;
+
+    private final ConcurrentHashMap<Dataset, TreeMap<Double, String>> filePathsByDataset = new ConcurrentHashMap<>();
+
+    // Guarded by lock; access-ordered, so iteration starts at the least recently used grid.
+    // The lock is package-private so that tests can hold it across a read.
+    final Object lock = new Object();
+    private final LinkedHashMap<GridKey, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long residentSizeInBytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * <p>Creates an empty cache.</p>
+     *
+     * @param dataFolderPath Path to the folder that contains <code>annual/</code> and <code>month01/</code> … <code>month12/</code>
+     * @param budgetInBytes Maximum size of the resident grid values in bytes (see {@link Grid#sizeInBytes()})
+     * @param storageMode Precision in which the grids are held
+     * @param evictionUnit Unit in which grids are evicted
+     * @throws IllegalArgumentException If the budget is negative
+     */
+    public DatasetCache(String dataFolderPath, long budgetInBytes, Grid.StorageMode storageMode, EvictionUnit evictionUnit) {
+        if (budgetInBytes < 0) {
+            throw new IllegalArgumentException("Budget must not be negative: " + budgetInBytes + ".");
+        }
+
+        this.dataFolderPath = Objects.requireNonNull(dataFolderPath, "dataFolderPath");
+        this.budgetInBytes = budgetInBytes;
+        this.storageMode = Objects.requireNonNull(storageMode, "storageMode");
+        this.evictionUnit = Objects.requireNonNull(evictionUnit, "evictionUnit");
+    }
+
+    // ==================================================================================
+    //                                       Grids
+    // ==================================================================================
+
+    /**
+     * <p>Returns the grid of L(p) of a dataset for a grid probability, reading it if it is not resident.</p>
+     *
+     * @param dataset {@link Dataset#ANNUAL} or a monthly dataset
+     * @param exceedanceProbability A p in percent for which the dataset has a digital map
+     * @return The grid of L(p)
+     * @throws IOException If the dataset folder cannot be indexed, the digital map cannot be read,
+     *                     or the calling thread is interrupted while another thread reads it
+     * @throws IllegalArgumentException If the dataset is {@link Dataset#LOG_NORMAL_ANNUAL}, or has no digital map for p
+     */
+    public Grid grid(Dataset dataset, double exceedanceProbability) throws IOException {
+        String filePath = filePaths(dataset).get(exceedanceProbability);
+
+        if (filePath == null) {
+            throw new IllegalArgumentException("No digital map for p = " + exceedanceProbability + "% in " + dataset + ".");
+        }
+
+        return grid(new GridKey(dataset, exceedanceProbability), filePath);
+    }
+
+    /**
+     * <p>Returns the grids of L(p) that bracket p, reading those that are not resident.</p>
+     *
+     * <p>The map has one entry if p is a grid probability, else two (p<sub>below</sub> and p<sub>above</sub>).</p>
+     *
+     * @param dataset {@link Dataset#ANNUAL} or a monthly dataset
+     * @param exceedanceProbability p in percent, within the probabilities of the dataset
+     * @return An unmodifiable map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If the dataset folder cannot be indexed, a digital map cannot be read,
+     *                     or the calling thread is interrupted while another thread reads it
+     * @throws IllegalArgumentException If the dataset is {@link Dataset#LOG_NORMAL_ANNUAL}, or p is outside its probabilities
+     */
+    public NavigableMap<Double, Grid> bracketingGrids(Dataset dataset, double exceedanceProbability) throws IOException {
+        TreeMap<Double, String> filePaths = filePaths(dataset);
+        Map.Entry<Double, String> below = filePaths.floorEntry(exceedanceProbability);
+        Map.Entry<Double, String> above = filePaths.ceilingEntry(exceedanceProbability);
+
+        if (below == null || above == null) {
+            throw new IllegalArgumentException("p = " + exceedanceProbability + "% is outside the probabilities of " + dataset + ".");
+        }
+
+        TreeMap<Double, Grid> gridsByProbability = new TreeMap<>();
+        gridsByProbability.put(below.getKey(), grid(new GridKey(dataset, below.getKey()), below.getValue()));
+
+        if (!below.getKey().equals(above.getKey())) {
+            gridsByProbability.put(above.getKey(), grid(new GridKey(dataset, above.getKey()), above.getValue()));
+        }
+
+        return Collections.unmodifiableNavigableMap(gridsByProbability);
+    }
+
+    /**
+     * <p>Returns all grids of L(p) of a dataset, reading those that are not resident.</p>
+     *
+     * <p>If the dataset does not fit into the budget, earlier grids of the returned map may already have been evicted
+     *    from the cache by the time it is returned; the map itself still holds them.</p>
+     *
+     * @param dataset {@link Dataset#ANNUAL} or a monthly dataset
+     * @return An unmodifiable map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If the dataset folder cannot be indexed, a digital map cannot be read,
+     *                     or the calling thread is interrupted while another thread reads it
+     * @throws IllegalArgumentException If the dataset is {@link Dataset#LOG_NORMAL_ANNUAL}
+     */
+    public NavigableMap<Double, Grid> gridsByProbability(Dataset dataset) throws IOException {
+        TreeMap<Double, Grid> gridsByProbability = new TreeMap<>();
+
+        for (Map.Entry<Double, String> entry : filePaths(dataset).entrySet()) {
+            gridsByProbability.put(entry.getKey(), grid(new GridKey(dataset, entry.getKey()), entry.getValue()));
+        }
+
+        return Collections.unmodifiableNavigableMap(gridsByProbability);
+    }
+
+    /**
+     * <p>Drops all resident grids. Counters are not reset.</p>
+     */
+    public void clear() {
+        synchronized (lock) {
+            entries.values().removeIf(entry -> entry.task.isDone());
+            residentSizeInBytes = 0;
+        }
+    }
+
+    // ==================================================================================
+    //                                     Statistics
+    // ==================================================================================
+
+    /**
+     * <p>Returns the byte budget of the cache.</p>
+     *
+     * @return Maximum size of the resident grid values in bytes
+     */
+    public long budgetInBytes() {
+        return budgetInBytes;
+    }
+
+    /**
+     * <p>Returns the number of bytes used by the values of the resident grids.</p>
+     *
+     * @return Size of the resident grid values in bytes
+     */
+    public long residentSizeInBytes() {
+        synchronized (lock) {
+            return residentSizeInBytes;
+        }
+    }
+
+    /**
+     * <p>Returns the number of grid requests served from a resident or in-flight grid.</p>
+     *
+     * @return Number of hits
+     */
+    public long hitCount() {
+        synchronized (lock) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * <p>Returns the number of grid requests that read a digital map.</p>
+     *
+     * @return Number of misses
+     */
+    public long missCount() {
+        synchronized (lock) {
+            return missCount;
+        }
+    }
+
+    /**
+     * <p>Returns the number of grids dropped to stay within the budget.</p>
+     *
+     * @return Number of evicted grids
+     */
+    public long evictionCount() {
+        synchronized (lock) {
+            return evictionCount;
+        }
+    }
+
+    /**
+     * <p>Checks whether the grid of L(p) of a dataset is resident.</p>
+     *
+     * @param dataset A dataset
+     * @param exceedanceProbability p in percent
+     * @return <code>true</code> If the grid is resident, else <code>false</code>
+     */
+    public boolean isResident(Dataset dataset, double exceedanceProbability) {
+        GridKey key = new GridKey(dataset, exceedanceProbability);
+
+        synchronized (lock) {
+            // Iterating instead of get() keeps the access order unchanged
+            for (Map.Entry<GridKey, Entry> entry : entries.entrySet()) {
+                if (entry.getKey().equals(key)) {
+                    return entry.getValue().sizeInBytes > 0;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    // ==================================================================================
+    //                                 Helper Functions
+    // ==================================================================================
+
+    /**
+     * <p>Returns the digital map paths of a dataset, indexing its folder on first use.</p>
+     *
+     * @param dataset {@link Dataset#ANNUAL} or a monthly dataset
+     * @return A map where each key is a p, and the corresponding value is the path to the digital map of L(p).
+     * @throws IOException If the folder is missing or empty, or no valid files are found
+     */
+    private TreeMap<Double, String> filePaths(Dataset dataset) throws IOException {
+        if (dataset.isLogNormal()) {
+            throw new IllegalArgumentException(dataset + " does not contain grids of L(p).");
+        }
+
+        TreeMap<Double, String> filePaths = filePathsByDataset.get(dataset);
+
+        if (filePaths == null) {
+            filePaths = Itu840.indexFilesByProbability(Path.of(dataFolderPath, dataset.folderName()).toString());
+            filePathsByDataset.putIfAbsent(dataset, filePaths);
+        }
+
+        return filePaths;
+    }
+
+    /**
+     * <p>Returns a grid, reading it if it is neither resident nor being read by another thread,
+     *    and evicts least recently used grids if the read pushes the cache over its budget.</p>
+     *
+     * @param key Dataset and p of the grid
+     * @param filePath Path to the digital map file
+     * @return The grid of L(p)
+     * @throws IOException If the digital map cannot be read, or the calling thread is interrupted
+     */
+    private Grid grid(GridKey key, String filePath) throws IOException {
+        Entry entry;
+        boolean isOwner = false;
+
+        synchronized (lock) {
+            entry = entries.get(key);
+
+            if (entry == null) {
+                entry = new Entry(new FutureTask<>(() -> read(filePath)));
+                entries.put(key, entry);
+                missCount++;
+                isOwner = true;
+            }
+            else {
+                hitCount++;
+            }
+        }
+
+        if (isOwner) {
+            entry.task.run();
+        }
+
+        Grid grid;
+
+        try {
+            grid = Itu840.await(entry.task);
+        }
+        catch (IOException | RuntimeException | Error e) {
+            if (entry.task.isDone()) {
+                synchronized (lock) {
+                    entries.remove(key, entry);
+                }
+            }
+
+            throw e;
+        }
+
+        if (isOwner) {
+            synchronized (lock) {
+                // The entry may have been dropped by clear() while it was read, and the key read again by another thread
+                if (entries.get(key) == entry) {
+                    entry.sizeInBytes = grid.sizeInBytes();
+                    residentSizeInBytes += entry.sizeInBytes;
+                    evictLeastRecentlyUsed(key);
+                }
+            }
+        }
+
+        return grid;
+    }
+
+    /**
+     * <p>Drops resident grids in least recently used order until the cache is within its budget.
+     *    Grids that are still being read, and the grid (or dataset) just requested, are kept.</p>
+     *
+     * @param requestedKey Key of the grid just requested
+     */
+    private void evictLeastRecentlyUsed(GridKey requestedKey) {
+        Iterator<Map.Entry<GridKey, Entry>> iterator = entries.entrySet().iterator();
+        Set<Dataset> evictedDatasets = EnumSet.noneOf(Dataset.class);
+
+        while (residentSizeInBytes > budgetInBytes && iterator.hasNext()) {
+            Map.Entry<GridKey, Entry> entry = iterator.next();
+            Dataset dataset = entry.getKey().dataset();
+
+            boolean isProtected = (evictionUnit == EvictionUnit.DATASET) ? dataset == requestedKey.dataset() : entry.getKey().equals(requestedKey);
+
+            if (isProtected || entry.getValue().sizeInBytes == 0) {
+                continue;
+            }
+
+            iterator.remove();
+            residentSizeInBytes -= entry.getValue().sizeInBytes;
+            evictionCount++;
+            evictedDatasets.add(dataset);
+        }
+
+        // Drop the rest of each evicted dataset, so a stack is never left partly resident by eviction
+        if (evictionUnit == EvictionUnit.DATASET && !evictedDatasets.isEmpty()) {
+            iterator = entries.entrySet().iterator();
+
+            while (iterator.hasNext()) {
+                Map.Entry<GridKey, Entry> entry = iterator.next();
+
+                if (evictedDatasets.contains(entry.getKey().dataset()) && entry.getValue().sizeInBytes > 0) {
+                    iterator.remove();
+                    residentSizeInBytes -= entry.getValue().sizeInBytes;
+                    evictionCount++;
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>Reads a digital map through its binary cache file, or parses it if the cache file cannot be used.</p>
+     *
+     * @param filePath Path to the digital map file
+     * @return The grid of L(p)
+     * @throws IOException If the digital map cannot be read
+     */
+    private Grid read(String filePath) throws IOException {
+        try {
+            return Grid.readBinaryCache(filePath, storageMode);
+        }
+        catch (IOException e) {
+            // e.g. a read-only data folder; the TXT map reports its own diagnostics if it is the problem
+            return Grid.readFromFile(filePath, storageMode);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package itu840;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <p><b>Registry of loaded-once ITU-R P.840-9 datasets</b></p>
+ *
+ * <p>Loads each {@link Dataset} at most once and hands out the same immutable grids to every caller, so that
+ *    concurrent users of a process share a single copy of each digital map. Loading happens on the first request
+ *    of a dataset; concurrent first requests wait for the same load instead of reading the files twice.
+ *    A failed load is not cached, so the next request retries it.</p>
+ *
+ * <p>The grids of L(p) are held in the storage mode given at construction (see {@link Grid.StorageMode}).
+ *    The log-normal parameter grids are never quantized, since Equation (15) is not linear in them:
+ *    {@link Grid.StorageMode#QUANTIZED} registries hold them as doubles.</p>
+ *
+ * <p>All methods are thread-safe. {@link #shared()} is the process-wide registry for the default data folder.</p>
+ */
+public final class DatasetRegistry {
+
+    /** <p>Data folder of the process-wide registry.</p> */
+    public static final String DEFAULT_DATA_FOLDER = "data/";
+
+    private static final DatasetRegistry SHARED = new DatasetRegistry(DEFAULT_DATA_FOLDER, Grid.StorageMode.DOUBLE);
+
+    private final String dataFolderPath;
+    private final Grid.StorageMode storageMode;
+    private final ConcurrentHashMap<Dataset, FutureTask<Object>> loads = new ConcurrentHashMap<>();
+
+    /**
+     * <p>Creates a registry for a data folder.</p>
+     *
+     * @param dataFolderPath Path to the folder that contains <code>annual/</code>, <code>month01/</code> … <code>month12/</code>, and <code>logNormalAnnual/</code>
+     * @param storageMode Precision in which the grids of L(p) are held
+     */
+    public DatasetRegistry(String dataFolderPath, Grid.StorageMode storageMode) {
+        this.dataFolderPath = Objects.requireNonNull(dataFolderPath, "dataFolderPath");
+        this.storageMode = Objects.requireNonNull(storageMode, "storageMode");
+    }
+
+    /**
+     * <p>Returns the process-wide registry for {@value #DEFAULT_DATA_FOLDER} with grids held as doubles.</p>
+     *
+     * @return The shared registry
+     */
+    public static DatasetRegistry shared() {
+        return SHARED;
+    }
+
+    // ==================================================================================
+    //                                     Datasets
+    // ==================================================================================
+
+    /**
+     * <p>Returns the grids of L(p) of an annual or monthly dataset, loading them on first use.</p>
+     *
+     * @param dataset {@link Dataset#ANNUAL} or a monthly dataset
+     * @return An unmodifiable map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If the dataset cannot be loaded (see {@link Grid#loadByProbability(String, Grid.StorageMode)}),
+     *                     or the calling thread is interrupted while another thread loads it
+     * @throws IllegalArgumentException If the dataset is {@link Dataset#LOG_NORMAL_ANNUAL}
+     */
+    @SuppressWarnings("unchecked")
+    public NavigableMap<Double, Grid> gridsByProbability(Dataset dataset) throws IOException {
+        if (dataset.isLogNormal()) {
+            throw new IllegalArgumentException(dataset + " does not contain grids of L(p).");
+        }
+
+        return (NavigableMap<Double, Grid>) load(dataset);
+    }
+
+    /**
+     * <p>Returns the annual log-normal parameter grids, loading them on first use.</p>
+     *
+     * @return The log-normal parameter grids
+     * @throws IOException If a digital map is missing, invalid, or cannot be read,
+     *                     or the calling thread is interrupted while another thread loads it
+     */
+    public LogNormalGrids logNormalGrids() throws IOException {
+        return (LogNormalGrids) load(Dataset.LOG_NORMAL_ANNUAL);
+    }
+
+    /**
+     * <p>Returns the path to the digital maps folder of a dataset.</p>
+     *
+     * @param dataset A dataset
+     * @return Path to the digital maps folder
+     */
+    public String folderPath(Dataset dataset) {
+        return Path.of(dataFolderPath, dataset.folderName()).toString();
+    }
+
+    // ==================================================================================
+    //                                    Residency
+    // ==================================================================================
+
+    /**
+     * <p>Checks whether a dataset has been loaded successfully.</p>
+     *
+     * @param dataset A dataset
+     * @return <code>true</code> If the dataset is resident, else <code>false</code>
+     */
+    public boolean isResident(Dataset dataset) {
+        FutureTask<Object> task = loads.get(dataset);
+
+        return task != null && task.state() == Future.State.SUCCESS;
+    }
+
+    /**
+     * <p>Returns the datasets that have been loaded successfully.</p>
+     *
+     * @return Set of resident datasets, in {@link Dataset} order
+     */
+    public Set<Dataset> residentDatasets() {
+        EnumSet<Dataset> residentDatasets = EnumSet.noneOf(Dataset.class);
+
+        for (Dataset dataset : Dataset.values()) {
+            if (isResident(dataset)) {
+                residentDatasets.add(dataset);
+            }
+        }
+
+        return residentDatasets;
+    }
+
+    /**
+     * <p>Returns the number of bytes used by the grid values of all resident datasets.</p>
+     *
+     * @return Size of the resident grid values in bytes
+     */
+    @SuppressWarnings("unchecked")
+    public long residentSizeInBytes() {
+        long size = 0;
+
+        for (Dataset dataset : residentDatasets()) {
+            Object grids = loads.get(dataset).resultNow();
+
+            if (grids instanceof LogNormalGrids logNormalGrids) {
+                size += logNormalGrids.sizeInBytes();
+            }
+            else {
+                for (Grid grid : ((NavigableMap<Double, Grid>) grids).values()) {
+                    size += grid.sizeInBytes();
+                }
+            }
+        }
+
+        return size;
+    }
+
+    // ==================================================================================
+    //                                 Helper Functions
+    // ==================================================================================
+
+    /**
+     * <p>Returns the grids of a dataset, loading them if no other thread has done or is doing so.</p>
+     *
+     * @param dataset A dataset
+     * @return {@link LogNormalGrids} or an unmodifiable map of grids of L(p)
+     * @throws IOException If the dataset cannot be loaded, or the calling thread is interrupted
+     */
+    private Object load(Dataset dataset) throws IOException {
+        FutureTask<Object> task = loads.get(dataset);
+
+        if (task == null) {
+            FutureTask<Object> newTask = new FutureTask<>(() -> read(dataset));
+            task = loads.putIfAbsent(dataset, newTask);
+
+            if (task == null) {
+                task = newTask;
+                task.run();
+            }
+        }
+
+        try {
+            return Itu840.await(task);
+        }
+        catch (IOException | RuntimeException | Error e) {
+            if (task.isDone()) {
+                loads.remove(dataset, task);
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * <p>Reads the digital maps of a dataset.</p>
+     *
+     * @param dataset A dataset
+     * @return {@link LogNormalGrids} or an unmodifiable map of grids of L(p)
+     * @throws IOException If the digital maps cannot be read
+     */
+    private Object read(Dataset dataset) throws IOException {
+        if (dataset.isLogNormal()) {
+            Grid.StorageMode logNormalStorageMode = (storageMode == Grid.StorageMode.QUANTIZED) ? Grid.StorageMode.DOUBLE : storageMode;
+
+            return LogNormalGrids.readFromFolder(folderPath(dataset), logNormalStorageMode);
+        }
+
+        return Collections.unmodifiableNavigableMap(Grid.loadByProbability(folderPath(dataset), storageMode));
+    }
+}
@@ -0,0 +1,155 @@
+package itu840;
+
+import java.util.concurrent.*;
+
+/**
+ * <p><b>Double-Debye model coefficients of liquid water at one temperature</b></p>
+ *
+ * <p>Holds ε<sub>0</sub>, ε<sub>1</sub>, ε<sub>2</sub>, f<sub>p</sub>, and f<sub>s</sub> of ITU-R P.840-9, Equations (6)–(10),
+ *    at a temperature T, as computed by {@link Itu840#computeEpsilon0(double)},
+ *    {@link Itu840#computePrincipalRelaxationFrequency(double)}, and the related methods. At the reference temperature of
+ *    273.75 K each coefficient is identical bit for bit to the one Itu840 uses for the fixed-temperature methods.</p>
+ *
+ * <p>{@link #of(double)} computes the coefficients of a temperature once and caches them, so that the temperature-dependent
+ *    methods of Itu840 (e.g. {@link Itu840#computeEta(double, double)}) do not evaluate Equations (6)–(10) again for each
+ *    frequency of a layer. The cache holds at most {@link #CACHE_CAPACITY} temperatures; when it is full, it is cleared
+ *    before the next temperature is added, so a run over more temperatures than that keeps working, with misses.
+ *    Instances are immutable, and all methods are thread-safe.</p>
+ *
+ * <p>A loop over the frequencies of one layer is fastest with the coefficients taken once from {@link #of(double)} and
+ *    passed to the overloads of Itu840 that accept them (e.g.
+ *    {@link Itu840#computeCloudLiquidWaterSpecificAttenuationCoefficient(double, DebyeCoefficients)}).</p>
+ */
+public final class DebyeCoefficients {
+
+    /** <p>Maximum number of temperatures held by the cache of {@link #of(double)}.</p> */
+    public static final int CACHE_CAPACITY = 4096;
+
+    private static final ConcurrentHashMap<Double, DebyeCoefficients> CACHE = new ConcurrentHashMap<>();
+
+    // Checked before the map, so that consecutive calls at one temperature (e.g. all frequencies of a layer) do not box T
+    private static volatile DebyeCoefficients mostRecent = new DebyeCoefficients(Itu840.REFERENCE_TEMPERATURE_KELVIN);
+
+    private final double temperature;
+    private final double epsilon0;
+    private final double epsilon1;
+    private final double epsilon2;
+    private final double principalRelaxationFrequency;
+    private final double secondaryRelaxationFrequency;
+
+    private DebyeCoefficients(double temperature) {
+        this.temperature = temperature;
+        this.epsilon0 = Itu840.computeEpsilon0(temperature);
+        this.epsilon1 = Itu840.computeEpsilon1(temperature);
+        this.epsilon2 = Itu840.computeEpsilon2();
+        this.principalRelaxationFrequency = Itu840.computePrincipalRelaxationFrequency(temperature);
+        this.secondaryRelaxationFrequency = Itu840.computeSecondaryRelaxationFrequency(temperature);
+    }
+
+    /**
+     * <p>Returns the coefficients at a temperature, from the cache if they were computed before.</p>
+     *
+     * @param temperature Temperature (T) in kelvin
+     * @return The coefficients at T
+     * @throws IllegalArgumentException If T is not positive and finite
+     */
+    public static DebyeCoefficients of(double temperature) {
+        DebyeCoefficients coefficients = mostRecent;
+
+        if (coefficients.temperature == temperature) {
+            return coefficients;
+        }
+
+        coefficients = CACHE.get(temperature);
+
+        if (coefficients != null) {
+            mostRecent = coefficients;
+            return coefficients;
+        }
+
+        Itu840.checkTemperature(temperature);
+
+        // Racing threads may clear the cache twice or compute the same temperature twice; both are harmless
+        if (CACHE.size() >= CACHE_CAPACITY) {
+            CACHE.clear();
+        }
+
+        coefficients = CACHE.computeIfAbsent(temperature, DebyeCoefficients::new);
+        mostRecent = coefficients;
+
+        return coefficients;
+    }
+
+    /**
+     * <p>Returns the number of temperatures currently held by the cache.</p>
+     *
+     * @return Number of cached temperatures, at most {@link #CACHE_CAPACITY}
+     */
+    static int cachedTemperatureCount() {
+        return CACHE.size();
+    }
+
+    // ==================================================================================
+    //                                      Access
+    // ==================================================================================
+
+    /**
+     * <p>Returns the temperature of the coefficients.</p>
+     *
+     * @return Temperature (T) in kelvin
+     */
+    public double temperature() {
+        return temperature;
+    }
+
+    /**
+     * <p>Returns ε<sub>0</sub> (see {@link Itu840#computeEpsilon0(double)}).</p>
+     *
+     * @return ε<sub>0</sub> (dimensionless)
+     */
+    public double epsilon0() {
+        return epsilon0;
+    }
+
+    /**
+     * <p>Returns ε<sub>1</sub> (see {@link Itu840#computeEpsilon1(double)}).</p>
+     *
+     * @return ε<sub>1</sub> (dimensionless)
+     */
+    public double epsilon1() {
+        return epsilon1;
+    }
+
+    /**
+     * <p>Returns ε<sub>2</sub> (see {@link Itu840#computeEpsilon2()}).</p>
+     *
+     * @return ε<sub>2</sub> (dimensionless)
+     */
+    public double epsilon2() {
+        return epsilon2;
+    }
+
+    /**
+     * <p>Returns f<sub>p</sub> (see {@link Itu840#computePrincipalRelaxationFrequency(double)}).</p>
+     *
+     * @return f<sub>p</sub> in gigahertz
+     */
+    public double principalRelaxationFrequency() {
+        return principalRelaxationFrequency;
+    }
+
+    /**
+     * <p>Returns f<sub>s</sub> (see {@link Itu840#computeSecondaryRelaxationFrequency(double)}).</p>
+     *
+     * @return f<sub>s</sub> in gigahertz
+     */
+    public double secondaryRelaxationFrequency() {
+        return secondaryRelaxationFrequency;
+    }
+
+    @Override
+    public String toString() {
+        return "DebyeCoefficients[temperature=" + temperature + ", epsilon0=" + epsilon0 + ", epsilon1=" + epsilon1 + ", epsilon2=" + epsilon2 +
+               ", principalRelaxationFrequency=" + principalRelaxationFrequency + ", secondaryRelaxationFrequency=" + secondaryRelaxationFrequency + "]";
+    }
+}
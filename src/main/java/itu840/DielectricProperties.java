@@ -0,0 +1,92 @@
+package itu840;
+
+/**
+ * <p><b>Dielectric properties of liquid water at one frequency</b></p>
+ *
+ * <p>Holds the intermediates of Equations (2)–(5) and (12, 14, 16) at the fixed reference temperature of 273.75 K:
+ *    ε&prime;(f), ε&Prime;(f), &eta;(f), K<sub>l</sub>(f), and K<sub>L</sub>(f). They are computed together in one pass by
+ *    {@link Itu840#computeDielectricProperties(double, DielectricProperties)}, and each value is identical bit for bit to
+ *    the one of the corresponding <code>compute</code> method.</p>
+ *
+ * <p>An instance is a reusable destination: every call overwrites all of its values, so a loop over frequencies can
+ *    fill one instance without allocating. Instances are not thread-safe; use one per thread.</p>
+ */
+public final class DielectricProperties {
+
+    // Package-private for Itu840.computeDielectricProperties
+    double frequency = Double.NaN;
+    double epsilonReal = Double.NaN;
+    double epsilonImaginary = Double.NaN;
+    double eta = Double.NaN;
+    double cloudLiquidWaterSpecificAttenuationCoefficient = Double.NaN;
+    double cloudLiquidMassAbsorptionCoefficient = Double.NaN;
+
+    /** <p>Creates an empty destination; all values are <code>NaN</code> until it is first filled.</p> */
+    public DielectricProperties() {
+    }
+
+    // ==================================================================================
+    //                                      Access
+    // ==================================================================================
+
+    /**
+     * <p>Returns the frequency of the values.</p>
+     *
+     * @return Frequency in gigahertz
+     */
+    public double frequency() {
+        return frequency;
+    }
+
+    /**
+     * <p>Returns ε&prime;(f) (see {@link Itu840#computeEpsilonReal(double)}).</p>
+     *
+     * @return ε&prime;(f) (dimensionless)
+     */
+    public double epsilonReal() {
+        return epsilonReal;
+    }
+
+    /**
+     * <p>Returns ε&Prime;(f) (see {@link Itu840#computeEpsilonImaginary(double)}).</p>
+     *
+     * @return ε&Prime;(f) (dimensionless)
+     */
+    public double epsilonImaginary() {
+        return epsilonImaginary;
+    }
+
+    /**
+     * <p>Returns &eta;(f) (see {@link Itu840#computeEta(double)}).</p>
+     *
+     * @return &eta;(f) (dimensionless)
+     */
+    public double eta() {
+        return eta;
+    }
+
+    /**
+     * <p>Returns K<sub>l</sub>(f) (see {@link Itu840#computeCloudLiquidWaterSpecificAttenuationCoefficient(double)}).</p>
+     *
+     * @return K<sub>l</sub>(f) in (dB/km)/(g/m<sup>3</sup>)
+     */
+    public double cloudLiquidWaterSpecificAttenuationCoefficient() {
+        return cloudLiquidWaterSpecificAttenuationCoefficient;
+    }
+
+    /**
+     * <p>Returns K<sub>L</sub>(f) (see {@link Itu840#computeCloudLiquidMassAbsorptionCoefficient(double)}).</p>
+     *
+     * @return K<sub>L</sub>(f) in dB/(kg/m<sup>2</sup>)
+     */
+    public double cloudLiquidMassAbsorptionCoefficient() {
+        return cloudLiquidMassAbsorptionCoefficient;
+    }
+
+    @Override
+    public String toString() {
+        return "DielectricProperties[frequency=" + frequency + ", epsilonReal=" + epsilonReal + ", epsilonImaginary=" + epsilonImaginary +
+               ", eta=" + eta + ", cloudLiquidWaterSpecificAttenuationCoefficient=" + cloudLiquidWaterSpecificAttenuationCoefficient +
+               ", cloudLiquidMassAbsorptionCoefficient=" + cloudLiquidMassAbsorptionCoefficient + "]";
+    }
+}
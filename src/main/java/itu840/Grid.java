@@ -0,0 +1,575 @@
+package itu840;
+
+import java.io.*;
+import java.lang.foreign.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <p><b>Flat row-major grid of an ITU-R P.840-9 digital map</b></p>
+ *
+ * <p>Stores the 721 × 1441 grid points of a digital map contiguously, where the value at (row, column) is at index
+ *    <code>row · 1441 + column</code>. Compared to <code>double[721][1441]</code>, the four corners of a bilinear
+ *    interpolation are read from one array with plain index arithmetic.</p>
+ *
+ * <p>Instances are immutable and can be shared between threads. {@link Itu840} provides overloads of
+ *    {@link Itu840#bilinearInterpolation(double, double, Grid)},
+ *    {@link Itu840#isAnyCornerCloudProbabilityBelowThreshold(double, double, Grid)}, and the statistical
+ *    prediction methods that accept this type.</p>
+ *
+ * <p><b>Storage modes</b></p>
+ * <p>The values can be held with less precision to reduce memory (see {@link StorageMode}). <code>NaN</code> grid
+ *    points are always preserved exactly, and {@link #maximumAbsoluteError()} reports the largest difference
+ *    between a stored value and the value read from the digital map.</p>
+ *
+ * <p>For Equation (13), L(p) is a convex combination of grid values (bilinear weights renormalized to the valid
+ *    corners, then a log<sub>10</sub>(p) interpolation weight between 0 and 1). Therefore, up to double rounding,
+ *    the attenuation computed with reduced-precision grids differs from the {@link StorageMode#DOUBLE} result of
+ *    {@link Itu840#computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, NavigableMap)}
+ *    by at most</p>
+ * <p>|&Delta;A<sub>C</sub>| &le; K<sub>L</sub>(f) · max(&epsilon;<sub>below</sub>, &epsilon;<sub>above</sub>) / sin(&theta;)</p>
+ * <p>where &epsilon; is {@link #maximumAbsoluteError()} of the two bracketing grids of L(p).</p>
+ *
+ * <p><b>Off-heap grids</b></p>
+ * <p>Grids can also be held outside the Java heap in a {@link MemorySegment} whose lifetime is controlled by an
+ *    {@link Arena}: either copied from a digital map ({@link #readFromFile(String, Arena)}) or memory-mapped from its
+ *    binary cache ({@link #mapBinaryCache(String, Arena)}). Such grids do not take part in garbage collection marking,
+ *    and the {@link Itu840} methods interpolate directly from their segments. They must not be used after their arena
+ *    is closed, and they can only be shared between threads if the arena is shared (e.g. {@link Arena#ofShared()}).</p>
+ */
+public abstract sealed class Grid permits Grid.DoubleGrid, Grid.FloatGrid, Grid.QuantizedGrid, Grid.OffHeapGrid {
+
+    /** <p>Number of rows (latitude points).</p> */
+    public static final int ROWS = Itu840.NUMBER_OF_LATITUDE_POINTS;
+
+    /** <p>Number of columns (longitude points).</p> */
+    public static final int COLUMNS = Itu840.NUMBER_OF_LONGITUDE_POINTS;
+
+    /**
+     * <p>Precision in which the grid values are held.</p>
+     */
+    public enum StorageMode {
+
+        /**
+         * <p>64-bit doubles, about 8.3 MB per grid. Values are exact.</p>
+         */
+        DOUBLE,
+
+        /**
+         * <p>32-bit floats, about 4.2 MB per grid. Each value is rounded to the nearest float, so its relative error
+         *    is at most 2<sup>-24</sup> (about 6 · 10<sup>-8</sup>). Since L(p) &ge; 0, the relative error of
+         *    A<sub>C</sub> in Equation (13) is bounded by the same amount.</p>
+         */
+        FLOAT,
+
+        /**
+         * <p>16-bit codes with a per-grid scale and offset, about 2.1 MB per grid (a quarter of {@link #DOUBLE}).
+         *    The valid values are mapped linearly onto 65535 levels between their minimum and maximum, so the absolute
+         *    error of each value is at most (max &minus; min) / 131068.</p>
+         *
+         * <p>Equation (15) is not linear in m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub>, and the P<sub>L</sub>
+         *    threshold test may change for values within the quantization step of 0.02%, so the log-normal grids
+         *    should be held as {@link #DOUBLE} or {@link #FLOAT}.</p>
+         */
+        QUANTIZED
+    }
+
+    /** <p>Subclasses only.</p> */
+    private Grid() {
+    }
+
+    // ==================================================================================
+    //                                   Construction
+    // ==================================================================================
+
+    /**
+     * <p>Copies a <code>double[721][1441]</code> grid into a flat grid.</p>
+     *
+     * @param grid A grid
+     * @return A flat grid with the same values
+     * @throws IllegalArgumentException If the grid does not have 721 rows of 1441 columns
+     */
+    public static Grid of(double[][] grid) {
+        return of(grid, StorageMode.DOUBLE);
+    }
+
+    /**
+     * <p>Copies a <code>double[721][1441]</code> grid into a flat grid with the given storage mode.</p>
+     *
+     * @param grid A grid
+     * @param storageMode Precision in which the values are held
+     * @return A flat grid
+     * @throws IllegalArgumentException If the grid does not have 721 rows of 1441 columns, or the storage mode is
+     *                                  {@link StorageMode#QUANTIZED} and the grid contains infinite values
+     */
+    public static Grid of(double[][] grid, StorageMode storageMode) {
+        if (grid.length != ROWS) {
+            throw new IllegalArgumentException("Grid must have " + ROWS + " rows, but has " + grid.length + ".");
+        }
+
+        double[] values = new double[ROWS * COLUMNS];
+
+        for (int row = 0; row < ROWS; row++) {
+            if (grid[row].length != COLUMNS) {
+                throw new IllegalArgumentException("Row " + (row + 1) + " must have " + COLUMNS + " columns, but has " + grid[row].length + ".");
+            }
+
+            System.arraycopy(grid[row], 0, values, row * COLUMNS, COLUMNS);
+        }
+
+        return of(values, storageMode);
+    }
+
+    /**
+     * <p>Creates a flat grid from row-major values. In {@link StorageMode#DOUBLE}, the array is used without copying.</p>
+     *
+     * @param values Row-major grid values, 721 × 1441 elements
+     * @param storageMode Precision in which the values are held
+     * @return A flat grid
+     * @throws IllegalArgumentException If the storage mode is {@link StorageMode#QUANTIZED} and the values contain infinities
+     */
+    static Grid of(double[] values, StorageMode storageMode) {
+        switch (storageMode) {
+            case FLOAT:
+                return new FloatGrid(values);
+            case QUANTIZED:
+                return new QuantizedGrid(values);
+            default:
+                return new DoubleGrid(values);
+        }
+    }
+
+    /**
+     * <p>Reads a digital map of L, m<sub>L</sub>, &sigma;<sub>L</sub>, or P<sub>L</sub> directly into a flat grid.</p>
+     *
+     * <p>Same format, results, and diagnostics as {@link Itu840#readGridFromFile(String)}.</p>
+     *
+     * @param filePath Path to the digital map file
+     * @return A flat grid
+     * @throws IOException If the digital map is invalid or cannot be read (see {@link Itu840#readGridFromFile(String)})
+     */
+    public static Grid readFromFile(String filePath) throws IOException {
+        return readFromFile(filePath, StorageMode.DOUBLE);
+    }
+
+    /**
+     * <p>Reads a digital map directly into a flat grid with the given storage mode.</p>
+     *
+     * @param filePath Path to the digital map file
+     * @param storageMode Precision in which the values are held
+     * @return A flat grid
+     * @throws IOException If the digital map is invalid or cannot be read (see {@link Itu840#readGridFromFile(String)})
+     */
+    public static Grid readFromFile(String filePath, StorageMode storageMode) throws IOException {
+        byte[] bytes = Files.readAllBytes(Path.of(filePath));
+
+        return of(AsciiGridScanner.parseFlatGrid(bytes, ROWS, COLUMNS, null), storageMode);
+    }
+
+    /**
+     * <p>Reads a digital map directly into a flat grid, parsing ranges of rows on the given executor.</p>
+     *
+     * <p>Same format, results, and diagnostics as {@link Itu840#readGridFromFile(String, ExecutorService)}.</p>
+     *
+     * @param filePath Path to the digital map file
+     * @param executor Executor that parses the ranges of rows, e.g. a {@link ForkJoinPool}
+     * @return A flat grid
+     * @throws IOException If the digital map is invalid or cannot be read, or the calling thread is interrupted
+     */
+    public static Grid readFromFile(String filePath, ExecutorService executor) throws IOException {
+        byte[] bytes = Files.readAllBytes(Path.of(filePath));
+
+        return new DoubleGrid(AsciiGridScanner.parseFlatGrid(bytes, ROWS, COLUMNS, Objects.requireNonNull(executor, "executor")));
+    }
+
+    /**
+     * <p>Loads the <code>L_*.TXT</code> digital maps of a folder into flat grids.</p>
+     *
+     * <p>Same files, keys, and diagnostics as {@link Itu840#loadGridsByProbability(String)}.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @return A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If the folder is missing or empty, a file cannot be parsed, or no valid files are found
+     */
+    public static TreeMap<Double, Grid> loadByProbability(String folderPath) throws IOException {
+        return loadByProbability(folderPath, StorageMode.DOUBLE);
+    }
+
+    /**
+     * <p>Loads the <code>L_*.TXT</code> digital maps of a folder into flat grids with the given storage mode.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @param storageMode Precision in which the values are held
+     * @return A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If the folder is missing or empty, a file cannot be parsed, or no valid files are found
+     */
+    public static TreeMap<Double, Grid> loadByProbability(String folderPath, StorageMode storageMode) throws IOException {
+        return Itu840.loadByProbability(folderPath, filePath -> readFromFile(filePath, storageMode), null);
+    }
+
+    /**
+     * <p>Loads the <code>L_*.TXT</code> digital maps of a folder into flat grids, parsing all files at once on the given executor.</p>
+     *
+     * <p>Same files, keys, and diagnostics as {@link Itu840#loadGridsByProbability(String, ExecutorService)}.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @param executor Executor that parses the files, e.g. a {@link ForkJoinPool}
+     * @return A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If the folder is missing or empty, a file cannot be parsed, no valid files are found,
+     *                     or the calling thread is interrupted
+     */
+    public static TreeMap<Double, Grid> loadByProbability(String folderPath, ExecutorService executor) throws IOException {
+        return loadByProbability(folderPath, StorageMode.DOUBLE, executor);
+    }
+
+    /**
+     * <p>Loads the <code>L_*.TXT</code> digital maps of a folder into flat grids with the given storage mode,
+     *    parsing all files at once on the given executor.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @param storageMode Precision in which the values are held
+     * @param executor Executor that parses the files, e.g. a {@link ForkJoinPool}
+     * @return A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If the folder is missing or empty, a file cannot be parsed, no valid files are found,
+     *                     or the calling thread is interrupted
+     */
+    public static TreeMap<Double, Grid> loadByProbability(String folderPath, StorageMode storageMode, ExecutorService executor) throws IOException {
+        return Itu840.loadByProbability(folderPath, filePath -> readFromFile(filePath, storageMode), Objects.requireNonNull(executor, "executor"));
+    }
+
+    /**
+     * <p>Reads a digital map and copies its values into an off-heap segment allocated from the given arena.</p>
+     *
+     * @param filePath Path to the digital map file
+     * @param arena Arena that allocates the segment and controls its lifetime
+     * @return An off-heap grid
+     * @throws IOException If the digital map is invalid or cannot be read (see {@link Itu840#readGridFromFile(String)})
+     */
+    public static Grid readFromFile(String filePath, Arena arena) throws IOException {
+        byte[] bytes = Files.readAllBytes(Path.of(filePath));
+        double[] values = AsciiGridScanner.parseFlatGrid(bytes, ROWS, COLUMNS, null);
+
+        MemorySegment segment = arena.allocate((long) values.length * Double.BYTES, Double.BYTES);
+        MemorySegment.copy(values, 0, segment, BinaryGridFile.DOUBLE, 0, values.length);
+
+        return new OffHeapGrid(segment);
+    }
+
+    /**
+     * <p>Memory-maps the binary cache of a digital map (see {@link BinaryGridFile#map(String, Arena)}) as an off-heap grid.</p>
+     *
+     * <p>The cache file is built on first use (or when stale). Afterwards, no values are parsed or copied:
+     *    the grid reads them directly from the mapped file.</p>
+     *
+     * @param filePath Path to the digital map file
+     * @param arena Arena that controls the lifetime of the mapping
+     * @return An off-heap grid
+     * @throws IOException If the digital map or its cache file cannot be read, or the cache file cannot be written
+     */
+    public static Grid mapBinaryCache(String filePath, Arena arena) throws IOException {
+        return new OffHeapGrid(BinaryGridFile.map(filePath, arena));
+    }
+
+    /**
+     * <p>Reads a digital map through its binary cache (see {@link BinaryGridFile#map(String, Arena)}) into a flat grid
+     *    with the given storage mode.</p>
+     *
+     * <p>The cache file is built on first use (or when stale). Afterwards, the values are copied from the mapped file
+     *    without parsing any text, which makes this the fast way to read a grid again after it has been dropped.</p>
+     *
+     * @param filePath Path to the digital map file
+     * @param storageMode Precision in which the values are held
+     * @return A flat grid
+     * @throws IOException If the digital map or its cache file cannot be read, or the cache file cannot be written
+     */
+    public static Grid readBinaryCache(String filePath, StorageMode storageMode) throws IOException {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = BinaryGridFile.map(filePath, arena);
+            double[] values = new double[ROWS * COLUMNS];
+
+            MemorySegment.copy(segment, BinaryGridFile.DOUBLE, 0, values, 0, values.length);
+
+            return of(values, storageMode);
+        }
+    }
+
+    /**
+     * <p>Wraps a segment of 721 × 1441 row-major, little-endian doubles as an off-heap grid without copying it.</p>
+     *
+     * @param values Segment of the grid values
+     * @return An off-heap grid
+     * @throws IllegalArgumentException If the segment does not have the size of a grid
+     */
+    public static Grid ofSegment(MemorySegment values) {
+        if (values.byteSize() != (long) ROWS * COLUMNS * Double.BYTES) {
+            throw new IllegalArgumentException("Segment must have " + ((long) ROWS * COLUMNS * Double.BYTES) + " bytes, but has " + values.byteSize() + ".");
+        }
+
+        return new OffHeapGrid(values);
+    }
+
+    /**
+     * <p>Loads the <code>L_*.TXT</code> digital maps of a folder into off-heap grids allocated from the given arena.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @param arena Arena that allocates the segments and controls their lifetime
+     * @return A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If the folder is missing or empty, a file cannot be parsed, or no valid files are found
+     */
+    public static TreeMap<Double, Grid> loadByProbability(String folderPath, Arena arena) throws IOException {
+        return Itu840.loadByProbability(folderPath, filePath -> readFromFile(filePath, arena), null);
+    }
+
+    /**
+     * <p>Memory-maps the binary caches of the <code>L_*.TXT</code> digital maps of a folder as off-heap grids.</p>
+     *
+     * <p>Missing or stale cache files are rebuilt from the <code>L_*.TXT</code> files first.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @param arena Arena that controls the lifetime of the mappings
+     * @return A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If the folder is missing or empty, a file or cache file cannot be read or written,
+     *                     or no valid files are found
+     */
+    public static TreeMap<Double, Grid> mapBinaryCacheByProbability(String folderPath, Arena arena) throws IOException {
+        return Itu840.loadByProbability(folderPath, filePath -> mapBinaryCache(filePath, arena), null);
+    }
+
+    // ==================================================================================
+    //                                      Access
+    // ==================================================================================
+
+    /**
+     * <p>Returns the value of a grid point.</p>
+     *
+     * @param row Row (latitude) index
+     * @param column Column (longitude) index
+     * @return Grid value
+     */
+    public final double value(int row, int column) {
+        return value(row * COLUMNS + column);
+    }
+
+    /**
+     * <p>Returns the value at a row-major index, i.e. <code>row · 1441 + column</code>.</p>
+     *
+     * @param index Row-major index
+     * @return Grid value
+     */
+    abstract double value(int index);
+
+    /**
+     * <p>Returns the precision in which the values are held.</p>
+     *
+     * @return Storage mode
+     */
+    public abstract StorageMode storageMode();
+
+    /**
+     * <p>Returns the largest absolute difference between a stored value and the value it was created from.</p>
+     *
+     * <p>The bound is measured over all grid points when the grid is created, so it is exact rather than estimated.
+     *    It is 0 for {@link StorageMode#DOUBLE}.</p>
+     *
+     * @return Maximum absolute error in the unit of the grid values
+     */
+    public abstract double maximumAbsoluteError();
+
+    /**
+     * <p>Returns the number of bytes used by the grid values.</p>
+     *
+     * @return Size of the values in bytes
+     */
+    public abstract long sizeInBytes();
+
+    /**
+     * <p>Copies the grid into a new <code>double[721][1441]</code> array.</p>
+     *
+     * @return A grid
+     */
+    public double[][] toArray() {
+        double[][] grid = new double[ROWS][COLUMNS];
+
+        for (int row = 0; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                grid[row][column] = value(row * COLUMNS + column);
+            }
+        }
+
+        return grid;
+    }
+
+    // ==================================================================================
+    //                                  Storage Modes
+    // ==================================================================================
+
+    /** <p>Grid held as 64-bit doubles.</p> */
+    static final class DoubleGrid extends Grid {
+
+        final double[] values; // Package-private for the vectorized batch interpolation
+
+        private DoubleGrid(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        double value(int index) {
+            return values[index];
+        }
+
+        @Override
+        public StorageMode storageMode() {
+            return StorageMode.DOUBLE;
+        }
+
+        @Override
+        public double maximumAbsoluteError() {
+            return 0.0;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return (long) values.length * Double.BYTES;
+        }
+    }
+
+    /** <p>Grid held as 32-bit floats.</p> */
+    static final class FloatGrid extends Grid {
+
+        private final float[] values;
+        private final double maximumAbsoluteError;
+
+        private FloatGrid(double[] source) {
+            values = new float[source.length];
+            double error = 0.0;
+
+            for (int i = 0; i < source.length; i++) {
+                values[i] = (float) source[i];
+
+                if (!Double.isNaN(source[i])) {
+                    error = Math.max(error, Math.abs(values[i] - source[i]));
+                }
+            }
+
+            maximumAbsoluteError = error;
+        }
+
+        @Override
+        double value(int index) {
+            return values[index];
+        }
+
+        @Override
+        public StorageMode storageMode() {
+            return StorageMode.FLOAT;
+        }
+
+        @Override
+        public double maximumAbsoluteError() {
+            return maximumAbsoluteError;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return (long) values.length * Float.BYTES;
+        }
+    }
+
+    /** <p>Grid held as 16-bit codes with a scale and offset. The code 0xFFFF marks <code>NaN</code>.</p> */
+    static final class QuantizedGrid extends Grid {
+
+        private static final int NAN_CODE = 0xFFFF;
+        private static final int MAX_CODE = NAN_CODE - 1;
+
+        private final short[] codes;
+        private final double offset;
+        private final double scale;
+        private final double maximumAbsoluteError;
+
+        private QuantizedGrid(double[] source) {
+            double minimum = Double.POSITIVE_INFINITY;
+            double maximum = Double.NEGATIVE_INFINITY;
+
+            for (double value : source) {
+                if (Double.isInfinite(value)) {
+                    throw new IllegalArgumentException("Quantized storage requires finite grid values.");
+                }
+                if (!Double.isNaN(value)) {
+                    minimum = Math.min(minimum, value);
+                    maximum = Math.max(maximum, value);
+                }
+            }
+
+            offset = (minimum <= maximum) ? minimum : 0.0;
+            scale = (minimum < maximum) ? (maximum - minimum) / MAX_CODE : 0.0;
+            codes = new short[source.length];
+            double error = 0.0;
+
+            for (int i = 0; i < source.length; i++) {
+                if (Double.isNaN(source[i])) {
+                    codes[i] = (short) NAN_CODE;
+                    continue;
+                }
+
+                int code = (scale > 0.0) ? (int) Math.round((source[i] - offset) / scale) : 0;
+                codes[i] = (short) Math.min(code, MAX_CODE);
+                error = Math.max(error, Math.abs(value(i) - source[i]));
+            }
+
+            maximumAbsoluteError = error;
+        }
+
+        @Override
+        double value(int index) {
+            int code = codes[index] & 0xFFFF;
+
+            return (code == NAN_CODE) ? Double.NaN : offset + code * scale;
+        }
+
+        @Override
+        public StorageMode storageMode() {
+            return StorageMode.QUANTIZED;
+        }
+
+        @Override
+        public double maximumAbsoluteError() {
+            return maximumAbsoluteError;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return (long) codes.length * Short.BYTES;
+        }
+    }
+
+    /** <p>Grid held outside the Java heap as little-endian doubles in a memory segment.</p> */
+    static final class OffHeapGrid extends Grid {
+
+        private final MemorySegment values;
+
+        private OffHeapGrid(MemorySegment values) {
+            this.values = values;
+        }
+
+        @Override
+        double value(int index) {
+            return values.getAtIndex(BinaryGridFile.DOUBLE, index);
+        }
+
+        @Override
+        public StorageMode storageMode() {
+            return StorageMode.DOUBLE;
+        }
+
+        @Override
+        public double maximumAbsoluteError() {
+            return 0.0;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return values.byteSize();
+        }
+    }
+}
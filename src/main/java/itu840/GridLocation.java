@@ -0,0 +1,136 @@
+package itu840;
+
+/**
+ * <p><b>Precomputed location on the grid of the digital maps</b></p>
+ *
+ * <p>Holds what the bilinear interpolation of ITU-R P.840-9 needs for one (latitude, longitude): the grid cell that
+ *    contains it, with the eastern index wrapped around the 180° meridian, the row-major indices of its four corners, and
+ *    the four bilinear weights. All digital maps share the same grid, so a location computed once can be used with any
+ *    map, dataset, or month. {@link Itu840} provides overloads of the interpolation and prediction methods that accept a
+ *    location instead of a latitude and a longitude; their results are identical bit for bit.</p>
+ *
+ * <p>Ground stations that are queried repeatedly (e.g. two grids per Equation (13) query, three grids and the
+ *    P<sub>L</sub> corner check per Equation (15) query, or every month) should keep their location.
+ *    Instances are immutable and thread-safe.</p>
+ */
+public final class GridLocation {
+
+    // Package-private for the interpolation kernels; never modified after construction
+    final double latitude;
+    final double longitude;
+
+    final int southernLatitudeIndex;
+    final int northernLatitudeIndex;
+    final int westernLongitudeIndex;
+    final int easternLongitudeIndex;
+
+    // Row-major indices of the corners (see Grid)
+    final int southWestIndex;
+    final int southEastIndex;
+    final int northWestIndex;
+    final int northEastIndex;
+
+    final double weightSouthWest;
+    final double weightSouthEast;
+    final double weightNorthWest;
+    final double weightNorthEast;
+
+    private GridLocation(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+
+        // The only place where the cell, the ±180° seam, and the polar rows are resolved
+        int southernLatitudeIndex = (int) Math.floor((latitude - Itu840.GRID_LATITUDE_START_DEGREE) / Itu840.GRID_LATITUDE_STEP_DEGREE);
+        southernLatitudeIndex = Math.max(0, Math.min(southernLatitudeIndex, Itu840.NUMBER_OF_LATITUDE_POINTS - 2));
+        int northernLatitudeIndex = southernLatitudeIndex + 1;
+
+        int westernLongitudeIndex = (int) Math.floor((longitude - Itu840.GRID_LONGITUDE_START_DEGREE) / Itu840.GRID_LONGITUDE_STEP_DEGREE);
+        int easternLongitudeIndex = (westernLongitudeIndex + 1) % Itu840.NUMBER_OF_LONGITUDE_POINTS;
+
+        if (easternLongitudeIndex == 0) {
+            easternLongitudeIndex = 1;
+        }
+
+        double southernLatitude = Itu840.GRID_LATITUDE_START_DEGREE + southernLatitudeIndex * Itu840.GRID_LATITUDE_STEP_DEGREE;
+        double northernLatitude = Itu840.GRID_LATITUDE_START_DEGREE + northernLatitudeIndex * Itu840.GRID_LATITUDE_STEP_DEGREE;
+        double westernLongitude = Itu840.GRID_LONGITUDE_START_DEGREE + westernLongitudeIndex * Itu840.GRID_LONGITUDE_STEP_DEGREE;
+        double easternLongitude = Itu840.GRID_LONGITUDE_START_DEGREE + easternLongitudeIndex * Itu840.GRID_LONGITUDE_STEP_DEGREE;
+
+        double xFraction = (longitude - westernLongitude) / (easternLongitude - westernLongitude);
+        double yFraction = (latitude - southernLatitude) / (northernLatitude - southernLatitude);
+
+        this.southernLatitudeIndex = southernLatitudeIndex;
+        this.northernLatitudeIndex = northernLatitudeIndex;
+        this.westernLongitudeIndex = westernLongitudeIndex;
+        this.easternLongitudeIndex = easternLongitudeIndex;
+
+        int southernRowOffset = southernLatitudeIndex * Itu840.NUMBER_OF_LONGITUDE_POINTS;
+        int northernRowOffset = southernRowOffset + Itu840.NUMBER_OF_LONGITUDE_POINTS;
+
+        this.southWestIndex = southernRowOffset + westernLongitudeIndex;
+        this.southEastIndex = southernRowOffset + easternLongitudeIndex;
+        this.northWestIndex = northernRowOffset + westernLongitudeIndex;
+        this.northEastIndex = northernRowOffset + easternLongitudeIndex;
+
+        this.weightSouthWest = (1 - xFraction) * (1 - yFraction);
+        this.weightSouthEast = xFraction * (1 - yFraction);
+        this.weightNorthWest = (1 - xFraction) * yFraction;
+        this.weightNorthEast = xFraction * yFraction;
+    }
+
+    /**
+     * <p>Locates a site on the grid of the digital maps.</p>
+     *
+     * <p>Like the interpolation methods, the location is not validated: latitudes beyond the poles use the
+     *    southernmost or northernmost cell.</p>
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @return The grid location of the site
+     */
+    public static GridLocation of(double latitude, double longitude) {
+        return new GridLocation(latitude, longitude);
+    }
+
+    // ==================================================================================
+    //                                      Access
+    // ==================================================================================
+
+    /**
+     * <p>Returns the latitude of the site.</p>
+     *
+     * @return Latitude in degrees
+     */
+    public double latitude() {
+        return latitude;
+    }
+
+    /**
+     * <p>Returns the longitude of the site.</p>
+     *
+     * @return Longitude in degrees
+     */
+    public double longitude() {
+        return longitude;
+    }
+
+    /**
+     * <p>Computes the NaN-aware weighted sum of the four corners of the cell with the precomputed weights
+     *    (see {@link Itu840#interpolateCorners(double, double, double, double, double, double, double, double)}).</p>
+     *
+     * @param valueSouthWest Value at the south-west corner
+     * @param valueSouthEast Value at the south-east corner
+     * @param valueNorthWest Value at the north-west corner
+     * @param valueNorthEast Value at the north-east corner
+     * @return Interpolated value, or 0 if all four corners are <code>NaN</code>
+     */
+    double interpolate(double valueSouthWest, double valueSouthEast, double valueNorthWest, double valueNorthEast) {
+        return Itu840.interpolateCorners(valueSouthWest, valueSouthEast, valueNorthWest, valueNorthEast,
+                                         weightSouthWest, weightSouthEast, weightNorthWest, weightNorthEast);
+    }
+
+    @Override
+    public String toString() {
+        return "GridLocation[latitude=" + latitude + ", longitude=" + longitude + "]";
+    }
+}
@@ -1,7 +1,9 @@
 package itu840;
 
 import java.io.*;
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * <p><b>ITU-R P.840-9 Cloud and Fog Attenuation Calculator</b></p>
@@ -36,7 +38,8 @@ import java.util.*;
  *   <li>Equation (2): K<sub>l</sub>, the cloud liquid water specific attenuation coefficient</li>
  *   <li>Equations (3)–(10): Double-Debye dielectric model for liquid water,
  *       including permittivity parameters (ε<sub>0</sub>, ε<sub>1</sub>, ε<sub>2</sub>),
- *       relaxation frequencies (f<sub>p</sub>, f<sub>s</sub>), and derived functions (ε&prime;, ε&Prime;, &eta;)</li>
+ *       relaxation frequencies (f<sub>p</sub>, f<sub>s</sub>), and derived functions (ε&prime;, ε&Prime;, &eta;),
+ *       at the reference temperature of 273.75 K or at any temperature T (see {@link DebyeCoefficients})</li>
  *   <li>Equation (11): A<sub>C</sub>, the slant path instantaneous cloud attenuation</li>
  *   <li>Equations (12), (14), (16): K<sub>L</sub>, the cloud liquid mass absorption coefficient</li>
  *   <li>Equation (13): A<sub>C</sub>, the slant path statistical cloud attenuation</li>
@@ -57,10 +60,10 @@ public class Itu840 {
     // p in percent: [0.01, 100] for the annual statistics and [0.1, 100] for the monthly statistics
     // Frequency in GHz: [1–200]
     // Elevation angle (θ) in degrees: (0, 90]
-    private static final double LATITUDE_MIN_DEGREES = -90.0;
-    private static final double LATITUDE_MAX_DEGREES = 90.0;
-    private static final double LONGITUDE_MIN_DEGREES = -180.0;
-    private static final double LONGITUDE_MAX_DEGREES = 180.0;
+    static final double LATITUDE_MIN_DEGREES = -90.0;
+    static final double LATITUDE_MAX_DEGREES = 90.0;
+    static final double LONGITUDE_MIN_DEGREES = -180.0;
+    static final double LONGITUDE_MAX_DEGREES = 180.0;
     private static final double P_MIN_PERCENT_ANNUAL = 0.01;
     private static final double P_MIN_PERCENT_MONTHLY = 0.1;
     private static final double P_MAX_PERCENT = 100.0;
@@ -70,10 +73,10 @@ public class Itu840 {
     private static final double ELEVATION_ANGLE_MAX_DEGREES = 90.0;
 
     // Reference temperature (273.75 K) used by ITU-R P.840-9
-    private static final double REFERENCE_TEMPERATURE_KELVIN = 273.75;
+    static final double REFERENCE_TEMPERATURE_KELVIN = 273.75;
 
     // Equation 15 NOTE threshold: P_L ≤ 0.02% ⇒ A_C = 0
-    private static final double CLOUD_PROBABILITY_THRESHOLD_PERCENT = 0.02;
+    static final double CLOUD_PROBABILITY_THRESHOLD_PERCENT = 0.02;
 
     // ===================== Gaussian parameters for K_L (Equations 12, 14, and 16) =====================
     private static final double GAUSSIAN_A1 = 0.1522;
@@ -92,12 +95,12 @@ public class Itu840 {
     private static final double SECONDARY_RELAXATION_FREQUENCY = computeSecondaryRelaxationFrequency();
 
     // ===================== Grid specifications (see README Table 1) =====================
-    private static final int NUMBER_OF_LATITUDE_POINTS = 721;
-    private static final int NUMBER_OF_LONGITUDE_POINTS = 1441;
-    private static final double GRID_LATITUDE_START_DEGREE = -90.0;
-    private static final double GRID_LATITUDE_STEP_DEGREE = 0.25;
-    private static final double GRID_LONGITUDE_START_DEGREE = -180.0;
-    private static final double GRID_LONGITUDE_STEP_DEGREE = 0.25;
+    static final int NUMBER_OF_LATITUDE_POINTS = 721;
+    static final int NUMBER_OF_LONGITUDE_POINTS = 1441;
+    static final double GRID_LATITUDE_START_DEGREE = -90.0;
+    static final double GRID_LATITUDE_STEP_DEGREE = 0.25;
+    static final double GRID_LONGITUDE_START_DEGREE = -180.0;
+    static final double GRID_LONGITUDE_STEP_DEGREE = 0.25;
 
     // ==================================================================================
     //                                  Physical Formulas
@@ -112,7 +115,21 @@ public class Itu840 {
      * @return ε<sub>0</sub> (dimensionless)
      */
     public static double computeEpsilon0() {
-        return 77.66 + 103.3 * (300.0 / REFERENCE_TEMPERATURE_KELVIN - 1.0);
+        return computeEpsilon0(REFERENCE_TEMPERATURE_KELVIN);
+    }
+
+    /**
+     * <p>Computes ε<sub>0</sub>, a permittivity parameter at a temperature T.</p>
+     * <p>Defined in ITU-R P.840-9, Equation (6).</p>
+     *
+     * @param temperature Temperature (T) in kelvin
+     * @return ε<sub>0</sub> (dimensionless)
+     * @throws IllegalArgumentException If T is not positive and finite
+     */
+    public static double computeEpsilon0(double temperature) {
+        checkTemperature(temperature);
+
+        return 77.66 + 103.3 * (300.0 / temperature - 1.0);
     }
 
     /**
@@ -127,6 +144,20 @@ public class Itu840 {
         return 0.0671 * EPSILON_0;
     }
 
+    /**
+     * <p>Computes ε<sub>1</sub>, a permittivity parameter at a temperature T.</p>
+     * <p>Defined in ITU-R P.840-9, Equation (7).</p>
+     *
+     * @param temperature Temperature (T) in kelvin
+     * @return ε<sub>1</sub> (dimensionless)
+     * @throws IllegalArgumentException If T is not positive and finite
+     */
+    public static double computeEpsilon1(double temperature) {
+        checkTemperature(temperature);
+
+        return 0.0671 * computeEpsilon0(temperature);
+    }
+
     /**
      * <p>Computes ε<sub>2</sub>, a constant permittivity parameter.</p>
      * <p>Defined in ITU-R P.840-9, Equation (8).</p>
@@ -148,7 +179,21 @@ public class Itu840 {
      * @return f<sub>p</sub> in gigahertz
      */
     public static double computePrincipalRelaxationFrequency() {
-        double x = 300.0 / REFERENCE_TEMPERATURE_KELVIN - 1.0;
+        return computePrincipalRelaxationFrequency(REFERENCE_TEMPERATURE_KELVIN);
+    }
+
+    /**
+     * <p>Computes f<sub>p</sub>, the principal relaxation frequency at a temperature T.</p>
+     * <p>Defined in ITU-R P.840-9, Equation (9).</p>
+     *
+     * @param temperature Temperature (T) in kelvin
+     * @return f<sub>p</sub> in gigahertz
+     * @throws IllegalArgumentException If T is not positive and finite
+     */
+    public static double computePrincipalRelaxationFrequency(double temperature) {
+        checkTemperature(temperature);
+
+        double x = 300.0 / temperature - 1.0;
 
         return 20.20 - 146.0 * x + 316.0 * x * x;
     }
@@ -165,6 +210,20 @@ public class Itu840 {
         return 39.8 * PRINCIPAL_RELAXATION_FREQUENCY;
     }
 
+    /**
+     * <p>Computes f<sub>s</sub>, the secondary relaxation frequency at a temperature T.</p>
+     * <p>Defined in ITU-R P.840-9, Equation (10).</p>
+     *
+     * @param temperature Temperature (T) in kelvin
+     * @return f<sub>s</sub> in gigahertz
+     * @throws IllegalArgumentException If T is not positive and finite
+     */
+    public static double computeSecondaryRelaxationFrequency(double temperature) {
+        checkTemperature(temperature);
+
+        return 39.8 * computePrincipalRelaxationFrequency(temperature);
+    }
+
     /**
      * <p>Computes ε&Prime;(f), the imaginary part of the complex permittivity of liquid water.</p>
      * <p>Defined in ITU-R P.840-9, Equation (4).</p>
@@ -219,7 +278,7 @@ public class Itu840 {
      */
     public static double computeCloudLiquidWaterSpecificAttenuationCoefficient(double frequency) {
         double epsilonImaginary = computeEpsilonImaginary(frequency);
-        double eta = computeEta(frequency);
+        double eta = (2 + computeEpsilonReal(frequency)) / epsilonImaginary; // Equation (3) without computing ε″ again
 
         return 0.819 * frequency / (epsilonImaginary * (1.0 + eta * eta));
     }
@@ -240,6 +299,189 @@ public class Itu840 {
         return cloudLiquidWaterSpecificAttenuationCoefficient * (term1 + term2 + GAUSSIAN_A3);
     }
 
+    /**
+     * <p>Computes ε&prime;(f), ε&Prime;(f), &eta;(f), K<sub>l</sub>(f), and K<sub>L</sub>(f) in one pass.</p>
+     * <p>Defined in ITU-R P.840-9, Equations (2)–(5) and (12, 14, 16).</p>
+     *
+     * <p>The (f/f<sub>p</sub>)<sup>2</sup> and (f/f<sub>s</sub>)<sup>2</sup> terms are computed once and ε&Prime;(f) is
+     *    computed once, instead of once per method. Each value is identical bit for bit to the one of the corresponding
+     *    <code>compute</code> method.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param destination Destination for the values, overwritten
+     * @return <code>destination</code>
+     */
+    public static DielectricProperties computeDielectricProperties(double frequency, DielectricProperties destination) {
+        // Same expressions and evaluation order as Equations (4) and (5) above
+        double principalDenominator = 1 + Math.pow(frequency / PRINCIPAL_RELAXATION_FREQUENCY, 2);
+        double secondaryDenominator = 1 + Math.pow(frequency / SECONDARY_RELAXATION_FREQUENCY, 2);
+
+        double epsilonImaginary = frequency * (EPSILON_0 - EPSILON_1) / (PRINCIPAL_RELAXATION_FREQUENCY * principalDenominator) +
+                                  frequency * (EPSILON_1 - EPSILON_2) / (SECONDARY_RELAXATION_FREQUENCY * secondaryDenominator);
+        double epsilonReal = (EPSILON_0 - EPSILON_1) / principalDenominator + (EPSILON_1 - EPSILON_2) / secondaryDenominator + EPSILON_2;
+        double eta = (2 + epsilonReal) / epsilonImaginary;
+        double cloudLiquidWaterSpecificAttenuationCoefficient = 0.819 * frequency / (epsilonImaginary * (1.0 + eta * eta));
+
+        double term1 = GAUSSIAN_A1 * Math.exp(-Math.pow(frequency - GAUSSIAN_F1, 2) / GAUSSIAN_SIGMA1);
+        double term2 = GAUSSIAN_A2 * Math.exp(-Math.pow(frequency - GAUSSIAN_F2, 2) / GAUSSIAN_SIGMA2);
+
+        destination.frequency = frequency;
+        destination.epsilonReal = epsilonReal;
+        destination.epsilonImaginary = epsilonImaginary;
+        destination.eta = eta;
+        destination.cloudLiquidWaterSpecificAttenuationCoefficient = cloudLiquidWaterSpecificAttenuationCoefficient;
+        destination.cloudLiquidMassAbsorptionCoefficient = cloudLiquidWaterSpecificAttenuationCoefficient * (term1 + term2 + GAUSSIAN_A3);
+
+        return destination;
+    }
+
+    // ==================================================================================
+    //                          Temperature-Dependent Formulas
+    // ==================================================================================
+
+    /**
+     * <p>Computes ε&Prime;(f), the imaginary part of the complex permittivity of liquid water at a temperature T.</p>
+     * <p>Defined in ITU-R P.840-9, Equation (4).</p>
+     *
+     * <p>The coefficients of Equations (6)–(10) are taken from {@link DebyeCoefficients#of(double)}, so they are computed
+     *    once per temperature. At T = 273.75 K the result is identical bit for bit to {@link #computeEpsilonImaginary(double)}.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param temperature Temperature (T) in kelvin
+     * @return ε&Prime;(f) (dimensionless)
+     * @throws IllegalArgumentException If T is not positive and finite
+     */
+    public static double computeEpsilonImaginary(double frequency, double temperature) {
+        return computeEpsilonImaginary(frequency, DebyeCoefficients.of(temperature));
+    }
+
+    /**
+     * <p>Computes ε&Prime;(f) with the coefficients of a temperature already at hand.</p>
+     * <p>Defined in ITU-R P.840-9, Equation (4).</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param coefficients Coefficients at T (see {@link DebyeCoefficients#of(double)})
+     * @return ε&Prime;(f) (dimensionless)
+     */
+    public static double computeEpsilonImaginary(double frequency, DebyeCoefficients coefficients) {
+        // Same expressions and evaluation order as computeEpsilonImaginary(double)
+        double epsilon0 = coefficients.epsilon0();
+        double epsilon1 = coefficients.epsilon1();
+        double epsilon2 = coefficients.epsilon2();
+        double principalRelaxationFrequency = coefficients.principalRelaxationFrequency();
+        double secondaryRelaxationFrequency = coefficients.secondaryRelaxationFrequency();
+
+        double term1 = frequency * (epsilon0 - epsilon1) /
+                       (principalRelaxationFrequency * (1 + Math.pow(frequency / principalRelaxationFrequency, 2)));
+        double term2 = frequency * (epsilon1 - epsilon2) /
+                       (secondaryRelaxationFrequency * (1 + Math.pow(frequency / secondaryRelaxationFrequency, 2)));
+
+        return term1 + term2;
+    }
+
+    /**
+     * <p>Computes ε&prime;(f), the real part of the complex permittivity of liquid water at a temperature T.</p>
+     * <p>Defined in ITU-R P.840-9, Equation (5).</p>
+     *
+     * <p>At T = 273.75 K the result is identical bit for bit to {@link #computeEpsilonReal(double)}.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param temperature Temperature (T) in kelvin
+     * @return ε&prime;(f) (dimensionless)
+     * @throws IllegalArgumentException If T is not positive and finite
+     */
+    public static double computeEpsilonReal(double frequency, double temperature) {
+        return computeEpsilonReal(frequency, DebyeCoefficients.of(temperature));
+    }
+
+    /**
+     * <p>Computes ε&prime;(f) with the coefficients of a temperature already at hand.</p>
+     * <p>Defined in ITU-R P.840-9, Equation (5).</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param coefficients Coefficients at T (see {@link DebyeCoefficients#of(double)})
+     * @return ε&prime;(f) (dimensionless)
+     */
+    public static double computeEpsilonReal(double frequency, DebyeCoefficients coefficients) {
+        // Same expressions and evaluation order as computeEpsilonReal(double)
+        double epsilon1 = coefficients.epsilon1();
+        double epsilon2 = coefficients.epsilon2();
+
+        double term1 = (coefficients.epsilon0() - epsilon1) / (1 + Math.pow(frequency / coefficients.principalRelaxationFrequency(), 2));
+        double term2 = (epsilon1 - epsilon2) / (1 + Math.pow(frequency / coefficients.secondaryRelaxationFrequency(), 2));
+
+        return term1 + term2 + epsilon2;
+    }
+
+    /**
+     * <p>Computes &eta;(f) at a temperature T.</p>
+     * <p>Defined in ITU-R P.840-9, Equation (3).</p>
+     *
+     * <p>At T = 273.75 K the result is identical bit for bit to {@link #computeEta(double)}.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param temperature Temperature (T) in kelvin
+     * @return &eta;(f) (dimensionless)
+     * @throws IllegalArgumentException If T is not positive and finite
+     */
+    public static double computeEta(double frequency, double temperature) {
+        return computeEta(frequency, DebyeCoefficients.of(temperature));
+    }
+
+    /**
+     * <p>Computes &eta;(f) with the coefficients of a temperature already at hand.</p>
+     * <p>Defined in ITU-R P.840-9, Equation (3).</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param coefficients Coefficients at T (see {@link DebyeCoefficients#of(double)})
+     * @return &eta;(f) (dimensionless)
+     */
+    public static double computeEta(double frequency, DebyeCoefficients coefficients) {
+        return (2 + computeEpsilonReal(frequency, coefficients)) / computeEpsilonImaginary(frequency, coefficients);
+    }
+
+    /**
+     * <p>Computes K<sub>l</sub>(f, T), the cloud liquid water specific attenuation coefficient at a temperature T.</p>
+     * <p>Defined in ITU-R P.840-9, Equation (2).</p>
+     *
+     * <p>At T = 273.75 K the result is identical bit for bit to {@link #computeCloudLiquidWaterSpecificAttenuationCoefficient(double)}.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param temperature Temperature (T) in kelvin
+     * @return K<sub>l</sub>(f, T) in (dB/km)/(g/m<sup>3</sup>)
+     * @throws IllegalArgumentException If T is not positive and finite
+     */
+    public static double computeCloudLiquidWaterSpecificAttenuationCoefficient(double frequency, double temperature) {
+        return computeCloudLiquidWaterSpecificAttenuationCoefficient(frequency, DebyeCoefficients.of(temperature));
+    }
+
+    /**
+     * <p>Computes K<sub>l</sub>(f, T) with the coefficients of a temperature already at hand, e.g. for all frequencies of one layer.</p>
+     * <p>Defined in ITU-R P.840-9, Equation (2).</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param coefficients Coefficients at T (see {@link DebyeCoefficients#of(double)})
+     * @return K<sub>l</sub>(f, T) in (dB/km)/(g/m<sup>3</sup>)
+     */
+    public static double computeCloudLiquidWaterSpecificAttenuationCoefficient(double frequency, DebyeCoefficients coefficients) {
+        double epsilonImaginary = computeEpsilonImaginary(frequency, coefficients);
+        double eta = (2 + computeEpsilonReal(frequency, coefficients)) / epsilonImaginary;
+
+        return 0.819 * frequency / (epsilonImaginary * (1.0 + eta * eta));
+    }
+
+    /**
+     * <p>Checks that a temperature of the double-Debye model is positive and finite.</p>
+     *
+     * @param temperature Temperature (T) in kelvin
+     * @throws IllegalArgumentException If T is not positive and finite
+     */
+    static void checkTemperature(double temperature) {
+        if (!(temperature > 0.0 && temperature < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("Temperature must be positive and finite, but is " + temperature + " K.");
+        }
+    }
+
     // ==================================================================================
     //                                Prediction Methods
     // ==================================================================================
@@ -260,7 +502,30 @@ public class Itu840 {
             double integratedCloudLiquidWaterContent,
             double elevationAngle) {
 
-        double cloudLiquidMassAbsorptionCoefficient = computeCloudLiquidMassAbsorptionCoefficient(frequency);
+        return computeSlantPathInstantaneousCloudAttenuation(frequency, integratedCloudLiquidWaterContent, elevationAngle,
+                                                             CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Slant path instantaneous cloud attenuation prediction method with a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (11).</p>
+     *
+     * <p>Same as {@link #computeSlantPathInstantaneousCloudAttenuation(double, double, double)},
+     *    with K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param integratedCloudLiquidWaterContent L in kg/m<sup>2</sup> (equivalently mm)
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return Attenuation in dB
+     */
+    public static double computeSlantPathInstantaneousCloudAttenuation(
+            double frequency,
+            double integratedCloudLiquidWaterContent,
+            double elevationAngle,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+
+        double cloudLiquidMassAbsorptionCoefficient = mode.value(frequency);
         double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
 
         return cloudLiquidMassAbsorptionCoefficient * integratedCloudLiquidWaterContent / sineOfElevationAngle;
@@ -295,140 +560,2009 @@ public class Itu840 {
             double elevationAngle,
             TreeMap<Double, double[][]> gridsByProbability) {
 
-        double probabilityBelow = gridsByProbability.floorKey(exceedanceProbability);
-        double probabilityAbove = gridsByProbability.ceilingKey(exceedanceProbability);
-
-        if (probabilityBelow == probabilityAbove) {
-            double integratedCloudLiquidWaterContent = bilinearInterpolation(latitude, longitude, gridsByProbability.get(probabilityBelow));
+        return computeSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), exceedanceProbability, elevationAngle, gridsByProbability);
+    }
 
-            return computeSlantPathInstantaneousCloudAttenuation(frequency, integratedCloudLiquidWaterContent, elevationAngle);
-        }
+    /**
+     * <p>Slant path statistical cloud attenuation prediction method at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, TreeMap)},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param gridsByProbability A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @return Attenuation in dB
+     */
+    public static double computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            TreeMap<Double, double[][]> gridsByProbability) {
 
-        double integratedCloudLiquidWaterContentBelow = bilinearInterpolation(latitude, longitude, gridsByProbability.get(probabilityBelow));
-        double integratedCloudLiquidWaterContentAbove = bilinearInterpolation(latitude, longitude, gridsByProbability.get(probabilityAbove));
+        double probabilityBelow = gridsByProbability.floorKey(exceedanceProbability);
+        double probabilityAbove = gridsByProbability.ceilingKey(exceedanceProbability);
 
-        double logP = Math.log10(exceedanceProbability);
-        double logPBelow = Math.log10(probabilityBelow);
-        double logPAbove = Math.log10(probabilityAbove);
+        double integratedCloudLiquidWaterContentBelow = bilinearInterpolation(location, gridsByProbability.get(probabilityBelow));
+        double integratedCloudLiquidWaterContentAbove = (probabilityAbove == probabilityBelow) ? integratedCloudLiquidWaterContentBelow
+                                                                                              : bilinearInterpolation(location, gridsByProbability.get(probabilityAbove));
 
-        double integratedCloudLiquidWaterContent =
-               integratedCloudLiquidWaterContentBelow +
-               (integratedCloudLiquidWaterContentAbove - integratedCloudLiquidWaterContentBelow) * (logP - logPBelow) / (logPAbove - logPBelow);
+        double integratedCloudLiquidWaterContent = computeIntegratedCloudLiquidWaterContent(exceedanceProbability, probabilityBelow, probabilityAbove,
+                                                                                            integratedCloudLiquidWaterContentBelow,
+                                                                                            integratedCloudLiquidWaterContentAbove);
 
         return computeSlantPathInstantaneousCloudAttenuation(frequency, integratedCloudLiquidWaterContent, elevationAngle);
     }
 
     /**
-     * <p>Log-normal approximation to the slant path statistical cloud attenuation</p>
-     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
-     *
-     * <p>For p &lt; P<sub>L</sub>: A<sub>C</sub>(f, p) =
-     *    K<sub>L</sub>(f) · exp(m<sub>L</sub> + &sigma;<sub>L</sub> · Q<sup>-1</sup>(p / P<sub>L</sub>)) / sin(&theta;)</p>
-     * <p>For p &ge; P<sub>L</sub>: A<sub>C</sub>(f, p) = 0</p>
+     * <p>Slant path statistical cloud attenuation prediction method with flat grids</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
      *
-     * <p><b>Note:</b> If the location is at a grid point where P<sub>L</sub> &le; 0.02%, or if the location
-     *    is between grid points where any of the four surrounding grid points has P<sub>L</sub> &le; 0.02%,
-     *    then A<sub>C</sub>(f, p) = 0 dB.</p>
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, TreeMap)},
+     *    with the grids of L(p) stored as {@link Grid}s (e.g. from {@link Grid#loadByProbability(String)}).</p>
      *
      * @param frequency Frequency in gigahertz
      * @param latitude Latitude in degrees
      * @param longitude Longitude in degrees
      * @param exceedanceProbability p in percent
      * @param elevationAngle Elevation angle (&theta;) in degrees
-     * @param logNormalMeanParameterGrid m<sub>L</sub> grid in natural log
-     * @param logNormalStandardDeviationParameterGrid &sigma;<sub>L</sub> grid in natural log
-     * @param cloudProbabilityGrid P<sub>L</sub> grid in percent
+     * @param gridsByProbability A map where each key is a p, and the corresponding value is the flat grid of L(p).
      * @return Attenuation in dB
      */
-    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+    public static double computeSlantPathStatisticalCloudAttenuation(
             double frequency,
             double latitude,
             double longitude,
             double exceedanceProbability,
             double elevationAngle,
-            double[][] logNormalMeanParameterGrid,
-            double[][] logNormalStandardDeviationParameterGrid,
-            double[][] cloudProbabilityGrid) {
+            NavigableMap<Double, Grid> gridsByProbability) {
 
-        if (isAnyCornerCloudProbabilityBelowThreshold(latitude, longitude, cloudProbabilityGrid)) {
-            return 0.0;
-        }
+        return computeSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), exceedanceProbability, elevationAngle, gridsByProbability);
+    }
 
-        double logNormalMeanParameter = bilinearInterpolation(latitude, longitude, logNormalMeanParameterGrid);
-        double logNormalStandardDeviationParameter = bilinearInterpolation(latitude, longitude, logNormalStandardDeviationParameterGrid);
-        double cloudProbability = bilinearInterpolation(latitude, longitude, cloudProbabilityGrid);
+    /**
+     * <p>Slant path statistical cloud attenuation prediction method with flat grids at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, NavigableMap)},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param gridsByProbability A map where each key is a p, and the corresponding value is the flat grid of L(p).
+     * @return Attenuation in dB
+     */
+    public static double computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            NavigableMap<Double, Grid> gridsByProbability) {
 
-        if (cloudProbability <= CLOUD_PROBABILITY_THRESHOLD_PERCENT || exceedanceProbability >= cloudProbability) {
-            return 0.0;
-        }
+        double probabilityBelow = gridsByProbability.floorKey(exceedanceProbability);
+        double probabilityAbove = gridsByProbability.ceilingKey(exceedanceProbability);
 
-        double cloudLiquidMassAbsorptionCoefficient = computeCloudLiquidMassAbsorptionCoefficient(frequency);
-        double inverseStandardNormalCCDF = computeInverseStandardNormalCCDF(exceedanceProbability / cloudProbability);
-        double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+        double integratedCloudLiquidWaterContentBelow = bilinearInterpolation(location, gridsByProbability.get(probabilityBelow));
+        double integratedCloudLiquidWaterContentAbove = (probabilityAbove == probabilityBelow) ? integratedCloudLiquidWaterContentBelow
+                                                                                              : bilinearInterpolation(location, gridsByProbability.get(probabilityAbove));
 
-        return cloudLiquidMassAbsorptionCoefficient *
-               Math.exp(logNormalMeanParameter + logNormalStandardDeviationParameter * inverseStandardNormalCCDF) / sineOfElevationAngle;
-    }
+        double integratedCloudLiquidWaterContent = computeIntegratedCloudLiquidWaterContent(exceedanceProbability, probabilityBelow, probabilityAbove,
+                                                                                            integratedCloudLiquidWaterContentBelow,
+                                                                                            integratedCloudLiquidWaterContentAbove);
 
-    // ==================================================================================
-    //                           File Reading and Grid Creation
-    // ==================================================================================
+        return computeSlantPathInstantaneousCloudAttenuation(frequency, integratedCloudLiquidWaterContent, elevationAngle);
+    }
 
     /**
-     * <p>Reads a digital map of L, m<sub>L</sub>, &sigma;<sub>L</sub>, or P<sub>L</sub>
-     *    and constructs the corresponding grid.</p>
+     * <p>Slant path statistical cloud attenuation prediction method with demand-loaded grids</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
      *
-     * <p>Grid points with <code>NaN</code> are preserved as {@link Double#NaN} in the grid.</p>
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, TreeMap)},
+     *    but reads only the grids of p<sub>below</sub> and p<sub>above</sub>, and only if no earlier query has read them.</p>
      *
-     * @param filePath Path to the digital map file
-     * @return A grid
-     * @throws IOException If:
-     * <ul>
-     *   <li>A row is missing or empty,</li>
-     *   <li>A row contains fewer or more columns than expected,</li>
-     *   <li>A value cannot be parsed as a number,</li>
-     *   <li>The file contains more rows than expected, or</li>
-     *   <li>The file cannot otherwise be read.</li>
-     * </ul>
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityStack Lazy stack of the grids of L(p) (e.g. from {@link LazyProbabilityStack#open(String)})
+     * @return Attenuation in dB
+     * @throws IOException If a bracketing digital map cannot be read
      */
-    public static double[][] readGridFromFile(String filePath) throws IOException {
-        double[][] grid = new double[NUMBER_OF_LATITUDE_POINTS][NUMBER_OF_LONGITUDE_POINTS];
-
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            for (int row = 0; row < NUMBER_OF_LATITUDE_POINTS; row++) {
-                String line = br.readLine();
-
-                if (line == null || line.trim().isEmpty()) {
-                    throw new IOException("Row " + (row + 1) + " is missing.");
-                }
+    public static double computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            LazyProbabilityStack probabilityStack) throws IOException {
 
-                String[] values = line.trim().split("\\s+");
+        return computeSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), exceedanceProbability, elevationAngle, probabilityStack);
+    }
 
-                if (values.length != NUMBER_OF_LONGITUDE_POINTS) {
-                    if (values.length < NUMBER_OF_LONGITUDE_POINTS) {
-                        throw new IOException("Row " + (row + 1) + " has fewer columns than expected.");
-                    }
-                    else {
-                        throw new IOException("Row " + (row + 1) + " has more columns than expected.");
-                    }
+    /**
+     * <p>Slant path statistical cloud attenuation prediction method with demand-loaded grids at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, LazyProbabilityStack)},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityStack Lazy stack of the grids of L(p) (e.g. from {@link LazyProbabilityStack#open(String)})
+     * @return Attenuation in dB
+     * @throws IOException If a bracketing digital map cannot be read
+     */
+    public static double computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            LazyProbabilityStack probabilityStack) throws IOException {
+
+        double probabilityBelow = probabilityStack.floorProbability(exceedanceProbability);
+        double probabilityAbove = probabilityStack.ceilingProbability(exceedanceProbability);
+
+        double integratedCloudLiquidWaterContentBelow = bilinearInterpolation(location, probabilityStack.grid(probabilityBelow));
+        double integratedCloudLiquidWaterContentAbove = (probabilityAbove == probabilityBelow) ? integratedCloudLiquidWaterContentBelow
+                                                                                              : bilinearInterpolation(location, probabilityStack.grid(probabilityAbove));
+
+        double integratedCloudLiquidWaterContent = computeIntegratedCloudLiquidWaterContent(exceedanceProbability, probabilityBelow, probabilityAbove,
+                                                                                            integratedCloudLiquidWaterContentBelow,
+                                                                                            integratedCloudLiquidWaterContentAbove);
+
+        return computeSlantPathInstantaneousCloudAttenuation(frequency, integratedCloudLiquidWaterContent, elevationAngle);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation prediction method on a probability axis</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, TreeMap)},
+     *    but without boxed lookups or log<sub>10</sub> of the bracketing probabilities, and without allocation.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @return Attenuation in dB
+     */
+    public static double computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis) {
+
+        return computeSlantPathStatisticalCloudAttenuation(frequency, latitude, longitude, exceedanceProbability, elevationAngle,
+                                                           probabilityAxis, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation prediction method on a probability axis with a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityAxis)},
+     *    with K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return Attenuation in dB
+     */
+    public static double computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+
+        return computeSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), exceedanceProbability, elevationAngle, probabilityAxis, mode);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation prediction method on a probability axis at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityAxis)},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @return Attenuation in dB
+     */
+    public static double computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis) {
+
+        return computeSlantPathStatisticalCloudAttenuation(frequency, location, exceedanceProbability, elevationAngle,
+                                                           probabilityAxis, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation prediction method on a probability axis at a grid location with a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, GridLocation, double, double, ProbabilityAxis)},
+     *    with K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return Attenuation in dB
+     */
+    public static double computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+
+        double integratedCloudLiquidWaterContent = computeIntegratedCloudLiquidWaterContent(location, exceedanceProbability, probabilityAxis);
+
+        return computeSlantPathInstantaneousCloudAttenuation(frequency, integratedCloudLiquidWaterContent, elevationAngle, mode);
+    }
+
+    /**
+     * <p>Computes L(p) at a grid location on a probability axis or cube, as in Equation (13).</p>
+     *
+     * @param location Grid location of the site
+     * @param exceedanceProbability p in percent
+     * @param probabilityLevels Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @return L(p) in kg/m<sup>2</sup>
+     */
+    static double computeIntegratedCloudLiquidWaterContent(GridLocation location, double exceedanceProbability, ProbabilityLevels probabilityLevels) {
+        int indexBelow = ProbabilityAxis.floorIndex(probabilityLevels.levels, exceedanceProbability);
+
+        if (probabilityLevels.levels[indexBelow] == exceedanceProbability) {
+            return probabilityLevels.interpolate(location, indexBelow);
+        }
+
+        int indexAbove = indexBelow + 1;
+
+        double integratedCloudLiquidWaterContentBelow = probabilityLevels.interpolate(location, indexBelow);
+        double integratedCloudLiquidWaterContentAbove = probabilityLevels.interpolate(location, indexAbove);
+
+        double logP = Math.log10(exceedanceProbability);
+        double logPBelow = probabilityLevels.log10Levels[indexBelow];
+        double logPAbove = probabilityLevels.log10Levels[indexAbove];
+
+        return interpolateInLog10Probability(integratedCloudLiquidWaterContentBelow, integratedCloudLiquidWaterContentAbove, logP - logPBelow, logPAbove - logPBelow);
+    }
+
+    /**
+     * <p>Computes L(p) of Equation (13) from the bracketing probabilities of a map or stack and the L interpolated at the site
+     *    for each, with the log<sub>10</sub> of the probabilities computed here. If p is a key, both are the same and L is returned as is.</p>
+     *
+     * @param exceedanceProbability p in percent
+     * @param probabilityBelow p<sub>below</sub> in percent
+     * @param probabilityAbove p<sub>above</sub> in percent
+     * @param integratedCloudLiquidWaterContentBelow L(p<sub>below</sub>) in kg/m<sup>2</sup>
+     * @param integratedCloudLiquidWaterContentAbove L(p<sub>above</sub>) in kg/m<sup>2</sup>
+     * @return L in kg/m<sup>2</sup>
+     */
+    private static double computeIntegratedCloudLiquidWaterContent(double exceedanceProbability, double probabilityBelow, double probabilityAbove,
+                                                                   double integratedCloudLiquidWaterContentBelow,
+                                                                   double integratedCloudLiquidWaterContentAbove) {
+        if (probabilityBelow == probabilityAbove) {
+            return integratedCloudLiquidWaterContentBelow;
+        }
+
+        double logP = Math.log10(exceedanceProbability);
+        double logPBelow = Math.log10(probabilityBelow);
+        double logPAbove = Math.log10(probabilityAbove);
+
+        return interpolateInLog10Probability(integratedCloudLiquidWaterContentBelow, integratedCloudLiquidWaterContentAbove, logP - logPBelow, logPAbove - logPBelow);
+    }
+
+    /**
+     * <p>Interpolates L between the bracketing probabilities of Equation (13), linearly in log<sub>10</sub>(p).</p>
+     *
+     * <p>L(p) = L(p<sub>below</sub>) + (L(p<sub>above</sub>) &minus; L(p<sub>below</sub>)) ·
+     *    (log<sub>10</sub>(p) &minus; log<sub>10</sub>(p<sub>below</sub>)) / (log<sub>10</sub>(p<sub>above</sub>) &minus; log<sub>10</sub>(p<sub>below</sub>)).
+     *    Every Equation (13) method, including {@link AttenuationRaster} and {@link AttenuationTensor}, interpolates with this
+     *    method, so that their results are identical bit for bit.</p>
+     *
+     * @param integratedCloudLiquidWaterContentBelow L(p<sub>below</sub>) in kg/m<sup>2</sup>
+     * @param integratedCloudLiquidWaterContentAbove L(p<sub>above</sub>) in kg/m<sup>2</sup>
+     * @param logPDifference log<sub>10</sub>(p) &minus; log<sub>10</sub>(p<sub>below</sub>)
+     * @param logPRange log<sub>10</sub>(p<sub>above</sub>) &minus; log<sub>10</sub>(p<sub>below</sub>)
+     * @return L(p) in kg/m<sup>2</sup>
+     */
+    static double interpolateInLog10Probability(double integratedCloudLiquidWaterContentBelow, double integratedCloudLiquidWaterContentAbove,
+                                                double logPDifference, double logPRange) {
+        return integratedCloudLiquidWaterContentBelow + (integratedCloudLiquidWaterContentAbove - integratedCloudLiquidWaterContentBelow) * logPDifference / logPRange;
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation prediction method on a cell-major probability cube</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, TreeMap)},
+     *    with L(p<sub>below</sub>) and L(p<sub>above</sub>) read from adjacent values of the cube.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityCube Cell-major cube of L(p)
+     * @return Attenuation in dB
+     */
+    public static double computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            ProbabilityCube probabilityCube) {
+
+        return computeSlantPathStatisticalCloudAttenuation(frequency, latitude, longitude, exceedanceProbability, elevationAngle,
+                                                           probabilityCube, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation prediction method on a cell-major probability cube with a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityCube)},
+     *    with K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityCube Cell-major cube of L(p)
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return Attenuation in dB
+     */
+    public static double computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            ProbabilityCube probabilityCube,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+
+        return computeSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), exceedanceProbability, elevationAngle, probabilityCube, mode);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation prediction method on a cell-major probability cube at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityCube)},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityCube Cell-major cube of L(p)
+     * @return Attenuation in dB
+     */
+    public static double computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            ProbabilityCube probabilityCube) {
+
+        return computeSlantPathStatisticalCloudAttenuation(frequency, location, exceedanceProbability, elevationAngle,
+                                                           probabilityCube, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation prediction method on a cell-major probability cube at a grid location with a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, GridLocation, double, double, ProbabilityCube)},
+     *    with K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityCube Cell-major cube of L(p)
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return Attenuation in dB
+     */
+    public static double computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            ProbabilityCube probabilityCube,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+
+        double integratedCloudLiquidWaterContent = computeIntegratedCloudLiquidWaterContent(location, exceedanceProbability, probabilityCube);
+
+        return computeSlantPathInstantaneousCloudAttenuation(frequency, integratedCloudLiquidWaterContent, elevationAngle, mode);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation curve on a probability axis</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Computes A<sub>C</sub> for many p at one site: the grid cell and its weights, K<sub>L</sub>(f), and sin(&theta;)
+     *    are computed once, and only the grids of L(p) that bracket a p are interpolated; with the p values sorted,
+     *    each of them is interpolated once.
+     *    Each value is identical to {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityAxis)}.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbabilities p values in percent, in any order
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @return Attenuation in dB for each p
+     */
+    public static double[] computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double[] exceedanceProbabilities,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis) {
+
+        return computeSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), exceedanceProbabilities, elevationAngle, probabilityAxis);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation curve on a probability axis at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double[], double, ProbabilityAxis)},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbabilities p values in percent, in any order
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @return Attenuation in dB for each p
+     */
+    public static double[] computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double[] exceedanceProbabilities,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis) {
+
+        double[] attenuations = new double[exceedanceProbabilities.length];
+        computeSlantPathStatisticalCloudAttenuation(frequency, location, exceedanceProbabilities, elevationAngle, probabilityAxis, attenuations);
+
+        return attenuations;
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation curve on a probability axis, into a caller-supplied buffer</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double[], double, ProbabilityAxis)},
+     *    but writes the attenuations into the given array, so that a buffer can be reused across sites.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbabilities p values in percent, in any order
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param attenuations Array that receives the attenuation in dB for each p; at least as long as the p values
+     */
+    public static void computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double[] exceedanceProbabilities,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis,
+            double[] attenuations) {
+
+        computeSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), exceedanceProbabilities, elevationAngle, probabilityAxis, attenuations);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation curve on a probability axis at a grid location, into a caller-supplied buffer</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double[], double, ProbabilityAxis, double[])},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbabilities p values in percent, in any order
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param attenuations Array that receives the attenuation in dB for each p; at least as long as the p values
+     */
+    public static void computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double[] exceedanceProbabilities,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis,
+            double[] attenuations) {
+
+        computeAttenuationsFromLevels(computeCloudLiquidMassAbsorptionCoefficient(frequency), Math.sin(Math.toRadians(elevationAngle)),
+                                      location, exceedanceProbabilities, probabilityAxis, attenuations);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation curve on a cell-major probability cube</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Computes A<sub>C</sub> for many p at one site from the column of L(p) at that site, whose contiguous cube values
+     *    are interpolated only at the levels that bracket a p. K<sub>L</sub>(f) and sin(&theta;) are computed once.
+     *    Each value is identical to {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityCube)}.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbabilities p values in percent, in any order
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityCube Cell-major cube of L(p)
+     * @return Attenuation in dB for each p
+     */
+    public static double[] computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double[] exceedanceProbabilities,
+            double elevationAngle,
+            ProbabilityCube probabilityCube) {
+
+        return computeSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), exceedanceProbabilities, elevationAngle, probabilityCube);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation curve on a cell-major probability cube at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double[], double, ProbabilityCube)},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbabilities p values in percent, in any order
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityCube Cell-major cube of L(p)
+     * @return Attenuation in dB for each p
+     */
+    public static double[] computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double[] exceedanceProbabilities,
+            double elevationAngle,
+            ProbabilityCube probabilityCube) {
+
+        double[] attenuations = new double[exceedanceProbabilities.length];
+        computeSlantPathStatisticalCloudAttenuation(frequency, location, exceedanceProbabilities, elevationAngle, probabilityCube, attenuations);
+
+        return attenuations;
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation curve on a cell-major probability cube, into a caller-supplied buffer</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double[], double, ProbabilityCube)},
+     *    but writes the attenuations into the given array, so that a buffer can be reused across sites.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbabilities p values in percent, in any order
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityCube Cell-major cube of L(p)
+     * @param attenuations Array that receives the attenuation in dB for each p; at least as long as the p values
+     */
+    public static void computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double[] exceedanceProbabilities,
+            double elevationAngle,
+            ProbabilityCube probabilityCube,
+            double[] attenuations) {
+
+        computeSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), exceedanceProbabilities, elevationAngle, probabilityCube, attenuations);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation curve on a cell-major probability cube at a grid location, into a caller-supplied buffer</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double[], double, ProbabilityCube, double[])},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbabilities p values in percent, in any order
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityCube Cell-major cube of L(p)
+     * @param attenuations Array that receives the attenuation in dB for each p; at least as long as the p values
+     */
+    public static void computeSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double[] exceedanceProbabilities,
+            double elevationAngle,
+            ProbabilityCube probabilityCube,
+            double[] attenuations) {
+
+        computeAttenuationsFromLevels(computeCloudLiquidMassAbsorptionCoefficient(frequency), Math.sin(Math.toRadians(elevationAngle)),
+                                      location, exceedanceProbabilities, probabilityCube, attenuations);
+    }
+
+    /**
+     * <p>Applies the log<sub>10</sub>(p) interpolation of Equation (13) and Equation (11) at the levels of one site.</p>
+     *
+     * <p>Interpolates L only at the levels that bracket a p, and keeps the last bracketing pair, so that p values in
+     *    ascending or descending order interpolate each level once. Nothing is allocated.</p>
+     *
+     * @param cloudLiquidMassAbsorptionCoefficient K<sub>L</sub>(f) in dB/(kg/m<sup>2</sup>)
+     * @param sineOfElevationAngle sin(&theta;)
+     * @param location Grid location of the site
+     * @param exceedanceProbabilities p values in percent
+     * @param probabilityLevels Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param attenuations Array that receives the attenuation in dB for each p
+     */
+    static void computeAttenuationsFromLevels(double cloudLiquidMassAbsorptionCoefficient, double sineOfElevationAngle, GridLocation location,
+                                              double[] exceedanceProbabilities, ProbabilityLevels probabilityLevels, double[] attenuations) {
+        double[] levels = probabilityLevels.levels;
+        double[] log10Levels = probabilityLevels.log10Levels;
+
+        // L at the pair of levels (pairIndexBelow, pairIndexBelow + 1); NaN above = not interpolated yet
+        int pairIndexBelow = -2;
+        double pairBelow = Double.NaN;
+        double pairAbove = Double.NaN;
+
+        for (int i = 0; i < exceedanceProbabilities.length; i++) {
+            double exceedanceProbability = exceedanceProbabilities[i];
+            int indexBelow = ProbabilityAxis.floorIndex(levels, exceedanceProbability);
+
+            if (indexBelow == pairIndexBelow + 1 && !Double.isNaN(pairAbove)) {
+                pairBelow = pairAbove;
+                pairAbove = Double.NaN;
+            }
+            else if (indexBelow == pairIndexBelow - 1) {
+                pairAbove = pairBelow;
+                pairBelow = probabilityLevels.interpolate(location, indexBelow);
+            }
+            else if (indexBelow != pairIndexBelow) {
+                pairBelow = probabilityLevels.interpolate(location, indexBelow);
+                pairAbove = Double.NaN;
+            }
+
+            pairIndexBelow = indexBelow;
+            double integratedCloudLiquidWaterContent;
+
+            if (levels[indexBelow] == exceedanceProbability) {
+                integratedCloudLiquidWaterContent = pairBelow;
+            }
+            else {
+                if (Double.isNaN(pairAbove)) {
+                    pairAbove = probabilityLevels.interpolate(location, indexBelow + 1);
                 }
 
-                for (int column = 0; column < NUMBER_OF_LONGITUDE_POINTS; column++) {
-                    try {
-                        grid[row][column] = Double.parseDouble(values[column]);
-                    }
-                    catch (NumberFormatException e) {
-                        throw new IOException("Invalid number at row " + (row + 1) + ", column " + (column + 1) + ": " + values[column] + ".", e);
-                    }
-                }
-            }
+                double integratedCloudLiquidWaterContentBelow = pairBelow;
+                double integratedCloudLiquidWaterContentAbove = pairAbove;
+
+                double logP = Math.log10(exceedanceProbability);
+                double logPBelow = log10Levels[indexBelow];
+                double logPAbove = log10Levels[indexBelow + 1];
+
+                integratedCloudLiquidWaterContent = interpolateInLog10Probability(
+                        integratedCloudLiquidWaterContentBelow, integratedCloudLiquidWaterContentAbove, logP - logPBelow, logPAbove - logPBelow);
+            }
+
+            attenuations[i] = cloudLiquidMassAbsorptionCoefficient * integratedCloudLiquidWaterContent / sineOfElevationAngle;
+        }
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>For p &lt; P<sub>L</sub>: A<sub>C</sub>(f, p) =
+     *    K<sub>L</sub>(f) · exp(m<sub>L</sub> + &sigma;<sub>L</sub> · Q<sup>-1</sup>(p / P<sub>L</sub>)) / sin(&theta;)</p>
+     * <p>For p &ge; P<sub>L</sub>: A<sub>C</sub>(f, p) = 0</p>
+     *
+     * <p><b>Note:</b> If the location is at a grid point where P<sub>L</sub> &le; 0.02%, or if the location
+     *    is between grid points where any of the four surrounding grid points has P<sub>L</sub> &le; 0.02%,
+     *    then A<sub>C</sub>(f, p) = 0 dB.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid P<sub>L</sub> grid in percent
+     * @return Attenuation in dB
+     */
+    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            double[][] logNormalMeanParameterGrid,
+            double[][] logNormalStandardDeviationParameterGrid,
+            double[][] cloudProbabilityGrid) {
+
+        return computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), exceedanceProbability, elevationAngle,
+                                                                                      logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, double[][], double[][], double[][])},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid P<sub>L</sub> grid in percent
+     * @return Attenuation in dB
+     */
+    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            double[][] logNormalMeanParameterGrid,
+            double[][] logNormalStandardDeviationParameterGrid,
+            double[][] cloudProbabilityGrid) {
+
+        if (isAnyCornerCloudProbabilityBelowThreshold(location, cloudProbabilityGrid)) {
+            return 0.0;
+        }
+
+        double logNormalMeanParameter = bilinearInterpolation(location, logNormalMeanParameterGrid);
+        double logNormalStandardDeviationParameter = bilinearInterpolation(location, logNormalStandardDeviationParameterGrid);
+        double cloudProbability = bilinearInterpolation(location, cloudProbabilityGrid);
+
+        if (cloudProbability <= CLOUD_PROBABILITY_THRESHOLD_PERCENT || exceedanceProbability >= cloudProbability) {
+            return 0.0;
+        }
+
+        double cloudLiquidMassAbsorptionCoefficient = computeCloudLiquidMassAbsorptionCoefficient(frequency);
+        double inverseStandardNormalCCDF = computeInverseStandardNormalCCDF(exceedanceProbability / cloudProbability);
+        double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+
+        return cloudLiquidMassAbsorptionCoefficient *
+               Math.exp(logNormalMeanParameter + logNormalStandardDeviationParameter * inverseStandardNormalCCDF) / sineOfElevationAngle;
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation with flat grids</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, double[][], double[][], double[][])},
+     *    with the parameter grids stored as {@link Grid}s (e.g. from {@link Grid#readFromFile(String)}).</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid Flat m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid Flat &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @return Attenuation in dB
+     */
+    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            Grid logNormalMeanParameterGrid,
+            Grid logNormalStandardDeviationParameterGrid,
+            Grid cloudProbabilityGrid) {
+
+        return computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequency, latitude, longitude, exceedanceProbability, elevationAngle,
+                                                                                      logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid,
+                                                                                      CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation with flat grids and a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, Grid, Grid, Grid)},
+     *    with K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid Flat m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid Flat &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return Attenuation in dB
+     */
+    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            Grid logNormalMeanParameterGrid,
+            Grid logNormalStandardDeviationParameterGrid,
+            Grid cloudProbabilityGrid,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+
+        return computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), exceedanceProbability, elevationAngle,
+                                                                                      logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid, mode);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation with flat grids at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, Grid, Grid, Grid)},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid Flat m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid Flat &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @return Attenuation in dB
+     */
+    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            Grid logNormalMeanParameterGrid,
+            Grid logNormalStandardDeviationParameterGrid,
+            Grid cloudProbabilityGrid) {
+
+        return computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequency, location, exceedanceProbability, elevationAngle,
+                                                                                      logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid,
+                                                                                      CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation with flat grids at a grid location with a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, GridLocation, double, double, Grid, Grid, Grid)},
+     *    with K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid Flat m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid Flat &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return Attenuation in dB
+     */
+    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            Grid logNormalMeanParameterGrid,
+            Grid logNormalStandardDeviationParameterGrid,
+            Grid cloudProbabilityGrid,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+
+        // K_L(f) is only computed where A_C is not 0
+        double logNormalTerm = computeLogNormalApproximationTerm(location, exceedanceProbability,
+                                                                 logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid);
+
+        if (logNormalTerm == 0.0) {
+            return 0.0;
+        }
+
+        double cloudLiquidMassAbsorptionCoefficient = mode.value(frequency);
+        double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+
+        return cloudLiquidMassAbsorptionCoefficient * logNormalTerm / sineOfElevationAngle;
+    }
+
+    /**
+     * <p>Fused kernel of the log-normal approximation to the slant path statistical cloud attenuation</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, GridLocation, double, double, Grid, Grid, Grid)},
+     *    in one pass over the cell: the four P<sub>L</sub> corners are read once for both the 0.02% corner test and the
+     *    interpolation of P<sub>L</sub>, and the m<sub>L</sub> and &sigma;<sub>L</sub> corners are read only if the
+     *    attenuation is not 0. K<sub>L</sub>(f) and sin(&theta;) are taken precomputed, so that callers that evaluate many
+     *    sites or probabilities at one frequency and elevation angle compute them once. The result is identical bit for bit.</p>
+     *
+     * @param cloudLiquidMassAbsorptionCoefficient K<sub>L</sub>(f) in dB/(kg/m<sup>2</sup>) (see {@link #computeCloudLiquidMassAbsorptionCoefficient(double)})
+     * @param sineOfElevationAngle sin(&theta;)
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param logNormalMeanParameterGrid Flat m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid Flat &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @return Attenuation in dB
+     */
+    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuationFused(
+            double cloudLiquidMassAbsorptionCoefficient,
+            double sineOfElevationAngle,
+            GridLocation location,
+            double exceedanceProbability,
+            Grid logNormalMeanParameterGrid,
+            Grid logNormalStandardDeviationParameterGrid,
+            Grid cloudProbabilityGrid) {
+
+        double logNormalTerm = computeLogNormalApproximationTerm(location, exceedanceProbability,
+                                                                 logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid);
+
+        if (logNormalTerm == 0.0) {
+            return 0.0;
+        }
+
+        return cloudLiquidMassAbsorptionCoefficient * logNormalTerm / sineOfElevationAngle;
+    }
+
+    /**
+     * <p>Computes the term T = exp(m<sub>L</sub> + &sigma;<sub>L</sub> · Q<sup>-1</sup>(p / P<sub>L</sub>)) of Equation (15),
+     *    so that A<sub>C</sub> = K<sub>L</sub>(f) · T / sin(&theta;), or 0 where A<sub>C</sub> is 0
+     *    (see {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuationFused(double, double, GridLocation, double, Grid, Grid, Grid)}).</p>
+     *
+     * @param location Grid location of the site
+     * @param exceedanceProbability p in percent
+     * @param logNormalMeanParameterGrid Flat m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid Flat &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @return T in kg/m<sup>2</sup>, or 0
+     */
+    static double computeLogNormalApproximationTerm(GridLocation location, double exceedanceProbability,
+                                                    Grid logNormalMeanParameterGrid, Grid logNormalStandardDeviationParameterGrid, Grid cloudProbabilityGrid) {
+        double cloudProbabilitySouthWest = cloudProbabilityGrid.value(location.southWestIndex);
+        double cloudProbabilitySouthEast = cloudProbabilityGrid.value(location.southEastIndex);
+        double cloudProbabilityNorthWest = cloudProbabilityGrid.value(location.northWestIndex);
+        double cloudProbabilityNorthEast = cloudProbabilityGrid.value(location.northEastIndex);
+
+        if ((cloudProbabilitySouthWest <= CLOUD_PROBABILITY_THRESHOLD_PERCENT) || (cloudProbabilitySouthEast <= CLOUD_PROBABILITY_THRESHOLD_PERCENT) ||
+            (cloudProbabilityNorthWest <= CLOUD_PROBABILITY_THRESHOLD_PERCENT) || (cloudProbabilityNorthEast <= CLOUD_PROBABILITY_THRESHOLD_PERCENT)) {
+            return 0.0;
+        }
+
+        double cloudProbability = location.interpolate(cloudProbabilitySouthWest, cloudProbabilitySouthEast, cloudProbabilityNorthWest, cloudProbabilityNorthEast);
+
+        if (cloudProbability <= CLOUD_PROBABILITY_THRESHOLD_PERCENT || exceedanceProbability >= cloudProbability) {
+            return 0.0;
+        }
+
+        double logNormalMeanParameter = bilinearInterpolation(location, logNormalMeanParameterGrid);
+        double logNormalStandardDeviationParameter = bilinearInterpolation(location, logNormalStandardDeviationParameterGrid);
+        double inverseStandardNormalCCDF = computeInverseStandardNormalCCDF(exceedanceProbability / cloudProbability);
+
+        return Math.exp(logNormalMeanParameter + logNormalStandardDeviationParameter * inverseStandardNormalCCDF);
+    }
+
+    /**
+     * <p>Computes the term T of Equation (15) at a latitude and longitude, or 0 where A<sub>C</sub> is 0
+     *    (see {@link #computeLogNormalApproximationTerm(GridLocation, double, Grid, Grid, Grid)}).</p>
+     *
+     * <p>Each grid is interpolated with the latitude-longitude methods rather than through one {@link GridLocation}, so that
+     *    callers that do not keep a location (e.g. {@link LinkEvaluator#attenuation(double, double, double)}) do not allocate
+     *    one per query. The result is identical bit for bit.</p>
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param logNormalMeanParameterGrid Flat m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid Flat &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @return T in kg/m<sup>2</sup>, or 0
+     */
+    static double computeLogNormalApproximationTerm(double latitude, double longitude, double exceedanceProbability,
+                                                    Grid logNormalMeanParameterGrid, Grid logNormalStandardDeviationParameterGrid, Grid cloudProbabilityGrid) {
+        if (isAnyCornerCloudProbabilityBelowThreshold(latitude, longitude, cloudProbabilityGrid)) {
+            return 0.0;
+        }
+
+        double cloudProbability = bilinearInterpolation(latitude, longitude, cloudProbabilityGrid);
+
+        if (cloudProbability <= CLOUD_PROBABILITY_THRESHOLD_PERCENT || exceedanceProbability >= cloudProbability) {
+            return 0.0;
+        }
+
+        double logNormalMeanParameter = bilinearInterpolation(latitude, longitude, logNormalMeanParameterGrid);
+        double logNormalStandardDeviationParameter = bilinearInterpolation(latitude, longitude, logNormalStandardDeviationParameterGrid);
+        double inverseStandardNormalCCDF = computeInverseStandardNormalCCDF(exceedanceProbability / cloudProbability);
+
+        return Math.exp(logNormalMeanParameter + logNormalStandardDeviationParameter * inverseStandardNormalCCDF);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation with a packed grid</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, Grid, Grid, Grid)},
+     *    with m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> read from one packed grid.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param packedLogNormalGrid Packed m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grid (see {@link PackedLogNormalGrid})
+     * @return Attenuation in dB
+     */
+    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            PackedLogNormalGrid packedLogNormalGrid) {
+
+        return computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequency, latitude, longitude, exceedanceProbability, elevationAngle,
+                                                                                      packedLogNormalGrid, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation with a packed grid and a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, PackedLogNormalGrid)},
+     *    with K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param packedLogNormalGrid Packed m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grid (see {@link PackedLogNormalGrid})
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return Attenuation in dB
+     */
+    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            PackedLogNormalGrid packedLogNormalGrid,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+
+        return computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), exceedanceProbability, elevationAngle,
+                                                                                      packedLogNormalGrid, mode);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation with a packed grid at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, PackedLogNormalGrid)},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param packedLogNormalGrid Packed m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grid (see {@link PackedLogNormalGrid})
+     * @return Attenuation in dB
+     */
+    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            PackedLogNormalGrid packedLogNormalGrid) {
+
+        return computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequency, location, exceedanceProbability, elevationAngle,
+                                                                                      packedLogNormalGrid, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation with a packed grid at a grid location with a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, GridLocation, double, double, PackedLogNormalGrid)},
+     *    with K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param packedLogNormalGrid Packed m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grid (see {@link PackedLogNormalGrid})
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return Attenuation in dB
+     */
+    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            PackedLogNormalGrid packedLogNormalGrid,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+
+        // K_L(f) is only computed where A_C is not 0
+        double logNormalTerm = computeLogNormalApproximationTerm(location, exceedanceProbability, packedLogNormalGrid);
+
+        if (logNormalTerm == 0.0) {
+            return 0.0;
+        }
+
+        double cloudLiquidMassAbsorptionCoefficient = mode.value(frequency);
+        double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+
+        return cloudLiquidMassAbsorptionCoefficient * logNormalTerm / sineOfElevationAngle;
+    }
+
+    /**
+     * <p>Fused kernel of the log-normal approximation to the slant path statistical cloud attenuation with a packed grid</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuationFused(double, double, GridLocation, double, Grid, Grid, Grid)},
+     *    with the 0.02% corner test reduced to one bit of the packed grid, and the three parameters of each corner read
+     *    together. The result is identical bit for bit.</p>
+     *
+     * @param cloudLiquidMassAbsorptionCoefficient K<sub>L</sub>(f) in dB/(kg/m<sup>2</sup>) (see {@link #computeCloudLiquidMassAbsorptionCoefficient(double)})
+     * @param sineOfElevationAngle sin(&theta;)
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param packedLogNormalGrid Packed m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grid (see {@link PackedLogNormalGrid})
+     * @return Attenuation in dB
+     */
+    public static double computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuationFused(
+            double cloudLiquidMassAbsorptionCoefficient,
+            double sineOfElevationAngle,
+            GridLocation location,
+            double exceedanceProbability,
+            PackedLogNormalGrid packedLogNormalGrid) {
+
+        double logNormalTerm = computeLogNormalApproximationTerm(location, exceedanceProbability, packedLogNormalGrid);
+
+        if (logNormalTerm == 0.0) {
+            return 0.0;
+        }
+
+        return cloudLiquidMassAbsorptionCoefficient * logNormalTerm / sineOfElevationAngle;
+    }
+
+    /**
+     * <p>Computes the term T = exp(m<sub>L</sub> + &sigma;<sub>L</sub> · Q<sup>-1</sup>(p / P<sub>L</sub>)) of Equation (15)
+     *    from a packed grid, or 0 where A<sub>C</sub> is 0
+     *    (see {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuationFused(double, double, GridLocation, double, PackedLogNormalGrid)}).</p>
+     *
+     * @param location Grid location of the site
+     * @param exceedanceProbability p in percent
+     * @param packedLogNormalGrid Packed m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grid
+     * @return T in kg/m<sup>2</sup>, or 0
+     */
+    static double computeLogNormalApproximationTerm(GridLocation location, double exceedanceProbability, PackedLogNormalGrid packedLogNormalGrid) {
+        if (packedLogNormalGrid.isAnyCornerCloudProbabilityBelowThreshold(location)) {
+            return 0.0;
+        }
+
+        double[] parameters = packedLogNormalGrid.parameters;
+        int southWest = location.southWestIndex * PackedLogNormalGrid.PARAMETERS_PER_POINT;
+        int southEast = location.southEastIndex * PackedLogNormalGrid.PARAMETERS_PER_POINT;
+        int northWest = location.northWestIndex * PackedLogNormalGrid.PARAMETERS_PER_POINT;
+        int northEast = location.northEastIndex * PackedLogNormalGrid.PARAMETERS_PER_POINT;
+
+        double cloudProbability = location.interpolate(parameters[southWest + PackedLogNormalGrid.CLOUD_PROBABILITY],
+                                                       parameters[southEast + PackedLogNormalGrid.CLOUD_PROBABILITY],
+                                                       parameters[northWest + PackedLogNormalGrid.CLOUD_PROBABILITY],
+                                                       parameters[northEast + PackedLogNormalGrid.CLOUD_PROBABILITY]);
+
+        if (cloudProbability <= CLOUD_PROBABILITY_THRESHOLD_PERCENT || exceedanceProbability >= cloudProbability) {
+            return 0.0;
+        }
+
+        double logNormalMeanParameter = location.interpolate(parameters[southWest + PackedLogNormalGrid.LOG_NORMAL_MEAN_PARAMETER],
+                                                             parameters[southEast + PackedLogNormalGrid.LOG_NORMAL_MEAN_PARAMETER],
+                                                             parameters[northWest + PackedLogNormalGrid.LOG_NORMAL_MEAN_PARAMETER],
+                                                             parameters[northEast + PackedLogNormalGrid.LOG_NORMAL_MEAN_PARAMETER]);
+        double logNormalStandardDeviationParameter = location.interpolate(parameters[southWest + PackedLogNormalGrid.LOG_NORMAL_STANDARD_DEVIATION_PARAMETER],
+                                                                          parameters[southEast + PackedLogNormalGrid.LOG_NORMAL_STANDARD_DEVIATION_PARAMETER],
+                                                                          parameters[northWest + PackedLogNormalGrid.LOG_NORMAL_STANDARD_DEVIATION_PARAMETER],
+                                                                          parameters[northEast + PackedLogNormalGrid.LOG_NORMAL_STANDARD_DEVIATION_PARAMETER]);
+        double inverseStandardNormalCCDF = computeInverseStandardNormalCCDF(exceedanceProbability / cloudProbability);
+
+        return Math.exp(logNormalMeanParameter + logNormalStandardDeviationParameter * inverseStandardNormalCCDF);
+    }
+
+    // ==================================================================================
+    //                              Frequency Sweep Methods
+    // ==================================================================================
+
+    /**
+     * <p>Computes K<sub>L</sub>(f) for an array of frequencies.</p>
+     * <p>Defined in ITU-R P.840-9, Equations (12, 14, 16).</p>
+     *
+     * <p>Each value is identical to {@link #computeCloudLiquidMassAbsorptionCoefficient(double)}; for the table, see
+     *    {@link CloudLiquidMassAbsorptionCoefficientTable.Mode#value(double[], double[])}.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param cloudLiquidMassAbsorptionCoefficients Array that receives K<sub>L</sub>(f) in dB/(kg/m<sup>2</sup>) for each frequency;
+     *                                              at least as long as the frequencies
+     */
+    public static void computeCloudLiquidMassAbsorptionCoefficient(double[] frequencies, double[] cloudLiquidMassAbsorptionCoefficients) {
+        for (int i = 0; i < frequencies.length; i++) {
+            cloudLiquidMassAbsorptionCoefficients[i] = computeCloudLiquidMassAbsorptionCoefficient(frequencies[i]);
+        }
+    }
+
+    /**
+     * <p>Slant path instantaneous cloud attenuation over a frequency sweep</p>
+     * <p>Defined in ITU-R P.840-9, Equation (11).</p>
+     *
+     * <p>Computes A<sub>C</sub> for many frequencies at one L and &theta;: sin(&theta;) is computed once.
+     *    Each value is identical to {@link #computeSlantPathInstantaneousCloudAttenuation(double, double, double)}.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param integratedCloudLiquidWaterContent L in kg/m<sup>2</sup> (equivalently mm)
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param attenuations Array that receives the attenuation in dB for each frequency; at least as long as the frequencies
+     */
+    public static void computeSlantPathInstantaneousCloudAttenuation(
+            double[] frequencies,
+            double integratedCloudLiquidWaterContent,
+            double elevationAngle,
+            double[] attenuations) {
+
+        computeSlantPathInstantaneousCloudAttenuation(frequencies, integratedCloudLiquidWaterContent, elevationAngle, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT, attenuations);
+    }
+
+    /**
+     * <p>Slant path instantaneous cloud attenuation over a frequency sweep with a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (11).</p>
+     *
+     * <p>Same as {@link #computeSlantPathInstantaneousCloudAttenuation(double[], double, double, double[])}, with
+     *    K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param integratedCloudLiquidWaterContent L in kg/m<sup>2</sup> (equivalently mm)
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @param attenuations Array that receives the attenuation in dB for each frequency; at least as long as the frequencies
+     */
+    public static void computeSlantPathInstantaneousCloudAttenuation(
+            double[] frequencies,
+            double integratedCloudLiquidWaterContent,
+            double elevationAngle,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode,
+            double[] attenuations) {
+
+        double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+
+        mode.value(frequencies, attenuations);
+
+        for (int i = 0; i < frequencies.length; i++) {
+            attenuations[i] = attenuations[i] * integratedCloudLiquidWaterContent / sineOfElevationAngle;
+        }
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation over a frequency sweep on a probability axis</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Computes A<sub>C</sub> for many frequencies at one site, p, and &theta;: L(p) is interpolated once, and the sweep
+     *    is Equation (11) over the frequencies. Each value is identical to
+     *    {@link #computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityAxis)}.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param attenuations Array that receives the attenuation in dB for each frequency; at least as long as the frequencies
+     */
+    public static void computeSlantPathStatisticalCloudAttenuation(
+            double[] frequencies,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis,
+            double[] attenuations) {
+
+        computeSlantPathStatisticalCloudAttenuation(frequencies, GridLocation.of(latitude, longitude), exceedanceProbability, elevationAngle, probabilityAxis, attenuations);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation over a frequency sweep on a probability axis at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double[], double, double, double, double, ProbabilityAxis, double[])},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param attenuations Array that receives the attenuation in dB for each frequency; at least as long as the frequencies
+     */
+    public static void computeSlantPathStatisticalCloudAttenuation(
+            double[] frequencies,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis,
+            double[] attenuations) {
+
+        computeSlantPathStatisticalCloudAttenuation(frequencies, location, exceedanceProbability, elevationAngle, probabilityAxis,
+                                                    CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT, attenuations);
+    }
+
+    /**
+     * <p>Slant path statistical cloud attenuation over a frequency sweep on a probability axis with a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeSlantPathStatisticalCloudAttenuation(double[], GridLocation, double, double, ProbabilityAxis, double[])},
+     *    with K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @param attenuations Array that receives the attenuation in dB for each frequency; at least as long as the frequencies
+     */
+    public static void computeSlantPathStatisticalCloudAttenuation(
+            double[] frequencies,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode,
+            double[] attenuations) {
+
+        double integratedCloudLiquidWaterContent = computeIntegratedCloudLiquidWaterContent(location, exceedanceProbability, probabilityAxis);
+
+        computeSlantPathInstantaneousCloudAttenuation(frequencies, integratedCloudLiquidWaterContent, elevationAngle, mode, attenuations);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation over a frequency sweep with flat grids</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Computes A<sub>C</sub> for many frequencies at one site, p, and &theta;: the corner check, the interpolations,
+     *    and exp(m<sub>L</sub> + &sigma;<sub>L</sub> · Q<sup>-1</sup>(p / P<sub>L</sub>)) are computed once, and
+     *    K<sub>L</sub>(f) only if the attenuation is not 0. Each value is identical to
+     *    {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, Grid, Grid, Grid)}.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid Flat m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid Flat &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @param attenuations Array that receives the attenuation in dB for each frequency; at least as long as the frequencies
+     */
+    public static void computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double[] frequencies,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            Grid logNormalMeanParameterGrid,
+            Grid logNormalStandardDeviationParameterGrid,
+            Grid cloudProbabilityGrid,
+            double[] attenuations) {
+
+        computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequencies, GridLocation.of(latitude, longitude), exceedanceProbability, elevationAngle,
+                                                                               logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid,
+                                                                               attenuations);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation over a frequency sweep with flat grids at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double[], double, double, double, double, Grid, Grid, Grid, double[])},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid Flat m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid Flat &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @param attenuations Array that receives the attenuation in dB for each frequency; at least as long as the frequencies
+     */
+    public static void computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double[] frequencies,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            Grid logNormalMeanParameterGrid,
+            Grid logNormalStandardDeviationParameterGrid,
+            Grid cloudProbabilityGrid,
+            double[] attenuations) {
+
+        computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequencies, location, exceedanceProbability, elevationAngle,
+                                                                               logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid,
+                                                                               CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT, attenuations);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation over a frequency sweep with flat grids and a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double[], GridLocation, double, double, Grid, Grid, Grid, double[])},
+     *    with K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid Flat m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid Flat &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @param attenuations Array that receives the attenuation in dB for each frequency; at least as long as the frequencies
+     */
+    public static void computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double[] frequencies,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            Grid logNormalMeanParameterGrid,
+            Grid logNormalStandardDeviationParameterGrid,
+            Grid cloudProbabilityGrid,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode,
+            double[] attenuations) {
+
+        double logNormalTerm = computeLogNormalApproximationTerm(location, exceedanceProbability,
+                                                                 logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid);
+
+        computeLogNormalAttenuationSweep(frequencies, logNormalTerm, elevationAngle, mode, attenuations);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation over a frequency sweep with a packed grid</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double[], double, double, double, double, Grid, Grid, Grid, double[])},
+     *    with m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> read from one packed grid.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param packedLogNormalGrid Packed m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grid (see {@link PackedLogNormalGrid})
+     * @param attenuations Array that receives the attenuation in dB for each frequency; at least as long as the frequencies
+     */
+    public static void computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double[] frequencies,
+            double latitude,
+            double longitude,
+            double exceedanceProbability,
+            double elevationAngle,
+            PackedLogNormalGrid packedLogNormalGrid,
+            double[] attenuations) {
+
+        computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequencies, GridLocation.of(latitude, longitude), exceedanceProbability, elevationAngle,
+                                                                               packedLogNormalGrid, attenuations);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation over a frequency sweep with a packed grid at a grid location</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double[], double, double, double, double, PackedLogNormalGrid, double[])},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param packedLogNormalGrid Packed m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grid (see {@link PackedLogNormalGrid})
+     * @param attenuations Array that receives the attenuation in dB for each frequency; at least as long as the frequencies
+     */
+    public static void computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double[] frequencies,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            PackedLogNormalGrid packedLogNormalGrid,
+            double[] attenuations) {
+
+        computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequencies, location, exceedanceProbability, elevationAngle,
+                                                                               packedLogNormalGrid, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT, attenuations);
+    }
+
+    /**
+     * <p>Log-normal approximation to the slant path statistical cloud attenuation over a frequency sweep with a packed grid and a K<sub>L</sub>(f) mode</p>
+     * <p>Defined in ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double[], GridLocation, double, double, PackedLogNormalGrid, double[])},
+     *    with K<sub>L</sub>(f) computed in the given mode.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param packedLogNormalGrid Packed m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grid (see {@link PackedLogNormalGrid})
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @param attenuations Array that receives the attenuation in dB for each frequency; at least as long as the frequencies
+     */
+    public static void computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double[] frequencies,
+            GridLocation location,
+            double exceedanceProbability,
+            double elevationAngle,
+            PackedLogNormalGrid packedLogNormalGrid,
+            CloudLiquidMassAbsorptionCoefficientTable.Mode mode,
+            double[] attenuations) {
+
+        double logNormalTerm = computeLogNormalApproximationTerm(location, exceedanceProbability, packedLogNormalGrid);
+
+        computeLogNormalAttenuationSweep(frequencies, logNormalTerm, elevationAngle, mode, attenuations);
+    }
+
+    /**
+     * <p>Applies K<sub>L</sub>(f) and sin(&theta;) of Equation (15) to the log-normal term of one site for each frequency.</p>
+     *
+     * @param frequencies Frequencies in gigahertz
+     * @param logNormalTerm exp(m<sub>L</sub> + &sigma;<sub>L</sub> · Q<sup>-1</sup>(p / P<sub>L</sub>)) in kg/m<sup>2</sup>, or 0
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @param attenuations Array that receives the attenuation in dB for each frequency
+     */
+    private static void computeLogNormalAttenuationSweep(double[] frequencies, double logNormalTerm, double elevationAngle,
+                                                         CloudLiquidMassAbsorptionCoefficientTable.Mode mode, double[] attenuations) {
+        if (logNormalTerm == 0.0) {
+            Arrays.fill(attenuations, 0, frequencies.length, 0.0);
+            return;
+        }
+
+        double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+
+        mode.value(frequencies, attenuations);
+
+        for (int i = 0; i < frequencies.length; i++) {
+            attenuations[i] = attenuations[i] * logNormalTerm / sineOfElevationAngle;
+        }
+    }
+
+    // ==================================================================================
+    //                            Inverse Prediction Methods
+    // ==================================================================================
+
+    /**
+     * <p>Inverse of the slant path statistical cloud attenuation prediction method on a probability axis</p>
+     * <p>Inverts ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Returns the p at which a fade margin is exceeded. The margin, converted to L = A · sin(&theta;) / K<sub>L</sub>(f),
+     *    is solved on the same curve that is piecewise linear in log<sub>10</sub>(p) that the forward method evaluates,
+     *    with L interpolated level by level from the largest p down to the crossing. If several p reach the margin (e.g. where L(p) is flat),
+     *    the largest is returned. Outside the curve, the result is clamped to the levels of the axis: the smallest level if
+     *    the margin is above L(p<sub>min</sub>) (the true p is smaller), the largest if it is at or below L(p<sub>max</sub>).</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param attenuation Fade margin in dB, greater than 0
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @return p in percent at which the attenuation is exceeded
+     * @throws IllegalArgumentException If the attenuation is not greater than 0
+     */
+    public static double computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double attenuation,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis) {
+
+        return computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), attenuation, elevationAngle, probabilityAxis);
+    }
+
+    /**
+     * <p>Inverse of the slant path statistical cloud attenuation prediction method on a probability axis at a grid location</p>
+     * <p>Inverts ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityAxis)},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param attenuation Fade margin in dB, greater than 0
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @return p in percent at which the attenuation is exceeded
+     * @throws IllegalArgumentException If the attenuation is not greater than 0
+     */
+    public static double computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double attenuation,
+            double elevationAngle,
+            ProbabilityAxis probabilityAxis) {
+
+        return solveExceedanceProbability(frequency, location, attenuation, elevationAngle, probabilityAxis);
+    }
+
+    /**
+     * <p>Inverse of the slant path statistical cloud attenuation prediction method on a cell-major probability cube</p>
+     * <p>Inverts ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityAxis)},
+     *    with the column of L(p) at the site read from the contiguous cube values.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param attenuation Fade margin in dB, greater than 0
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityCube Cell-major cube of L(p)
+     * @return p in percent at which the attenuation is exceeded
+     * @throws IllegalArgumentException If the attenuation is not greater than 0
+     */
+    public static double computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double attenuation,
+            double elevationAngle,
+            ProbabilityCube probabilityCube) {
+
+        return computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), attenuation, elevationAngle, probabilityCube);
+    }
+
+    /**
+     * <p>Inverse of the slant path statistical cloud attenuation prediction method on a cell-major probability cube at a grid location</p>
+     * <p>Inverts ITU-R P.840-9, Equation (13).</p>
+     *
+     * <p>Same as {@link #computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityCube)},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param attenuation Fade margin in dB, greater than 0
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityCube Cell-major cube of L(p)
+     * @return p in percent at which the attenuation is exceeded
+     * @throws IllegalArgumentException If the attenuation is not greater than 0
+     */
+    public static double computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double attenuation,
+            double elevationAngle,
+            ProbabilityCube probabilityCube) {
+
+        return solveExceedanceProbability(frequency, location, attenuation, elevationAngle, probabilityCube);
+    }
+
+    /**
+     * <p>Inverse of the log-normal approximation to the slant path statistical cloud attenuation</p>
+     * <p>Inverts ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Returns the p at which a fade margin is exceeded, in closed form:
+     *    p = P<sub>L</sub> · Q((ln(A · sin(&theta;) / K<sub>L</sub>(f)) &minus; m<sub>L</sub>) / &sigma;<sub>L</sub>).
+     *    Q is refined against {@link #computeInverseStandardNormalCCDF(double)} (see {@link #computeStandardNormalCCDF(double)}),
+     *    so the forward method at the returned p gives back the margin to within rounding.
+     *    Where Equation (15) gives 0 dB for every p (P<sub>L</sub> &le; 0.02% at the site or at a corner), the result is 0.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param attenuation Fade margin in dB, greater than 0
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid P<sub>L</sub> grid in percent
+     * @return p in percent at which the attenuation is exceeded
+     * @throws IllegalArgumentException If the attenuation is not greater than 0
+     */
+    public static double computeExceedanceProbabilityOfLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double attenuation,
+            double elevationAngle,
+            double[][] logNormalMeanParameterGrid,
+            double[][] logNormalStandardDeviationParameterGrid,
+            double[][] cloudProbabilityGrid) {
+
+        return computeExceedanceProbabilityOfLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), attenuation, elevationAngle,
+                                                                                                             logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid);
+    }
+
+    /**
+     * <p>Inverse of the log-normal approximation to the slant path statistical cloud attenuation at a grid location</p>
+     * <p>Inverts ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeExceedanceProbabilityOfLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, double[][], double[][], double[][])},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param attenuation Fade margin in dB, greater than 0
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid P<sub>L</sub> grid in percent
+     * @return p in percent at which the attenuation is exceeded
+     * @throws IllegalArgumentException If the attenuation is not greater than 0
+     */
+    public static double computeExceedanceProbabilityOfLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double attenuation,
+            double elevationAngle,
+            double[][] logNormalMeanParameterGrid,
+            double[][] logNormalStandardDeviationParameterGrid,
+            double[][] cloudProbabilityGrid) {
+
+        checkAttenuationMargin(attenuation);
+
+        if (isAnyCornerCloudProbabilityBelowThreshold(location, cloudProbabilityGrid)) {
+            return 0.0;
+        }
+
+        return solveLogNormalExceedanceProbability(frequency, attenuation, elevationAngle,
+                                                   bilinearInterpolation(location, logNormalMeanParameterGrid),
+                                                   bilinearInterpolation(location, logNormalStandardDeviationParameterGrid),
+                                                   bilinearInterpolation(location, cloudProbabilityGrid));
+    }
+
+    /**
+     * <p>Inverse of the log-normal approximation to the slant path statistical cloud attenuation with flat grids</p>
+     * <p>Inverts ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeExceedanceProbabilityOfLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, double[][], double[][], double[][])},
+     *    with the parameter grids stored as {@link Grid}s.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param attenuation Fade margin in dB, greater than 0
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid Flat m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid Flat &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @return p in percent at which the attenuation is exceeded
+     * @throws IllegalArgumentException If the attenuation is not greater than 0
+     */
+    public static double computeExceedanceProbabilityOfLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            double latitude,
+            double longitude,
+            double attenuation,
+            double elevationAngle,
+            Grid logNormalMeanParameterGrid,
+            Grid logNormalStandardDeviationParameterGrid,
+            Grid cloudProbabilityGrid) {
+
+        return computeExceedanceProbabilityOfLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(frequency, GridLocation.of(latitude, longitude), attenuation, elevationAngle,
+                                                                                                             logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid);
+    }
+
+    /**
+     * <p>Inverse of the log-normal approximation to the slant path statistical cloud attenuation with flat grids at a grid location</p>
+     * <p>Inverts ITU-R P.840-9, Equation (15).</p>
+     *
+     * <p>Same as {@link #computeExceedanceProbabilityOfLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, Grid, Grid, Grid)},
+     *    with the grid cell and the bilinear weights of the site precomputed.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param attenuation Fade margin in dB, greater than 0
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameterGrid Flat m<sub>L</sub> grid in natural log
+     * @param logNormalStandardDeviationParameterGrid Flat &sigma;<sub>L</sub> grid in natural log
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @return p in percent at which the attenuation is exceeded
+     * @throws IllegalArgumentException If the attenuation is not greater than 0
+     */
+    public static double computeExceedanceProbabilityOfLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+            double frequency,
+            GridLocation location,
+            double attenuation,
+            double elevationAngle,
+            Grid logNormalMeanParameterGrid,
+            Grid logNormalStandardDeviationParameterGrid,
+            Grid cloudProbabilityGrid) {
+
+        checkAttenuationMargin(attenuation);
+
+        if (isAnyCornerCloudProbabilityBelowThreshold(location, cloudProbabilityGrid)) {
+            return 0.0;
+        }
+
+        return solveLogNormalExceedanceProbability(frequency, attenuation, elevationAngle,
+                                                   bilinearInterpolation(location, logNormalMeanParameterGrid),
+                                                   bilinearInterpolation(location, logNormalStandardDeviationParameterGrid),
+                                                   bilinearInterpolation(location, cloudProbabilityGrid));
+    }
+
+    /**
+     * <p>Solves Equation (13) for p on the log<sub>10</sub>(p) piecewise-linear curve of L at one site.</p>
+     *
+     * <p>L is interpolated level by level while walking down from the largest p, so only the levels above the
+     *    crossing are read, and nothing is allocated.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param location Grid location of the site
+     * @param attenuation Fade margin in dB
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityLevels Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @return p in percent, clamped to the levels
+     */
+    private static double solveExceedanceProbability(double frequency, GridLocation location, double attenuation, double elevationAngle,
+                                                     ProbabilityLevels probabilityLevels) {
+        checkAttenuationMargin(attenuation);
+
+        double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+        double integratedCloudLiquidWaterContent = attenuation * sineOfElevationAngle / computeCloudLiquidMassAbsorptionCoefficient(frequency);
+
+        double[] levels = probabilityLevels.levels;
+        double[] log10Levels = probabilityLevels.log10Levels;
+        int last = levels.length - 1;
+
+        double integratedCloudLiquidWaterContentAbove = probabilityLevels.interpolate(location, last);
+
+        if (integratedCloudLiquidWaterContentAbove >= integratedCloudLiquidWaterContent) {
+            return levels[last];
+        }
+
+        // Walk down from the largest p to the first level that reaches L; the margin is crossed just above it
+        for (int indexBelow = last - 1; indexBelow >= 0; indexBelow--) {
+            double integratedCloudLiquidWaterContentBelow = probabilityLevels.interpolate(location, indexBelow);
+
+            if (integratedCloudLiquidWaterContentBelow >= integratedCloudLiquidWaterContent) {
+                double logPBelow = log10Levels[indexBelow];
+                double logPAbove = log10Levels[indexBelow + 1];
+
+                double logP = logPBelow + (integratedCloudLiquidWaterContent - integratedCloudLiquidWaterContentBelow) * (logPAbove - logPBelow) /
+                                          (integratedCloudLiquidWaterContentAbove - integratedCloudLiquidWaterContentBelow);
 
-            if (br.readLine() != null) {
-                throw new IOException("File has more rows than expected.");
+                return Math.max(levels[indexBelow], Math.min(levels[indexBelow + 1], Math.pow(10.0, logP)));
             }
+
+            integratedCloudLiquidWaterContentAbove = integratedCloudLiquidWaterContentBelow;
+        }
+
+        return levels[0];
+    }
+
+    /**
+     * <p>Solves Equation (15) for p from the interpolated log-normal parameters at one site.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param attenuation Fade margin in dB
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalMeanParameter m<sub>L</sub> in natural log
+     * @param logNormalStandardDeviationParameter &sigma;<sub>L</sub> in natural log
+     * @param cloudProbability P<sub>L</sub> in percent
+     * @return p in percent
+     */
+    private static double solveLogNormalExceedanceProbability(double frequency, double attenuation, double elevationAngle,
+                                                              double logNormalMeanParameter, double logNormalStandardDeviationParameter, double cloudProbability) {
+        if (cloudProbability <= CLOUD_PROBABILITY_THRESHOLD_PERCENT) {
+            return 0.0;
+        }
+
+        double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+        double logNormalTerm = attenuation * sineOfElevationAngle / computeCloudLiquidMassAbsorptionCoefficient(frequency);
+        double inverseStandardNormalCCDF = (Math.log(logNormalTerm) - logNormalMeanParameter) / logNormalStandardDeviationParameter;
+
+        if (Double.isNaN(inverseStandardNormalCCDF)) {
+            // σ_L = 0 and the margin equals exp(m_L) exactly: exceeded for every p below P_L
+            return cloudProbability;
+        }
+
+        return cloudProbability * computeStandardNormalCCDF(inverseStandardNormalCCDF);
+    }
+
+    private static void checkAttenuationMargin(double attenuation) {
+        if (!(attenuation > 0.0)) {
+            throw new IllegalArgumentException("Attenuation must be greater than 0 dB: " + attenuation + ".");
         }
+    }
+
+    // ==================================================================================
+    //                           File Reading and Grid Creation
+    // ==================================================================================
+
+    /**
+     * <p>Reads a digital map of L, m<sub>L</sub>, &sigma;<sub>L</sub>, or P<sub>L</sub>
+     *    and constructs the corresponding grid.</p>
+     *
+     * <p>Grid points with <code>NaN</code> are preserved as {@link Double#NaN} in the grid.</p>
+     *
+     * <p>The values are scanned directly from the file bytes (see {@link AsciiGridScanner}), with the same results
+     *    as {@link Double#parseDouble(String)}.</p>
+     *
+     * @param filePath Path to the digital map file
+     * @return A grid
+     * @throws IOException If:
+     * <ul>
+     *   <li>A row is missing or empty,</li>
+     *   <li>A row contains fewer or more columns than expected,</li>
+     *   <li>A value cannot be parsed as a number,</li>
+     *   <li>The file contains more rows than expected, or</li>
+     *   <li>The file cannot otherwise be read.</li>
+     * </ul>
+     */
+    public static double[][] readGridFromFile(String filePath) throws IOException {
+        byte[] bytes = Files.readAllBytes(Path.of(filePath));
+
+        return AsciiGridScanner.parseGrid(bytes, NUMBER_OF_LATITUDE_POINTS, NUMBER_OF_LONGITUDE_POINTS);
+    }
+
+    /**
+     * <p>Reads a digital map like {@link #readGridFromFile(String)}, but parses ranges of rows on the given executor.</p>
+     *
+     * <p>The file is split into ranges of rows at line boundaries, and all ranges are parsed into the same grid at once.
+     *    The row and column validation and the diagnostics are identical to the sequential method: if several rows are
+     *    invalid, the error of the first invalid row is reported.</p>
+     *
+     * @param filePath Path to the digital map file
+     * @param executor Executor that parses the ranges of rows, e.g. a {@link ForkJoinPool}
+     * @return A grid
+     * @throws IOException If:
+     * <ul>
+     *   <li>A row is missing or empty,</li>
+     *   <li>A row contains fewer or more columns than expected,</li>
+     *   <li>A value cannot be parsed as a number,</li>
+     *   <li>The file contains more rows than expected,</li>
+     *   <li>The calling thread is interrupted while waiting for the executor, or</li>
+     *   <li>The file cannot otherwise be read.</li>
+     * </ul>
+     */
+    public static double[][] readGridFromFile(String filePath, ExecutorService executor) throws IOException {
+        byte[] bytes = Files.readAllBytes(Path.of(filePath));
 
-        return grid;
+        return AsciiGridScanner.parseGrid(bytes, NUMBER_OF_LATITUDE_POINTS, NUMBER_OF_LONGITUDE_POINTS, Objects.requireNonNull(executor, "executor"));
     }
 
     /**
@@ -454,7 +2588,104 @@ public class Itu840 {
      * </ul>
      */
     public static TreeMap<Double, double[][]> loadGridsByProbability(String folderPath) throws IOException {
-        TreeMap<Double, double[][]> gridsByProbability = new TreeMap<>();
+        return loadByProbability(folderPath, Itu840::readGridFromFile, null);
+    }
+
+    /**
+     * <p>Loads the ITU-R P.840-9 digital maps of L from the specified package like {@link #loadGridsByProbability(String)},
+     *    but parses all <code>L_*.TXT</code> files at once on the given executor.</p>
+     *
+     * <p>The returned map and the error messages are the same as in the sequential method. If several files fail,
+     *    the failure of the first file in folder listing order is reported, as the sequential method would.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @param executor Executor that parses the files, e.g. a {@link ForkJoinPool}
+     * @return A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If:
+     * <ul>
+     *   <li>The folder is missing or empty,</li>
+     *   <li>A file cannot be parsed into a grid,</li>
+     *   <li>No valid <code>L_*.TXT</code> files are found,</li>
+     *   <li>The calling thread is interrupted while waiting for the executor, or</li>
+     *   <li>An I/O error occurs while reading files.</li>
+     * </ul>
+     */
+    public static TreeMap<Double, double[][]> loadGridsByProbability(String folderPath, ExecutorService executor) throws IOException {
+        return loadByProbability(folderPath, Itu840::readGridFromFile, Objects.requireNonNull(executor, "executor"));
+    }
+
+    /**
+     * <p>Loads the ITU-R P.840-9 digital maps of L from the specified package through their binary caches
+     *    (see {@link BinaryGridFile}) and constructs the corresponding grids.</p>
+     *
+     * <p>Missing or stale cache files are rebuilt from the <code>L_*.TXT</code> files on first use, later calls
+     *    only memory-map the cache files. The returned map is identical to {@link #loadGridsByProbability(String)}.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @return A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If:
+     * <ul>
+     *   <li>The folder is missing or empty,</li>
+     *   <li>A file cannot be parsed into a grid or its cache file cannot be written,</li>
+     *   <li>No valid <code>L_*.TXT</code> files are found, or</li>
+     *   <li>An I/O error occurs while reading files.</li>
+     * </ul>
+     */
+    public static TreeMap<Double, double[][]> loadGridsByProbabilityFromBinaryCache(String folderPath) throws IOException {
+        return loadByProbability(folderPath, BinaryGridFile::readGrid, null);
+    }
+
+    /**
+     * <p>Loads the ITU-R P.840-9 digital maps of L through their binary caches like
+     *    {@link #loadGridsByProbabilityFromBinaryCache(String)}, but reads (and if needed rebuilds) all cache files
+     *    at once on the given executor.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @param executor Executor that reads the files, e.g. a {@link ForkJoinPool}
+     * @return A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If:
+     * <ul>
+     *   <li>The folder is missing or empty,</li>
+     *   <li>A file cannot be parsed into a grid or its cache file cannot be written,</li>
+     *   <li>No valid <code>L_*.TXT</code> files are found,</li>
+     *   <li>The calling thread is interrupted while waiting for the executor, or</li>
+     *   <li>An I/O error occurs while reading files.</li>
+     * </ul>
+     */
+    public static TreeMap<Double, double[][]> loadGridsByProbabilityFromBinaryCache(String folderPath, ExecutorService executor) throws IOException {
+        return loadByProbability(folderPath, BinaryGridFile::readGrid, Objects.requireNonNull(executor, "executor"));
+    }
+
+    /**
+     * <p>Reads a digital map into a grid representation.</p>
+     *
+     * @param <T> Grid type
+     */
+    @FunctionalInterface
+    interface GridReader<T> {
+
+        /**
+         * <p>Reads a digital map.</p>
+         *
+         * @param filePath Path to the digital map file
+         * @return A grid
+         * @throws IOException If the digital map cannot be read
+         */
+        T read(String filePath) throws IOException;
+    }
+
+    /**
+     * <p>Loads the <code>L_*.TXT</code> digital maps of a folder with the given reader, sequentially or on an executor.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @param reader Reader that constructs a grid from a digital map file
+     * @param executor Executor that reads the files, or <code>null</code> to read them one after another on the calling thread
+     * @param <T> Grid type
+     * @return A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @throws IOException If the folder is missing or empty, a file cannot be read, or no valid files are found
+     */
+    static <T> TreeMap<Double, T> loadByProbability(String folderPath, GridReader<T> reader, ExecutorService executor) throws IOException {
+        TreeMap<Double, T> gridsByProbability = new TreeMap<>();
 
         File folder = new File(folderPath);
         File[] files = folder.listFiles();
@@ -463,51 +2694,152 @@ public class Itu840 {
             throw new IOException("Folder is empty or missing: " + folderPath + ".");
         }
 
+        List<File> probabilityFiles = new ArrayList<>();
+        List<Double> exceedanceProbabilities = new ArrayList<>();
+
         for (File file : files) {
-            String fileName = file.getName();
+            Double exceedanceProbability = parseExceedanceProbability(file.getName());
 
-            if (!fileName.startsWith("L_") || !fileName.toUpperCase().endsWith(".TXT")) {
-                continue;
+            if (exceedanceProbability != null) {
+                probabilityFiles.add(file);
+                exceedanceProbabilities.add(exceedanceProbability);
             }
+        }
 
-            String numericPart = fileName.substring(fileName.indexOf('_') + 1, fileName.lastIndexOf('.'));
+        List<Future<T>> futures = new ArrayList<>();
 
-            if (!numericPart.matches("\\d+")) {
-                continue; // Skips files like L_mean.TXT and L_std.TXT
+        if (executor != null) {
+            for (File file : probabilityFiles) {
+                futures.add(executor.submit(() -> reader.read(file.getPath())));
             }
+        }
 
-            double exceedanceProbability;
+        try {
+            for (int i = 0; i < probabilityFiles.size(); i++) {
+                String fileName = probabilityFiles.get(i).getName();
 
-            // 001, 002, 003 ,005 => 0.01%, 0.02%, 0.03%, 0.05%
-            if (numericPart.length() == 3 && numericPart.startsWith("00")) {
-                int val = Integer.parseInt(numericPart);
-                exceedanceProbability = val / 100.0;
+                try {
+                    T grid = (executor == null) ? reader.read(probabilityFiles.get(i).getPath()) : await(futures.get(i));
+                    gridsByProbability.put(exceedanceProbabilities.get(i), grid);
+                }
+                catch (IOException e) {
+                    throw new IOException("Failed to read " + fileName + " in " + folderPath + ".", e);
+                }
             }
-            // 01, 02, 03, 05 => 0.1%, 0.2%, 0.3%, 0.5%
-            else if (numericPart.length() == 2 && numericPart.startsWith("0")) {
-                int val = Integer.parseInt(numericPart);
-                exceedanceProbability = val / 10.0;
+        }
+        finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
             }
-            // 1, 2, 3, 5, 10, 20, 30, 40, 50, 60, 70, 80, 90, 95, 99, 100 => 1%, 2%, 3%, 5%, 10%, 20%, 30%, 40%, 50%, 60%, 70%, 80%, 90%, 95%, 99%, 100%
-            else {
-                int val = Integer.parseInt(numericPart);
-                exceedanceProbability = val;
+        }
+
+        if (gridsByProbability.isEmpty()) {
+            throw new IOException("No valid L_*.TXT probability maps found in " + folderPath + ".");
+        }
+
+        return gridsByProbability;
+    }
+
+    /**
+     * <p>Waits for a file reading task on an executor and rethrows its failure as on the calling thread.</p>
+     *
+     * @param future Pending task
+     * @param <T> Result type of the task
+     * @return Result of the task
+     * @throws IOException If the task failed with an I/O error, or the calling thread is interrupted
+     */
+    static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a file to be read.");
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            // ForkJoinPool wraps checked exceptions of submitted tasks in RuntimeExceptions
+            for (Throwable wrapped = cause; wrapped != null; wrapped = wrapped.getCause()) {
+                if (wrapped instanceof IOException io) {
+                    throw io;
+                }
             }
 
-            try {
-                double[][] grid = readGridFromFile(file.getPath());
-                gridsByProbability.put(exceedanceProbability, grid);
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
             }
-            catch (IOException e) {
-                throw new IOException("Failed to read " + fileName + " in " + folderPath + ".", e);
+            if (cause instanceof Error error) {
+                throw error;
             }
+
+            throw new IOException(cause);
         }
+    }
 
-        if (gridsByProbability.isEmpty()) {
+    /**
+     * <p>Indexes the <code>L_*.TXT</code> digital maps of a folder by p, without reading them.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @return A map where each key is a p, and the corresponding value is the path to the digital map of L(p).
+     * @throws IOException If the folder is missing or empty, or no valid files are found
+     */
+    static TreeMap<Double, String> indexFilesByProbability(String folderPath) throws IOException {
+        File[] files = new File(folderPath).listFiles();
+
+        if (files == null || files.length == 0) {
+            throw new IOException("Folder is empty or missing: " + folderPath + ".");
+        }
+
+        TreeMap<Double, String> filePathsByProbability = new TreeMap<>();
+
+        for (File file : files) {
+            Double exceedanceProbability = parseExceedanceProbability(file.getName());
+
+            if (exceedanceProbability != null) {
+                filePathsByProbability.put(exceedanceProbability, file.getPath());
+            }
+        }
+
+        if (filePathsByProbability.isEmpty()) {
             throw new IOException("No valid L_*.TXT probability maps found in " + folderPath + ".");
         }
 
-        return gridsByProbability;
+        return filePathsByProbability;
+    }
+
+    /**
+     * <p>Extracts p from the name of an <code>L_*.TXT</code> digital map.</p>
+     *
+     * @param fileName File name, e.g. <code>L_001.TXT</code>
+     * @return p in percent, or <code>null</code> if the file is not a probability map of L
+     */
+    static Double parseExceedanceProbability(String fileName) {
+        if (!fileName.startsWith("L_") || !fileName.toUpperCase().endsWith(".TXT")) {
+            return null;
+        }
+
+        String numericPart = fileName.substring(fileName.indexOf('_') + 1, fileName.lastIndexOf('.'));
+
+        if (!numericPart.matches("\\d+")) {
+            return null; // Skips files like L_mean.TXT and L_std.TXT
+        }
+
+        // 001, 002, 003 ,005 => 0.01%, 0.02%, 0.03%, 0.05%
+        if (numericPart.length() == 3 && numericPart.startsWith("00")) {
+            int val = Integer.parseInt(numericPart);
+            return val / 100.0;
+        }
+        // 01, 02, 03, 05 => 0.1%, 0.2%, 0.3%, 0.5%
+        else if (numericPart.length() == 2 && numericPart.startsWith("0")) {
+            int val = Integer.parseInt(numericPart);
+            return val / 10.0;
+        }
+        // 1, 2, 3, 5, 10, 20, 30, 40, 50, 60, 70, 80, 90, 95, 99, 100 => 1%, 2%, 3%, 5%, 10%, 20%, 30%, 40%, 50%, 60%, 70%, 80%, 90%, 95%, 99%, 100%
+        else {
+            int val = Integer.parseInt(numericPart);
+            return (double) val;
+        }
     }
 
     // ==================================================================================
@@ -526,35 +2858,215 @@ public class Itu840 {
      * @return Interpolated value at (latitude, longitude), or 0 if no valid neighbors exist
      */
     public static double bilinearInterpolation(double latitude, double longitude, double[][] grid) {
-        int southernLatitudeIndex = (int) Math.floor((latitude - GRID_LATITUDE_START_DEGREE) / GRID_LATITUDE_STEP_DEGREE);
-        southernLatitudeIndex = Math.max(0, Math.min(southernLatitudeIndex, NUMBER_OF_LATITUDE_POINTS - 2));
-        int northernLatitudeIndex = southernLatitudeIndex + 1;
+        return bilinearInterpolation(GridLocation.of(latitude, longitude), grid);
+    }
+
+    /**
+     * <p>Performs bilinear interpolation on a flat grid (see {@link #bilinearInterpolation(double, double, double[][])}).</p>
+     *
+     * <p>The four corners are read from the contiguous row-major values,
+     *    and the result is identical to the <code>double[][]</code> overload.</p>
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param grid A flat grid
+     * @return Interpolated value at (latitude, longitude), or 0 if no valid neighbors exist
+     */
+    public static double bilinearInterpolation(double latitude, double longitude, Grid grid) {
+        return bilinearInterpolation(GridLocation.of(latitude, longitude), grid);
+    }
+
+    /**
+     * <p>Performs bilinear interpolation on a flat grid at many locations
+     *    (see {@link #bilinearInterpolation(double, double, Grid)}).</p>
+     *
+     * <p>The locations are given as a structure of arrays. For {@link Grid.StorageMode#DOUBLE} grids, and if the
+     *    <code>jdk.incubator.vector</code> module is present (see {@link #isBatchInterpolationVectorized()}),
+     *    several locations are interpolated at once with the Vector API: indices, fractions, and weights lane-wise,
+     *    the corners by gathers, and the <code>NaN</code> corners by masked additions. Otherwise, and for vectors
+     *    with a location outside [&minus;90°, 90°] × [&minus;180°, 180°], the scalar method is used.
+     *    Either way, each result is identical to the scalar method bit for bit.</p>
+     *
+     * @param latitudes Latitudes in degrees
+     * @param longitudes Longitudes in degrees, same length as the latitudes
+     * @param grid A flat grid
+     * @param destination Receives the interpolated values, at least as long as the latitudes
+     * @throws IllegalArgumentException If the longitudes do not have the length of the latitudes, or the destination is shorter
+     */
+    public static void bilinearInterpolation(double[] latitudes, double[] longitudes, Grid grid, double[] destination) {
+        if (longitudes.length != latitudes.length || destination.length < latitudes.length) {
+            throw new IllegalArgumentException("Expected " + latitudes.length + " longitudes and destination elements, but got "
+                    + longitudes.length + " and " + destination.length + ".");
+        }
 
-        int westernLongitudeIndex = (int) Math.floor((longitude - GRID_LONGITUDE_START_DEGREE) / GRID_LONGITUDE_STEP_DEGREE);
-        int easternLongitudeIndex = (westernLongitudeIndex + 1) % NUMBER_OF_LONGITUDE_POINTS;
+        BatchInterpolationKernel kernel = VectorKernelHolder.KERNEL;
 
-        if (easternLongitudeIndex == 0) {
-            easternLongitudeIndex = 1;
+        if (kernel != null && grid instanceof Grid.DoubleGrid doubleGrid) {
+            kernel.bilinearInterpolation(latitudes, longitudes, doubleGrid, destination);
+            return;
+        }
+
+        for (int i = 0; i < latitudes.length; i++) {
+            destination[i] = bilinearInterpolation(latitudes[i], longitudes[i], grid);
         }
+    }
+
+    /**
+     * <p>Returns whether {@link #bilinearInterpolation(double[], double[], Grid, double[])} uses the Vector API,
+     *    i.e., the library was built with the <code>vector-api</code> profile, the <code>jdk.incubator.vector</code> module is
+     *    present, and the hardware has vectors of at least two doubles.</p>
+     *
+     * @return True if the batch interpolation is vectorized
+     */
+    public static boolean isBatchInterpolationVectorized() {
+        return VectorKernelHolder.KERNEL != null;
+    }
+
+    /**
+     * <p>Performs bilinear interpolation at one probability level of a cell-major cube
+     *    (see {@link #bilinearInterpolation(double, double, double[][])}).</p>
+     *
+     * <p>The result is identical to the interpolation on the grid of that level.</p>
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param probabilityCube Cell-major cube of L(p)
+     * @param level Level index, in ascending order of p
+     * @return Interpolated value at (latitude, longitude), or 0 if no valid neighbors exist
+     */
+    public static double bilinearInterpolation(double latitude, double longitude, ProbabilityCube probabilityCube, int level) {
+        return bilinearInterpolation(GridLocation.of(latitude, longitude), probabilityCube, level);
+    }
+
+    /**
+     * <p>Performs bilinear interpolation at every probability level of a cell-major cube, locating the cell only once.</p>
+     *
+     * <p>The four corner columns are contiguous in the cube, so the whole column of L(p) at a site is read from
+     *    a few cache lines. Each value is identical to the interpolation on the grid of its level.</p>
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param probabilityCube Cell-major cube of L(p)
+     * @param destination Array that receives L(p) at each level, in ascending order of p; at least {@link ProbabilityCube#size()} long
+     */
+    public static void bilinearInterpolation(double latitude, double longitude, ProbabilityCube probabilityCube, double[] destination) {
+        bilinearInterpolation(GridLocation.of(latitude, longitude), probabilityCube, destination);
+    }
+
+    /**
+     * <p>Performs bilinear interpolation at every probability level of an axis, locating the cell only once.</p>
+     *
+     * <p>Each value is identical to the interpolation on the grid of its level.</p>
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param probabilityAxis Levels and grids of L(p)
+     * @param destination Array that receives L(p) at each level, in ascending order of p; at least {@link ProbabilityAxis#size()} long
+     */
+    public static void bilinearInterpolation(double latitude, double longitude, ProbabilityAxis probabilityAxis, double[] destination) {
+        bilinearInterpolation(GridLocation.of(latitude, longitude), probabilityAxis, destination);
+    }
+
+    /**
+     * <p>Performs bilinear interpolation at a grid location (see {@link #bilinearInterpolation(double, double, double[][])}).</p>
+     *
+     * <p>Only the four corners are read; the cell and the weights come from the location.
+     *    The result is identical to the latitude-longitude overload.</p>
+     *
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param grid A grid
+     * @return Interpolated value at the location, or 0 if no valid neighbors exist
+     */
+    public static double bilinearInterpolation(GridLocation location, double[][] grid) {
+        return location.interpolate(grid[location.southernLatitudeIndex][location.westernLongitudeIndex],
+                                    grid[location.southernLatitudeIndex][location.easternLongitudeIndex],
+                                    grid[location.northernLatitudeIndex][location.westernLongitudeIndex],
+                                    grid[location.northernLatitudeIndex][location.easternLongitudeIndex]);
+    }
+
+    /**
+     * <p>Performs bilinear interpolation on a flat grid at a grid location (see {@link #bilinearInterpolation(double, double, Grid)}).</p>
+     *
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param grid A flat grid
+     * @return Interpolated value at the location, or 0 if no valid neighbors exist
+     */
+    public static double bilinearInterpolation(GridLocation location, Grid grid) {
+        return location.interpolate(grid.value(location.southWestIndex), grid.value(location.southEastIndex),
+                                    grid.value(location.northWestIndex), grid.value(location.northEastIndex));
+    }
 
-        double southernLatitude = GRID_LATITUDE_START_DEGREE + southernLatitudeIndex * GRID_LATITUDE_STEP_DEGREE;
-        double northernLatitude = GRID_LATITUDE_START_DEGREE + northernLatitudeIndex * GRID_LATITUDE_STEP_DEGREE;
-        double westernLongitude = GRID_LONGITUDE_START_DEGREE + westernLongitudeIndex * GRID_LONGITUDE_STEP_DEGREE;
-        double easternLongitude = GRID_LONGITUDE_START_DEGREE + easternLongitudeIndex * GRID_LONGITUDE_STEP_DEGREE;
+    /**
+     * <p>Performs bilinear interpolation at one probability level of a cell-major cube at a grid location
+     *    (see {@link #bilinearInterpolation(double, double, ProbabilityCube, int)}).</p>
+     *
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param probabilityCube Cell-major cube of L(p)
+     * @param level Level index, in ascending order of p
+     * @return Interpolated value at the location, or 0 if no valid neighbors exist
+     */
+    public static double bilinearInterpolation(GridLocation location, ProbabilityCube probabilityCube, int level) {
+        int numberOfLevels = probabilityCube.levels.length;
+        double[] values = probabilityCube.values;
 
-        double xFraction = (longitude - westernLongitude) / (easternLongitude - westernLongitude);
-        double yFraction = (latitude - southernLatitude) / (northernLatitude - southernLatitude);
+        return location.interpolate(values[location.southWestIndex * numberOfLevels + level], values[location.southEastIndex * numberOfLevels + level],
+                                    values[location.northWestIndex * numberOfLevels + level], values[location.northEastIndex * numberOfLevels + level]);
+    }
 
-        double valueSouthWest = grid[southernLatitudeIndex][westernLongitudeIndex];
-        double valueSouthEast = grid[southernLatitudeIndex][easternLongitudeIndex];
-        double valueNorthWest = grid[northernLatitudeIndex][westernLongitudeIndex];
-        double valueNorthEast = grid[northernLatitudeIndex][easternLongitudeIndex];
+    /**
+     * <p>Performs bilinear interpolation at every probability level of a cell-major cube at a grid location
+     *    (see {@link #bilinearInterpolation(double, double, ProbabilityCube, double[])}).</p>
+     *
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param probabilityCube Cell-major cube of L(p)
+     * @param destination Array that receives L(p) at each level, in ascending order of p; at least {@link ProbabilityCube#size()} long
+     */
+    public static void bilinearInterpolation(GridLocation location, ProbabilityCube probabilityCube, double[] destination) {
+        int numberOfLevels = probabilityCube.levels.length;
+        double[] values = probabilityCube.values;
+
+        int southWestOffset = location.southWestIndex * numberOfLevels;
+        int southEastOffset = location.southEastIndex * numberOfLevels;
+        int northWestOffset = location.northWestIndex * numberOfLevels;
+        int northEastOffset = location.northEastIndex * numberOfLevels;
+
+        for (int level = 0; level < numberOfLevels; level++) {
+            destination[level] = location.interpolate(values[southWestOffset + level], values[southEastOffset + level],
+                                                      values[northWestOffset + level], values[northEastOffset + level]);
+        }
+    }
 
-        double weightSouthWest = (1 - xFraction) * (1 - yFraction);
-        double weightSouthEast = xFraction * (1 - yFraction);
-        double weightNorthWest = (1 - xFraction) * yFraction;
-        double weightNorthEast = xFraction * yFraction;
+    /**
+     * <p>Performs bilinear interpolation at every probability level of an axis at a grid location
+     *    (see {@link #bilinearInterpolation(double, double, ProbabilityAxis, double[])}).</p>
+     *
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param probabilityAxis Levels and grids of L(p)
+     * @param destination Array that receives L(p) at each level, in ascending order of p; at least {@link ProbabilityAxis#size()} long
+     */
+    public static void bilinearInterpolation(GridLocation location, ProbabilityAxis probabilityAxis, double[] destination) {
+        for (int level = 0; level < probabilityAxis.grids.length; level++) {
+            destination[level] = bilinearInterpolation(location, probabilityAxis.grids[level]);
+        }
+    }
 
+    /**
+     * <p>Computes the NaN-aware weighted sum of the four corners of a grid cell with the bilinear weights of a location.</p>
+     *
+     * <p><code>NaN</code> corner values are ignored, and the interpolation weights are renormalized to the valid neighbors.</p>
+     *
+     * @param valueSouthWest Value at the south-west corner
+     * @param valueSouthEast Value at the south-east corner
+     * @param valueNorthWest Value at the north-west corner
+     * @param valueNorthEast Value at the north-east corner
+     * @param weightSouthWest Weight of the south-west corner
+     * @param weightSouthEast Weight of the south-east corner
+     * @param weightNorthWest Weight of the north-west corner
+     * @param weightNorthEast Weight of the north-east corner
+     * @return Interpolated value, or 0 if all four corners are <code>NaN</code>
+     */
+    static double interpolateCorners(double valueSouthWest, double valueSouthEast, double valueNorthWest, double valueNorthEast,
+                                     double weightSouthWest, double weightSouthEast, double weightNorthWest, double weightNorthEast) {
         double weightedSum = 0.0;
         double totalWeight = 0.0;
 
@@ -592,26 +3104,70 @@ public class Itu840 {
      * @return <code>true</code> If any of the four surrounding grid points has P<sub>L</sub> &le; 0.02%, else <code>false</code>
      */
     public static boolean isAnyCornerCloudProbabilityBelowThreshold(double latitude, double longitude, double[][] cloudProbabilityGrid) {
-        int southernLatitudeIndex = (int) Math.floor((latitude - GRID_LATITUDE_START_DEGREE) / GRID_LATITUDE_STEP_DEGREE);
-        southernLatitudeIndex = Math.max(0, Math.min(southernLatitudeIndex, NUMBER_OF_LATITUDE_POINTS - 2));
-        int northernLatitudeIndex = southernLatitudeIndex + 1;
+        return isAnyCornerCloudProbabilityBelowThreshold(GridLocation.of(latitude, longitude), cloudProbabilityGrid);
+    }
 
-        int westernLongitudeIndex = (int) Math.floor((longitude - GRID_LONGITUDE_START_DEGREE) / GRID_LONGITUDE_STEP_DEGREE);
-        int easternLongitudeIndex = (westernLongitudeIndex + 1) % NUMBER_OF_LONGITUDE_POINTS;
+    /**
+     * <p>Checks the four surrounding grid points of the specified location in a flat P<sub>L</sub> grid
+     *    (see {@link #isAnyCornerCloudProbabilityBelowThreshold(double, double, double[][])}).</p>
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @return <code>true</code> If any of the four surrounding grid points has P<sub>L</sub> &le; 0.02%, else <code>false</code>
+     */
+    public static boolean isAnyCornerCloudProbabilityBelowThreshold(double latitude, double longitude, Grid cloudProbabilityGrid) {
+        return isAnyCornerCloudProbabilityBelowThreshold(GridLocation.of(latitude, longitude), cloudProbabilityGrid);
+    }
 
-        if (easternLongitudeIndex == 0) {
-            easternLongitudeIndex = 1;
-        }
+    /**
+     * <p>Checks the four surrounding grid points of a grid location in the P<sub>L</sub> grid
+     *    (see {@link #isAnyCornerCloudProbabilityBelowThreshold(double, double, double[][])}).</p>
+     *
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param cloudProbabilityGrid P<sub>L</sub> grid in percent
+     * @return <code>true</code> If any of the four surrounding grid points has P<sub>L</sub> &le; 0.02%, else <code>false</code>
+     */
+    public static boolean isAnyCornerCloudProbabilityBelowThreshold(GridLocation location, double[][] cloudProbabilityGrid) {
+        double cloudProbabilitySouthWest = cloudProbabilityGrid[location.southernLatitudeIndex][location.westernLongitudeIndex];
+        double cloudProbabilitySouthEast = cloudProbabilityGrid[location.southernLatitudeIndex][location.easternLongitudeIndex];
+        double cloudProbabilityNorthWest = cloudProbabilityGrid[location.northernLatitudeIndex][location.westernLongitudeIndex];
+        double cloudProbabilityNorthEast = cloudProbabilityGrid[location.northernLatitudeIndex][location.easternLongitudeIndex];
+
+        return (cloudProbabilitySouthWest <= CLOUD_PROBABILITY_THRESHOLD_PERCENT) || (cloudProbabilitySouthEast <= CLOUD_PROBABILITY_THRESHOLD_PERCENT) ||
+               (cloudProbabilityNorthWest <= CLOUD_PROBABILITY_THRESHOLD_PERCENT) || (cloudProbabilityNorthEast <= CLOUD_PROBABILITY_THRESHOLD_PERCENT);
+    }
 
-        double cloudProbabilitySouthWest = cloudProbabilityGrid[southernLatitudeIndex][westernLongitudeIndex];
-        double cloudProbabilitySouthEast = cloudProbabilityGrid[southernLatitudeIndex][easternLongitudeIndex];
-        double cloudProbabilityNorthWest = cloudProbabilityGrid[northernLatitudeIndex][westernLongitudeIndex];
-        double cloudProbabilityNorthEast = cloudProbabilityGrid[northernLatitudeIndex][easternLongitudeIndex];
+    /**
+     * <p>Checks the four surrounding grid points of a grid location in a flat P<sub>L</sub> grid
+     *    (see {@link #isAnyCornerCloudProbabilityBelowThreshold(double, double, double[][])}).</p>
+     *
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param cloudProbabilityGrid Flat P<sub>L</sub> grid in percent
+     * @return <code>true</code> If any of the four surrounding grid points has P<sub>L</sub> &le; 0.02%, else <code>false</code>
+     */
+    public static boolean isAnyCornerCloudProbabilityBelowThreshold(GridLocation location, Grid cloudProbabilityGrid) {
+        double cloudProbabilitySouthWest = cloudProbabilityGrid.value(location.southWestIndex);
+        double cloudProbabilitySouthEast = cloudProbabilityGrid.value(location.southEastIndex);
+        double cloudProbabilityNorthWest = cloudProbabilityGrid.value(location.northWestIndex);
+        double cloudProbabilityNorthEast = cloudProbabilityGrid.value(location.northEastIndex);
 
         return (cloudProbabilitySouthWest <= CLOUD_PROBABILITY_THRESHOLD_PERCENT) || (cloudProbabilitySouthEast <= CLOUD_PROBABILITY_THRESHOLD_PERCENT) ||
                (cloudProbabilityNorthWest <= CLOUD_PROBABILITY_THRESHOLD_PERCENT) || (cloudProbabilityNorthEast <= CLOUD_PROBABILITY_THRESHOLD_PERCENT);
     }
 
+    /**
+     * <p>Checks the precomputed corner flag of the cell of a grid location in a packed grid
+     *    (see {@link #isAnyCornerCloudProbabilityBelowThreshold(double, double, double[][])}).</p>
+     *
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param packedLogNormalGrid Packed m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grid (see {@link PackedLogNormalGrid})
+     * @return <code>true</code> If any of the four surrounding grid points has P<sub>L</sub> &le; 0.02%, else <code>false</code>
+     */
+    public static boolean isAnyCornerCloudProbabilityBelowThreshold(GridLocation location, PackedLogNormalGrid packedLogNormalGrid) {
+        return packedLogNormalGrid.isAnyCornerCloudProbabilityBelowThreshold(location);
+    }
+
     /**
      * <p>Computes Q<sup>-1</sup>(x), the inverse standard normal CCDF.</p>
      * <p>Defined in ITU-R P.1057-7, Equations (5c)–(5e).</p>
@@ -695,6 +3251,76 @@ public class Itu840 {
         }
     }
 
+    /**
+     * <p>Computes Q(y), the standard normal CCDF, as the inverse of {@link #computeInverseStandardNormalCCDF(double)}.</p>
+     *
+     * <p>Starts from the complementary error function approximation of Numerical Recipes (fractional error below 1.2 × 10<sup>-7</sup>)
+     *    and refines it with Newton steps on Q<sup>-1</sup>, so that Q<sup>-1</sup>(Q(y)) = y to within the spacing of doubles
+     *    near Q(y). That spacing dominates only for y below about &minus;5, where Q(y) is within 3 × 10<sup>-7</sup> of 1.
+     *    The log-normal inverse of Equation (15) relies on this consistency.</p>
+     *
+     * @param y A standard normal deviate
+     * @return Q(y) between 0 and 1
+     */
+    public static double computeStandardNormalCCDF(double y) {
+        double z = y / Math.sqrt(2.0);
+        double t = 1.0 / (1.0 + 0.5 * Math.abs(z));
+        double complementaryErrorFunction = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418 +
+                                            t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587 +
+                                            t * (-0.82215223 + t * 0.17087277)))))))));
+
+        double x = 0.5 * ((z >= 0.0) ? complementaryErrorFunction : 2.0 - complementaryErrorFunction);
+
+        // Newton steps on Q^-1(x) = y, where dQ^-1/dx = -1 / φ(Q^-1(x))
+        for (int iteration = 0; iteration < 3 && x > 1e-16 && x < 1.0 - 1e-16; iteration++) {
+            double inverse = computeInverseStandardNormalCCDF(x);
+            double density = Math.exp(-0.5 * inverse * inverse) / Math.sqrt(2.0 * Math.PI);
+            double refined = x + (inverse - y) * density;
+
+            if (!(refined > 0.0 && refined < 1.0)) {
+                break;
+            }
+
+            x = refined;
+        }
+
+        return x;
+    }
+
+    /**
+     * <p>Holder of the Vector API kernel of the batch interpolation, so that it is looked up on first use only.</p>
+     */
+    private static final class VectorKernelHolder {
+
+        // Null if the kernel cannot be used; then the batch interpolation is scalar
+        static final BatchInterpolationKernel KERNEL = loadVectorKernel();
+    }
+
+    /**
+     * <p>Loads the Vector API kernel of the batch interpolation, if it can be used.</p>
+     *
+     * <p>The kernel is loaded by name, because it is compiled only by the <code>vector-api</code> profile
+     *    (<code>mvn -DvectorApi</code>), and it can only run if <code>jdk.incubator.vector</code> was added at run time
+     *    (<code>--add-modules jdk.incubator.vector</code>).</p>
+     *
+     * @return The kernel, or null if it was not compiled, <code>jdk.incubator.vector</code> is not in the boot layer,
+     *         or the hardware has vectors of fewer than two doubles
+     */
+    private static BatchInterpolationKernel loadVectorKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+
+        try {
+            BatchInterpolationKernel kernel = (BatchInterpolationKernel) Class.forName("itu840.VectorInterpolation").getDeclaredConstructor().newInstance();
+
+            return (kernel.laneCount() >= 2) ? kernel : null;
+        }
+        catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
     // ==================================================================================
     //                           Utility Functions for Testing
     // ==================================================================================
@@ -854,10 +3480,17 @@ public class Itu840 {
                     exceedanceProbability = P_MIN_PERCENT;
                 }
 
-                TreeMap<Double, double[][]> gridsByProbability;
+                // A single query only needs the two grids that bracket p
+                double attenuation;
 
                 try {
-                    gridsByProbability = loadGridsByProbability(folderPath);
+                    attenuation = computeSlantPathStatisticalCloudAttenuation(
+                            frequency,
+                            latitude,
+                            longitude,
+                            exceedanceProbability,
+                            elevationAngle,
+                            LazyProbabilityStack.open(folderPath));
                 }
                 catch (IOException io) {
                     System.err.println("Failed to load grids by probability from " + folderPath + ".");
@@ -866,13 +3499,6 @@ public class Itu840 {
                     return;
                 }
 
-                double attenuation = computeSlantPathStatisticalCloudAttenuation(
-                        frequency,
-                        latitude,
-                        longitude,
-                        exceedanceProbability,
-                        elevationAngle,
-                        gridsByProbability);
                 System.out.printf("Statistical attenuation: %.10f dB%n", attenuation);
 
                 break;
@@ -0,0 +1,242 @@
+package itu840;
+
+import java.io.*;
+import java.lang.foreign.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * <p><b>Demand-driven stack of L(p) grids</b></p>
+ *
+ * <p>Indexes the <code>L_*.TXT</code> digital maps of a folder by file name when opened, but reads a grid only the first time
+ *    it is requested. Equation (13) only uses the two grids that bracket p, so a single query reads two files
+ *    (or one, if p is a grid probability) instead of the whole folder.</p>
+ *
+ * <p>Each grid is read at most once; concurrent first requests of the same grid wait for the same read.
+ *    A failed read is not kept, so the next request retries it. All methods are thread-safe.</p>
+ */
+public final class LazyProbabilityStack {
+
+    private final String folderPath;
+    private final Itu840.GridReader<Grid> reader;
+    private final double[] exceedanceProbabilities;
+    private final String[] filePaths;
+    private final AtomicReferenceArray<FutureTask<Grid>> loads;
+
+    private LazyProbabilityStack(String folderPath, Itu840.GridReader<Grid> reader) throws IOException {
+        this.folderPath = folderPath;
+        this.reader = reader;
+
+        TreeMap<Double, String> filePathsByProbability = Itu840.indexFilesByProbability(folderPath);
+
+        this.exceedanceProbabilities = new double[filePathsByProbability.size()];
+        this.filePaths = new String[filePathsByProbability.size()];
+        this.loads = new AtomicReferenceArray<>(filePathsByProbability.size());
+
+        int index = 0;
+
+        for (Map.Entry<Double, String> entry : filePathsByProbability.entrySet()) {
+            exceedanceProbabilities[index] = entry.getKey();
+            filePaths[index] = entry.getValue();
+            index++;
+        }
+    }
+
+    /**
+     * <p>Indexes the <code>L_*.TXT</code> digital maps of a folder, to be read into flat grids of doubles on demand.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @return A lazy stack with no grid read yet
+     * @throws IOException If the folder is missing or empty, or no valid files are found
+     */
+    public static LazyProbabilityStack open(String folderPath) throws IOException {
+        return open(folderPath, Grid.StorageMode.DOUBLE);
+    }
+
+    /**
+     * <p>Indexes the <code>L_*.TXT</code> digital maps of a folder, to be read into flat grids with the given storage mode on demand.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @param storageMode Precision in which the values are held
+     * @return A lazy stack with no grid read yet
+     * @throws IOException If the folder is missing or empty, or no valid files are found
+     */
+    public static LazyProbabilityStack open(String folderPath, Grid.StorageMode storageMode) throws IOException {
+        Objects.requireNonNull(storageMode, "storageMode");
+
+        return new LazyProbabilityStack(folderPath, filePath -> Grid.readFromFile(filePath, storageMode));
+    }
+
+    /**
+     * <p>Indexes the <code>L_*.TXT</code> digital maps of a folder, to be memory-mapped from their binary caches on demand
+     *    (see {@link Grid#mapBinaryCache(String, Arena)}).</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @param arena Arena that controls the lifetime of the mappings; must allow access from every thread that queries the stack
+     * @return A lazy stack with no grid mapped yet
+     * @throws IOException If the folder is missing or empty, or no valid files are found
+     */
+    public static LazyProbabilityStack openBinaryCache(String folderPath, Arena arena) throws IOException {
+        Objects.requireNonNull(arena, "arena");
+
+        return new LazyProbabilityStack(folderPath, filePath -> Grid.mapBinaryCache(filePath, arena));
+    }
+
+    // ==================================================================================
+    //                                 Probability Index
+    // ==================================================================================
+
+    /**
+     * <p>Returns the probabilities of the indexed digital maps.</p>
+     *
+     * @return p values in percent, in ascending order
+     */
+    public double[] exceedanceProbabilities() {
+        return exceedanceProbabilities.clone();
+    }
+
+    /**
+     * <p>Returns the greatest indexed probability less than or equal to p.</p>
+     *
+     * @param exceedanceProbability p in percent
+     * @return p<sub>below</sub> in percent
+     * @throws IllegalArgumentException If p is below the smallest indexed probability
+     */
+    public double floorProbability(double exceedanceProbability) {
+        return exceedanceProbabilities[floorIndex(exceedanceProbability)];
+    }
+
+    /**
+     * <p>Returns the least indexed probability greater than or equal to p.</p>
+     *
+     * @param exceedanceProbability p in percent
+     * @return p<sub>above</sub> in percent
+     * @throws IllegalArgumentException If p is above the largest indexed probability
+     */
+    public double ceilingProbability(double exceedanceProbability) {
+        return exceedanceProbabilities[ceilingIndex(exceedanceProbability)];
+    }
+
+    // ==================================================================================
+    //                                       Grids
+    // ==================================================================================
+
+    /**
+     * <p>Returns the grid of L(p) for an indexed probability, reading it on first use.</p>
+     *
+     * @param exceedanceProbability An indexed p in percent (see {@link #exceedanceProbabilities()})
+     * @return The grid of L(p)
+     * @throws IOException If the digital map cannot be read, or the calling thread is interrupted while another thread reads it
+     * @throws IllegalArgumentException If p is not an indexed probability
+     */
+    public Grid grid(double exceedanceProbability) throws IOException {
+        int index = Arrays.binarySearch(exceedanceProbabilities, exceedanceProbability);
+
+        if (index < 0) {
+            throw new IllegalArgumentException("No digital map for p = " + exceedanceProbability + "% in " + folderPath + ".");
+        }
+
+        return grid(index);
+    }
+
+    /**
+     * <p>Checks whether the grid of an indexed probability has been read successfully.</p>
+     *
+     * @param exceedanceProbability p in percent
+     * @return <code>true</code> If the grid is resident, else <code>false</code>
+     */
+    public boolean isLoaded(double exceedanceProbability) {
+        int index = Arrays.binarySearch(exceedanceProbabilities, exceedanceProbability);
+
+        return index >= 0 && isLoaded(index);
+    }
+
+    /**
+     * <p>Returns the number of grids that have been read successfully.</p>
+     *
+     * @return Number of resident grids
+     */
+    public int loadedCount() {
+        int count = 0;
+
+        for (int index = 0; index < exceedanceProbabilities.length; index++) {
+            if (isLoaded(index)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    // ==================================================================================
+    //                                 Helper Functions
+    // ==================================================================================
+
+    private int floorIndex(double exceedanceProbability) {
+        int index = Arrays.binarySearch(exceedanceProbabilities, exceedanceProbability);
+        index = (index >= 0) ? index : -index - 2;
+
+        if (index < 0) {
+            throw new IllegalArgumentException("p = " + exceedanceProbability + "% is below the smallest probability in " + folderPath + ".");
+        }
+
+        return index;
+    }
+
+    private int ceilingIndex(double exceedanceProbability) {
+        int index = Arrays.binarySearch(exceedanceProbabilities, exceedanceProbability);
+        index = (index >= 0) ? index : -index - 1;
+
+        if (index >= exceedanceProbabilities.length) {
+            throw new IllegalArgumentException("p = " + exceedanceProbability + "% is above the largest probability in " + folderPath + ".");
+        }
+
+        return index;
+    }
+
+    private boolean isLoaded(int index) {
+        FutureTask<Grid> task = loads.get(index);
+
+        return task != null && task.state() == Future.State.SUCCESS;
+    }
+
+    /**
+     * <p>Returns the grid at an index, reading it if no other thread has done or is doing so.</p>
+     *
+     * @param index Index into {@link #exceedanceProbabilities}
+     * @return The grid of L(p)
+     * @throws IOException If the digital map cannot be read, or the calling thread is interrupted
+     */
+    private Grid grid(int index) throws IOException {
+        FutureTask<Grid> task = loads.get(index);
+
+        if (task == null) {
+            String filePath = filePaths[index];
+            FutureTask<Grid> newTask = new FutureTask<>(() -> reader.read(filePath));
+
+            if (loads.compareAndSet(index, null, newTask)) {
+                task = newTask;
+                task.run();
+            }
+            else {
+                task = loads.get(index);
+            }
+        }
+
+        try {
+            return Itu840.await(task);
+        }
+        catch (IOException | RuntimeException | Error e) {
+            if (task.isDone()) {
+                loads.compareAndSet(index, task, null);
+            }
+
+            if (e instanceof InterruptedIOException || !(e instanceof IOException)) {
+                throw e;
+            }
+
+            throw new IOException("Failed to read " + new File(filePaths[index]).getName() + " in " + folderPath + ".", e);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package itu840;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * <p><b>Prepared attenuation evaluator for a fixed link</b></p>
+ *
+ * <p>Binds one frequency, one elevation angle, and one dataset, and answers Equation (13) or Equation (15) queries for
+ *    any site and p. K<sub>L</sub>(f) and sin(&theta;) are computed once, when the evaluator is created, so a query is
+ *    the interpolation of the dataset and the final product only; single queries do not allocate, by latitude and longitude
+ *    or by {@link GridLocation}.
+ *    Each value is bit-for-bit identical to
+ *    {@link Itu840#computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityAxis)} or
+ *    {@link Itu840#computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(double, double, double, double, double, Grid, Grid, Grid)}
+ *    in the default {@link CloudLiquidMassAbsorptionCoefficientTable.Mode#EXACT} mode; the factories that take a mode
+ *    can compute K<sub>L</sub>(f) from the table instead.</p>
+ *
+ * <p>A link queried over several months uses one evaluator per month, e.g. from {@link #of(double, double, Dataset, DatasetRegistry)}.
+ *    Instances are immutable and thread-safe.</p>
+ */
+public final class LinkEvaluator {
+
+    private final double frequency;
+    private final double elevationAngle;
+    private final double cloudLiquidMassAbsorptionCoefficient;
+    private final double sineOfElevationAngle;
+
+    // Exactly one of the axis (Equation 13) and the log-normal grids (Equation 15) is set
+    private final ProbabilityAxis probabilityAxis;
+    private final Grid logNormalMeanParameterGrid;
+    private final Grid logNormalStandardDeviationParameterGrid;
+    private final Grid cloudProbabilityGrid;
+
+    private LinkEvaluator(double frequency, double elevationAngle, ProbabilityAxis probabilityAxis, LogNormalGrids logNormalGrids,
+                          CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+        this.frequency = frequency;
+        this.elevationAngle = elevationAngle;
+        this.cloudLiquidMassAbsorptionCoefficient = mode.value(frequency);
+        this.sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+
+        this.probabilityAxis = probabilityAxis;
+        this.logNormalMeanParameterGrid = (logNormalGrids == null) ? null : logNormalGrids.logNormalMeanParameterGrid();
+        this.logNormalStandardDeviationParameterGrid = (logNormalGrids == null) ? null : logNormalGrids.logNormalStandardDeviationParameterGrid();
+        this.cloudProbabilityGrid = (logNormalGrids == null) ? null : logNormalGrids.cloudProbabilityGrid();
+    }
+
+    /**
+     * <p>Creates an Equation (13) evaluator for a link.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @return An evaluator
+     */
+    public static LinkEvaluator of(double frequency, double elevationAngle, ProbabilityAxis probabilityAxis) {
+        return of(frequency, elevationAngle, probabilityAxis, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Creates an Equation (13) evaluator for a link with a K<sub>L</sub>(f) mode.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param probabilityAxis Levels, log<sub>10</sub> levels, and grids of L(p)
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return An evaluator
+     */
+    public static LinkEvaluator of(double frequency, double elevationAngle, ProbabilityAxis probabilityAxis,
+                                   CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+        return new LinkEvaluator(frequency, elevationAngle, Objects.requireNonNull(probabilityAxis, "probabilityAxis"), null,
+                                 Objects.requireNonNull(mode, "mode"));
+    }
+
+    /**
+     * <p>Creates an Equation (15) evaluator for a link.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalGrids m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grids
+     * @return An evaluator
+     */
+    public static LinkEvaluator of(double frequency, double elevationAngle, LogNormalGrids logNormalGrids) {
+        return of(frequency, elevationAngle, logNormalGrids, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Creates an Equation (15) evaluator for a link with a K<sub>L</sub>(f) mode.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param logNormalGrids m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grids
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return An evaluator
+     */
+    public static LinkEvaluator of(double frequency, double elevationAngle, LogNormalGrids logNormalGrids,
+                                   CloudLiquidMassAbsorptionCoefficientTable.Mode mode) {
+        return new LinkEvaluator(frequency, elevationAngle, null, Objects.requireNonNull(logNormalGrids, "logNormalGrids"),
+                                 Objects.requireNonNull(mode, "mode"));
+    }
+
+    /**
+     * <p>Creates an evaluator for a link on a dataset of a registry: Equation (15) for {@link Dataset#LOG_NORMAL_ANNUAL},
+     *    and Equation (13) for the annual and monthly datasets.</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param dataset A dataset
+     * @param registry Registry that loads the dataset (e.g. {@link DatasetRegistry#shared()})
+     * @return An evaluator
+     * @throws IOException If the dataset cannot be loaded
+     */
+    public static LinkEvaluator of(double frequency, double elevationAngle, Dataset dataset, DatasetRegistry registry) throws IOException {
+        return of(frequency, elevationAngle, dataset, registry, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT);
+    }
+
+    /**
+     * <p>Creates an evaluator for a link on a dataset of a registry with a K<sub>L</sub>(f) mode
+     *    (see {@link #of(double, double, Dataset, DatasetRegistry)}).</p>
+     *
+     * @param frequency Frequency in gigahertz
+     * @param elevationAngle Elevation angle (&theta;) in degrees
+     * @param dataset A dataset
+     * @param registry Registry that loads the dataset (e.g. {@link DatasetRegistry#shared()})
+     * @param mode How K<sub>L</sub>(f) is computed
+     * @return An evaluator
+     * @throws IOException If the dataset cannot be loaded
+     */
+    public static LinkEvaluator of(double frequency, double elevationAngle, Dataset dataset, DatasetRegistry registry,
+                                   CloudLiquidMassAbsorptionCoefficientTable.Mode mode) throws IOException {
+        if (dataset.isLogNormal()) {
+            return of(frequency, elevationAngle, registry.logNormalGrids(), mode);
+        }
+
+        return of(frequency, elevationAngle, ProbabilityAxis.of(registry.gridsByProbability(dataset)), mode);
+    }
+
+    // ==================================================================================
+    //                                      Access
+    // ==================================================================================
+
+    /**
+     * <p>Returns the frequency of the link.</p>
+     *
+     * @return Frequency in gigahertz
+     */
+    public double frequency() {
+        return frequency;
+    }
+
+    /**
+     * <p>Returns the elevation angle of the link.</p>
+     *
+     * @return Elevation angle (&theta;) in degrees
+     */
+    public double elevationAngle() {
+        return elevationAngle;
+    }
+
+    /**
+     * <p>Returns K<sub>L</sub>(f) of the link.</p>
+     *
+     * @return K<sub>L</sub>(f) in dB/(kg/m<sup>2</sup>)
+     */
+    public double cloudLiquidMassAbsorptionCoefficient() {
+        return cloudLiquidMassAbsorptionCoefficient;
+    }
+
+    /**
+     * <p>Checks whether the evaluator applies Equation (15) rather than Equation (13).</p>
+     *
+     * @return <code>true</code> For log-normal parameter grids, else <code>false</code>
+     */
+    public boolean isLogNormal() {
+        return probabilityAxis == null;
+    }
+
+    // ==================================================================================
+    //                                Prediction Methods
+    // ==================================================================================
+
+    /**
+     * <p>Computes the attenuation of the link at a site.</p>
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbability p in percent
+     * @return Attenuation in dB
+     * @throws IllegalArgumentException For Equation (13), if p is outside the levels of the axis
+     */
+    public double attenuation(double latitude, double longitude, double exceedanceProbability) {
+        // Latitude-longitude interpolations rather than a GridLocation, so that no allocation depends on escape analysis
+        if (probabilityAxis == null) {
+            double logNormalTerm = Itu840.computeLogNormalApproximationTerm(latitude, longitude, exceedanceProbability,
+                                                                            logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid);
+
+            return (logNormalTerm == 0.0) ? 0.0 : cloudLiquidMassAbsorptionCoefficient * logNormalTerm / sineOfElevationAngle;
+        }
+
+        int indexBelow = probabilityAxis.floorIndex(exceedanceProbability);
+        double integratedCloudLiquidWaterContent = Itu840.bilinearInterpolation(latitude, longitude, probabilityAxis.grids[indexBelow]);
+
+        if (probabilityAxis.levels[indexBelow] != exceedanceProbability) {
+            double integratedCloudLiquidWaterContentAbove = Itu840.bilinearInterpolation(latitude, longitude, probabilityAxis.grids[indexBelow + 1]);
+
+            double logP = Math.log10(exceedanceProbability);
+            double logPBelow = probabilityAxis.log10Levels[indexBelow];
+            double logPAbove = probabilityAxis.log10Levels[indexBelow + 1];
+
+            integratedCloudLiquidWaterContent = Itu840.interpolateInLog10Probability(
+                    integratedCloudLiquidWaterContent, integratedCloudLiquidWaterContentAbove, logP - logPBelow, logPAbove - logPBelow);
+        }
+
+        // K_L · L / sin(θ) in the order of Equation (11), so that results match the point methods bit for bit
+        return cloudLiquidMassAbsorptionCoefficient * integratedCloudLiquidWaterContent / sineOfElevationAngle;
+    }
+
+    /**
+     * <p>Computes the attenuation of the link at a grid location.</p>
+     *
+     * @param location Grid location of the site (see {@link GridLocation#of(double, double)})
+     * @param exceedanceProbability p in percent
+     * @return Attenuation in dB
+     * @throws IllegalArgumentException For Equation (13), if p is outside the levels of the axis
+     */
+    public double attenuation(GridLocation location, double exceedanceProbability) {
+        if (probabilityAxis == null) {
+            return Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuationFused(
+                    cloudLiquidMassAbsorptionCoefficient, sineOfElevationAngle, location, exceedanceProbability,
+                    logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid);
+        }
+
+        double integratedCloudLiquidWaterContent = Itu840.computeIntegratedCloudLiquidWaterContent(location, exceedanceProbability, probabilityAxis);
+
+        return cloudLiquidMassAbsorptionCoefficient * integratedCloudLiquidWaterContent / sineOfElevationAngle;
+    }
+
+    /**
+     * <p>Computes the attenuation of the link at a site for many p, into a caller-supplied buffer.</p>
+     *
+     * @param latitude Latitude in degrees
+     * @param longitude Longitude in degrees
+     * @param exceedanceProbabilities p values in percent, in any order
+     * @param attenuations Array that receives the attenuation in dB for each p; at least as long as the p values
+     * @throws IllegalArgumentException If the array is shorter than the p values, or, for Equation (13), if a p is outside the levels of the axis
+     */
+    public void attenuation(double latitude, double longitude, double[] exceedanceProbabilities, double[] attenuations) {
+        if (attenuations.length < exceedanceProbabilities.length) {
+            throw new IllegalArgumentException("Buffer must have at least " + exceedanceProbabilities.length + " elements, but has " + attenuations.length + ".");
+        }
+
+        GridLocation location = GridLocation.of(latitude, longitude);
+
+        if (probabilityAxis == null) {
+            for (int i = 0; i < exceedanceProbabilities.length; i++) {
+                attenuations[i] = attenuation(location, exceedanceProbabilities[i]);
+            }
+
+            return;
+        }
+
+        // The curve interpolates each bracketing level once, rather than two levels per p
+        Itu840.computeAttenuationsFromLevels(cloudLiquidMassAbsorptionCoefficient, sineOfElevationAngle, location,
+                                             exceedanceProbabilities, probabilityAxis, attenuations);
+    }
+
+    @Override
+    public String toString() {
+        return "LinkEvaluator[frequency=" + frequency + ", elevationAngle=" + elevationAngle + ", equation=" + (isLogNormal() ? "15" : "13") + "]";
+    }
+}
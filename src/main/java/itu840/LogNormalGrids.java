@@ -0,0 +1,41 @@
+package itu840;
+
+import java.io.*;
+import java.nio.file.*;
+
+/**
+ * <p><b>Annual log-normal parameter grids of ITU-R P.840-9</b></p>
+ *
+ * <p>The three grids used by Equation (15): m<sub>L</sub> (<code>mL.TXT</code>), &sigma;<sub>L</sub>
+ *    (<code>sL.TXT</code>), and P<sub>L</sub> (<code>PL.TXT</code>).</p>
+ *
+ * @param logNormalMeanParameterGrid m<sub>L</sub> grid in natural log
+ * @param logNormalStandardDeviationParameterGrid &sigma;<sub>L</sub> grid in natural log
+ * @param cloudProbabilityGrid P<sub>L</sub> grid in percent
+ */
+public record LogNormalGrids(Grid logNormalMeanParameterGrid, Grid logNormalStandardDeviationParameterGrid, Grid cloudProbabilityGrid) {
+
+    /**
+     * <p>Reads the three log-normal parameter grids from a digital maps folder.</p>
+     *
+     * @param folderPath Path to the digital maps folder, e.g. <code>data/logNormalAnnual/</code>
+     * @param storageMode Precision in which the values are held
+     * @return The log-normal parameter grids
+     * @throws IOException If a digital map is missing, invalid, or cannot be read
+     */
+    public static LogNormalGrids readFromFolder(String folderPath, Grid.StorageMode storageMode) throws IOException {
+        return new LogNormalGrids(
+                Grid.readFromFile(Path.of(folderPath, "mL.TXT").toString(), storageMode),
+                Grid.readFromFile(Path.of(folderPath, "sL.TXT").toString(), storageMode),
+                Grid.readFromFile(Path.of(folderPath, "PL.TXT").toString(), storageMode));
+    }
+
+    /**
+     * <p>Returns the number of bytes used by the values of the three grids.</p>
+     *
+     * @return Size of the values in bytes
+     */
+    public long sizeInBytes() {
+        return logNormalMeanParameterGrid.sizeInBytes() + logNormalStandardDeviationParameterGrid.sizeInBytes() + cloudProbabilityGrid.sizeInBytes();
+    }
+}
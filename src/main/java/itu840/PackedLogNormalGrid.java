@@ -0,0 +1,313 @@
+package itu840;
+
+import java.io.*;
+import java.lang.foreign.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+
+/**
+ * <p><b>Packed log-normal parameter grid</b></p>
+ *
+ * <p>Holds the three grids of Equation (15) interleaved: the m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> values of a
+ *    grid point are contiguous, so the corners of a cell are read from four runs of 24 bytes instead of twelve scattered
+ *    values. The P<sub>L</sub> &le; 0.02% corner rule is precomputed into a bitmap with one bit per cell (indexed by the
+ *    row-major index of its south-west corner), so that
+ *    {@link Itu840#isAnyCornerCloudProbabilityBelowThreshold(GridLocation, PackedLogNormalGrid)} is a single bit test.</p>
+ *
+ * <p>{@link #readFromFolder(String)} builds the packed grid from the three digital maps once and persists it in the folder
+ *    (see {@link #FILE_NAME}); later calls read the packed file directly while it matches the digital maps.
+ *    The results of Equation (15) are identical bit for bit to those of the separate grids.
+ *    Instances are immutable and thread-safe.</p>
+ *
+ * <p><b>File layout</b> (little-endian):</p>
+ * <ul>
+ *   <li>Bytes 0–7: Magic <code>ITU840LN</code></li>
+ *   <li>Bytes 8–11: Format version</li>
+ *   <li>Bytes 12–19: Number of rows and columns</li>
+ *   <li>Bytes 24–71: Size and last modification time in milliseconds of <code>mL.TXT</code>, <code>sL.TXT</code>, and <code>PL.TXT</code></li>
+ *   <li>Bytes 128–: Parameters as 64-bit doubles, (m<sub>L</sub>, &sigma;<sub>L</sub>, P<sub>L</sub>) per grid point, row-major</li>
+ *   <li>Then: Cell bitmap as 64-bit words</li>
+ * </ul>
+ */
+public final class PackedLogNormalGrid {
+
+    /** <p>Name of the packed file in the digital maps folder.</p> */
+    public static final String FILE_NAME = "logNormalPacked.bin";
+
+    // Offsets of m_L, σ_L, and P_L within the parameters of a grid point
+    static final int LOG_NORMAL_MEAN_PARAMETER = 0;
+    static final int LOG_NORMAL_STANDARD_DEVIATION_PARAMETER = 1;
+    static final int CLOUD_PROBABILITY = 2;
+    static final int PARAMETERS_PER_POINT = 3;
+
+    private static final String[] SOURCE_FILE_NAMES = {"mL.TXT", "sL.TXT", "PL.TXT"};
+
+    // ===================== Header layout =====================
+    private static final long MAGIC = 0x4E4C303438555449L; // "ITU840LN" in little-endian byte order
+    private static final int VERSION = 1;
+    private static final long MAGIC_OFFSET = 0;
+    private static final long VERSION_OFFSET = 8;
+    private static final long ROWS_OFFSET = 12;
+    private static final long COLUMNS_OFFSET = 16;
+    private static final long SOURCES_OFFSET = 24;
+    private static final long HEADER_SIZE = 128;
+
+    private static final int NUMBER_OF_POINTS = Grid.ROWS * Grid.COLUMNS;
+    private static final int NUMBER_OF_BITMAP_WORDS = (NUMBER_OF_POINTS + Long.SIZE - 1) / Long.SIZE;
+    private static final long FILE_SIZE = HEADER_SIZE + (long) NUMBER_OF_POINTS * PARAMETERS_PER_POINT * Double.BYTES + (long) NUMBER_OF_BITMAP_WORDS * Long.BYTES;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    // Package-private for the Equation (15) kernels; never modified after construction
+    final double[] parameters; // index = (row * COLUMNS + column) * PARAMETERS_PER_POINT + parameter
+    final long[] belowThresholdCells; // bit = row * COLUMNS + column of the south-west corner
+
+    private PackedLogNormalGrid(double[] parameters, long[] belowThresholdCells) {
+        this.parameters = parameters;
+        this.belowThresholdCells = belowThresholdCells;
+    }
+
+    // ==================================================================================
+    //                                   Construction
+    // ==================================================================================
+
+    /**
+     * <p>Packs the three log-normal parameter grids.</p>
+     *
+     * @param logNormalGrids m<sub>L</sub>, &sigma;<sub>L</sub>, and P<sub>L</sub> grids
+     * @return A packed grid with a copy of the values
+     */
+    public static PackedLogNormalGrid of(LogNormalGrids logNormalGrids) {
+        Grid logNormalMeanParameterGrid = logNormalGrids.logNormalMeanParameterGrid();
+        Grid logNormalStandardDeviationParameterGrid = logNormalGrids.logNormalStandardDeviationParameterGrid();
+        Grid cloudProbabilityGrid = logNormalGrids.cloudProbabilityGrid();
+
+        double[] parameters = new double[NUMBER_OF_POINTS * PARAMETERS_PER_POINT];
+
+        for (int point = 0, index = 0; point < NUMBER_OF_POINTS; point++, index += PARAMETERS_PER_POINT) {
+            parameters[index + LOG_NORMAL_MEAN_PARAMETER] = logNormalMeanParameterGrid.value(point);
+            parameters[index + LOG_NORMAL_STANDARD_DEVIATION_PARAMETER] = logNormalStandardDeviationParameterGrid.value(point);
+            parameters[index + CLOUD_PROBABILITY] = cloudProbabilityGrid.value(point);
+        }
+
+        return new PackedLogNormalGrid(parameters, computeBelowThresholdCells(cloudProbabilityGrid));
+    }
+
+    /**
+     * <p>Reads the packed grid of a digital maps folder, building and persisting it first if it is missing or stale.</p>
+     *
+     * <p>The packed file is stale when the size or modification time of <code>mL.TXT</code>, <code>sL.TXT</code>, or
+     *    <code>PL.TXT</code> differs from the recorded one. If the packed file cannot be written (e.g. a read-only folder),
+     *    the packed grid is still returned and the next call builds it again.</p>
+     *
+     * @param folderPath Path to the digital maps folder, e.g. <code>data/logNormalAnnual/</code>
+     * @return A packed grid
+     * @throws IOException If a digital map is missing, invalid, or cannot be read
+     */
+    public static PackedLogNormalGrid readFromFolder(String folderPath) throws IOException {
+        long[] sources = readSourceAttributes(folderPath);
+        Path packedFile = Path.of(folderPath, FILE_NAME);
+
+        if (Files.isRegularFile(packedFile) && Files.size(packedFile) == FILE_SIZE) {
+            try (FileChannel channel = FileChannel.open(packedFile, StandardOpenOption.READ);
+                 Arena arena = Arena.ofConfined()) {
+
+                MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_SIZE, arena);
+
+                if (isValidHeader(segment, sources)) {
+                    return read(segment);
+                }
+            }
+        }
+
+        PackedLogNormalGrid packedLogNormalGrid = of(LogNormalGrids.readFromFolder(folderPath, Grid.StorageMode.DOUBLE));
+
+        try {
+            packedLogNormalGrid.write(packedFile, sources);
+        }
+        catch (IOException e) {
+            // Persisting is an optimization; the packed grid itself is complete
+        }
+
+        return packedLogNormalGrid;
+    }
+
+    // ==================================================================================
+    //                                      Access
+    // ==================================================================================
+
+    /**
+     * <p>Returns the value of m<sub>L</sub> at a grid point.</p>
+     *
+     * @param row Row (latitude) index
+     * @param column Column (longitude) index
+     * @return m<sub>L</sub> in natural log
+     */
+    public double logNormalMeanParameter(int row, int column) {
+        return parameters[(row * Grid.COLUMNS + column) * PARAMETERS_PER_POINT + LOG_NORMAL_MEAN_PARAMETER];
+    }
+
+    /**
+     * <p>Returns the value of &sigma;<sub>L</sub> at a grid point.</p>
+     *
+     * @param row Row (latitude) index
+     * @param column Column (longitude) index
+     * @return &sigma;<sub>L</sub> in natural log
+     */
+    public double logNormalStandardDeviationParameter(int row, int column) {
+        return parameters[(row * Grid.COLUMNS + column) * PARAMETERS_PER_POINT + LOG_NORMAL_STANDARD_DEVIATION_PARAMETER];
+    }
+
+    /**
+     * <p>Returns the value of P<sub>L</sub> at a grid point.</p>
+     *
+     * @param row Row (latitude) index
+     * @param column Column (longitude) index
+     * @return P<sub>L</sub> in percent
+     */
+    public double cloudProbability(int row, int column) {
+        return parameters[(row * Grid.COLUMNS + column) * PARAMETERS_PER_POINT + CLOUD_PROBABILITY];
+    }
+
+    /**
+     * <p>Returns the number of bytes used by the parameters and the bitmap.</p>
+     *
+     * @return Size of the values in bytes
+     */
+    public long sizeInBytes() {
+        return (long) parameters.length * Double.BYTES + (long) belowThresholdCells.length * Long.BYTES;
+    }
+
+    /**
+     * <p>Checks the precomputed P<sub>L</sub> &le; 0.02% flag of the cell of a grid location.</p>
+     *
+     * @param location Grid location of the site
+     * @return <code>true</code> If any of the four corners of the cell has P<sub>L</sub> &le; 0.02%, else <code>false</code>
+     */
+    boolean isAnyCornerCloudProbabilityBelowThreshold(GridLocation location) {
+        int cell = location.southWestIndex;
+
+        return (belowThresholdCells[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    // ==================================================================================
+    //                                 Helper Functions
+    // ==================================================================================
+
+    /**
+     * <p>Sets the bit of each cell with a corner at or below the P<sub>L</sub> threshold, with the eastern corner of the
+     *    last column wrapped around as in the interpolation.</p>
+     *
+     * @param cloudProbabilityGrid P<sub>L</sub> grid in percent
+     * @return Cell bitmap
+     */
+    private static long[] computeBelowThresholdCells(Grid cloudProbabilityGrid) {
+        long[] belowThresholdCells = new long[NUMBER_OF_BITMAP_WORDS];
+
+        for (int row = 0; row < Grid.ROWS - 1; row++) {
+            int southernRowOffset = row * Grid.COLUMNS;
+            int northernRowOffset = southernRowOffset + Grid.COLUMNS;
+
+            for (int column = 0; column < Grid.COLUMNS; column++) {
+                int easternColumn = (column + 1 == Grid.COLUMNS) ? 1 : column + 1;
+
+                if ((cloudProbabilityGrid.value(southernRowOffset + column) <= Itu840.CLOUD_PROBABILITY_THRESHOLD_PERCENT) ||
+                    (cloudProbabilityGrid.value(southernRowOffset + easternColumn) <= Itu840.CLOUD_PROBABILITY_THRESHOLD_PERCENT) ||
+                    (cloudProbabilityGrid.value(northernRowOffset + column) <= Itu840.CLOUD_PROBABILITY_THRESHOLD_PERCENT) ||
+                    (cloudProbabilityGrid.value(northernRowOffset + easternColumn) <= Itu840.CLOUD_PROBABILITY_THRESHOLD_PERCENT)) {
+
+                    int cell = southernRowOffset + column;
+                    belowThresholdCells[cell >>> 6] |= 1L << cell;
+                }
+            }
+        }
+
+        return belowThresholdCells;
+    }
+
+    /**
+     * <p>Reads the size and modification time of the three digital maps.</p>
+     *
+     * @param folderPath Path to the digital maps folder
+     * @return Size and modification time of each digital map, in file order
+     * @throws IOException If a digital map is missing or cannot be read
+     */
+    private static long[] readSourceAttributes(String folderPath) throws IOException {
+        long[] sources = new long[2 * SOURCE_FILE_NAMES.length];
+
+        for (int i = 0; i < SOURCE_FILE_NAMES.length; i++) {
+            BasicFileAttributes attributes = Files.readAttributes(Path.of(folderPath, SOURCE_FILE_NAMES[i]), BasicFileAttributes.class);
+            sources[2 * i] = attributes.size();
+            sources[2 * i + 1] = attributes.lastModifiedTime().toMillis();
+        }
+
+        return sources;
+    }
+
+    private static boolean isValidHeader(MemorySegment header, long[] sources) {
+        if (header.get(LONG, MAGIC_OFFSET) != MAGIC || header.get(INT, VERSION_OFFSET) != VERSION ||
+            header.get(INT, ROWS_OFFSET) != Grid.ROWS || header.get(INT, COLUMNS_OFFSET) != Grid.COLUMNS) {
+            return false;
+        }
+
+        for (int i = 0; i < sources.length; i++) {
+            if (header.get(LONG, SOURCES_OFFSET + (long) i * Long.BYTES) != sources[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static PackedLogNormalGrid read(MemorySegment segment) {
+        double[] parameters = new double[NUMBER_OF_POINTS * PARAMETERS_PER_POINT];
+        long[] belowThresholdCells = new long[NUMBER_OF_BITMAP_WORDS];
+
+        MemorySegment.copy(segment, BinaryGridFile.DOUBLE, HEADER_SIZE, parameters, 0, parameters.length);
+        MemorySegment.copy(segment, LONG, HEADER_SIZE + (long) parameters.length * Double.BYTES, belowThresholdCells, 0, belowThresholdCells.length);
+
+        return new PackedLogNormalGrid(parameters, belowThresholdCells);
+    }
+
+    /**
+     * <p>Writes the packed file through a temporary file, so that concurrent readers never observe a partial file.</p>
+     *
+     * @param packedFile Path to the packed file
+     * @param sources Size and modification time of each digital map
+     * @throws IOException If the file cannot be written
+     */
+    private void write(Path packedFile, long[] sources) throws IOException {
+        Path absolutePackedFile = packedFile.toAbsolutePath();
+        Path temporaryFile = Files.createTempFile(absolutePackedFile.getParent(), FILE_NAME, ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 Arena arena = Arena.ofConfined()) {
+
+                MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE, arena);
+
+                segment.set(LONG, MAGIC_OFFSET, MAGIC);
+                segment.set(INT, VERSION_OFFSET, VERSION);
+                segment.set(INT, ROWS_OFFSET, Grid.ROWS);
+                segment.set(INT, COLUMNS_OFFSET, Grid.COLUMNS);
+
+                for (int i = 0; i < sources.length; i++) {
+                    segment.set(LONG, SOURCES_OFFSET + (long) i * Long.BYTES, sources[i]);
+                }
+
+                MemorySegment.copy(parameters, 0, segment, BinaryGridFile.DOUBLE, HEADER_SIZE, parameters.length);
+                MemorySegment.copy(belowThresholdCells, 0, segment, LONG, HEADER_SIZE + (long) parameters.length * Double.BYTES, belowThresholdCells.length);
+
+                segment.force();
+            }
+
+            Files.move(temporaryFile, absolutePackedFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+}
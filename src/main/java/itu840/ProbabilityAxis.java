@@ -0,0 +1,174 @@
+package itu840;
+
+import java.util.*;
+
+/**
+ * <p><b>Primitive, immutable stack of L(p) grids</b></p>
+ *
+ * <p>Holds the probability levels of a dataset as a sorted <code>double[]</code>, together with their precomputed
+ *    log<sub>10</sub> values and the grid of each level. Equation (13) on an axis finds the bracketing levels by a
+ *    fixed-shape binary search without boxing, and does not recompute log<sub>10</sub> of the levels, so
+ *    {@link Itu840#computeSlantPathStatisticalCloudAttenuation(double, double, double, double, double, ProbabilityAxis)}
+ *    allocates nothing. Its results are bit-for-bit identical to the map overloads.</p>
+ *
+ * <p>Instances are immutable and thread-safe, provided the grids are not modified.</p>
+ */
+public final class ProbabilityAxis extends ProbabilityLevels {
+
+    // Package-private for the Equation (13) kernels; never modified after construction
+    final Grid[] grids;
+
+    private ProbabilityAxis(double[] levels, Grid[] grids) {
+        super(levels);
+        this.grids = grids;
+    }
+
+    /**
+     * <p>Creates an axis from grids of L(p) (e.g. from {@link Grid#loadByProbability(String)}).</p>
+     *
+     * @param gridsByProbability A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @return A probability axis that shares the grids of the map
+     * @throws IllegalArgumentException If the map is empty or contains a non-positive p
+     */
+    public static ProbabilityAxis of(NavigableMap<Double, Grid> gridsByProbability) {
+        if (gridsByProbability.isEmpty()) {
+            throw new IllegalArgumentException("At least one grid of L(p) is required.");
+        }
+
+        double[] levels = new double[gridsByProbability.size()];
+        Grid[] grids = new Grid[gridsByProbability.size()];
+        int index = 0;
+
+        for (Map.Entry<Double, Grid> entry : gridsByProbability.entrySet()) {
+            if (!(entry.getKey() > 0.0)) {
+                throw new IllegalArgumentException("p must be positive: " + entry.getKey() + ".");
+            }
+
+            levels[index] = entry.getKey();
+            grids[index] = Objects.requireNonNull(entry.getValue(), "grid");
+            index++;
+        }
+
+        return new ProbabilityAxis(levels, grids);
+    }
+
+    /**
+     * <p>Creates an axis from array grids of L(p) (e.g. from {@link Itu840#loadGridsByProbability(String)}),
+     *    copying each grid into a flat {@link Grid}.</p>
+     *
+     * @param gridsByProbability A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @return A probability axis of flat grids
+     * @throws IllegalArgumentException If the map is empty or contains a non-positive p
+     */
+    public static ProbabilityAxis ofArrays(NavigableMap<Double, double[][]> gridsByProbability) {
+        TreeMap<Double, Grid> grids = new TreeMap<>();
+        gridsByProbability.forEach((exceedanceProbability, grid) -> grids.put(exceedanceProbability, Grid.of(grid)));
+
+        return of(grids);
+    }
+
+    // ==================================================================================
+    //                                      Access
+    // ==================================================================================
+
+    /**
+     * <p>Returns the number of probability levels.</p>
+     *
+     * @return Number of levels
+     */
+    public int size() {
+        return levels.length;
+    }
+
+    /**
+     * <p>Returns a probability level.</p>
+     *
+     * @param index Level index, in ascending order of p
+     * @return p in percent
+     */
+    public double level(int index) {
+        return levels[index];
+    }
+
+    /**
+     * <p>Returns the grid of a probability level.</p>
+     *
+     * @param index Level index, in ascending order of p
+     * @return The grid of L(p)
+     */
+    public Grid grid(int index) {
+        return grids[index];
+    }
+
+    /**
+     * <p>Returns the probability levels.</p>
+     *
+     * @return p values in percent, in ascending order
+     */
+    public double[] exceedanceProbabilities() {
+        return levels.clone();
+    }
+
+    /**
+     * <p>Returns the index of the greatest level less than or equal to p.</p>
+     *
+     * <p>The search always takes ⌈log<sub>2</sub>(size)⌉ steps, each a comparison and a conditional move,
+     *    so its cost does not depend on p.</p>
+     *
+     * @param exceedanceProbability p in percent
+     * @return Index of p<sub>below</sub>
+     * @throws IllegalArgumentException If p is outside the levels of the axis
+     */
+    public int floorIndex(double exceedanceProbability) {
+        return floorIndex(levels, exceedanceProbability);
+    }
+
+    @Override
+    double interpolate(GridLocation location, int level) {
+        return Itu840.bilinearInterpolation(location, grids[level]);
+    }
+
+    // ==================================================================================
+    //                                 Helper Functions
+    // ==================================================================================
+
+    /**
+     * <p>Returns the index of the greatest level less than or equal to p (see {@link #floorIndex(double)}).</p>
+     *
+     * @param levels p values in percent, in ascending order
+     * @param exceedanceProbability p in percent
+     * @return Index of p<sub>below</sub>
+     * @throws IllegalArgumentException If p is outside the levels
+     */
+    static int floorIndex(double[] levels, double exceedanceProbability) {
+        if (!(exceedanceProbability >= levels[0] && exceedanceProbability <= levels[levels.length - 1])) {
+            throw new IllegalArgumentException("p = " + exceedanceProbability + "% is outside [" + levels[0] + ", " + levels[levels.length - 1] + "]%.");
+        }
+
+        int base = 0;
+
+        for (int length = levels.length; length > 1; ) {
+            int half = length >>> 1;
+            base = (levels[base + half] <= exceedanceProbability) ? base + half : base;
+            length -= half;
+        }
+
+        return base;
+    }
+
+    /**
+     * <p>Computes log<sub>10</sub> of each level.</p>
+     *
+     * @param levels p values in percent
+     * @return log<sub>10</sub>(p) of each level
+     */
+    static double[] log10(double[] levels) {
+        double[] log10Levels = new double[levels.length];
+
+        for (int i = 0; i < levels.length; i++) {
+            log10Levels[i] = Math.log10(levels[i]);
+        }
+
+        return log10Levels;
+    }
+}
@@ -0,0 +1,165 @@
+package itu840;
+
+import java.util.*;
+
+/**
+ * <p><b>Cell-major cube of L(p) values</b></p>
+ *
+ * <p>Stores the grids of L(p) of a dataset as one [lat][lon][p] cube: the values of all probability levels of a grid point
+ *    are contiguous, so the four corners of a cell, at every level, lie in four short runs of memory instead of
+ *    in one row pair per level spread over separate grids. This suits queries of several probabilities at one site,
+ *    such as a whole CCDF (see {@link Itu840#bilinearInterpolation(double, double, ProbabilityCube, double[])}).
+ *    For single queries over many sites, the per-level grids of {@link ProbabilityAxis} are the better layout.</p>
+ *
+ * <p>The cube holds doubles and gives the same Equation (13) results as the map overloads, bit for bit.
+ *    With the 23 annual levels it takes about 191 MB. Instances are immutable and thread-safe.</p>
+ */
+public final class ProbabilityCube extends ProbabilityLevels {
+
+    // Package-private for the interpolation kernels; never modified after construction
+    final double[] values; // index = (row * COLUMNS + column) * levels.length + level
+
+    private ProbabilityCube(double[] levels, double[] values) {
+        super(levels);
+        this.values = values;
+    }
+
+    /**
+     * <p>Builds a cube from array grids of L(p) (e.g. from {@link Itu840#loadGridsByProbability(String)}).</p>
+     *
+     * @param gridsByProbability A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @return A probability cube with a copy of the values
+     * @throws IllegalArgumentException If the map is empty, contains a non-positive p, or a grid is not 721 × 1441
+     */
+    public static ProbabilityCube ofArrays(NavigableMap<Double, double[][]> gridsByProbability) {
+        double[] levels = levels(gridsByProbability.keySet());
+        double[] values = new double[checkedSize(levels.length)];
+        int level = 0;
+
+        for (double[][] grid : gridsByProbability.values()) {
+            if (grid.length != Grid.ROWS) {
+                throw new IllegalArgumentException("Grid must have " + Grid.ROWS + " rows, but has " + grid.length + ".");
+            }
+
+            for (int row = 0; row < Grid.ROWS; row++) {
+                if (grid[row].length != Grid.COLUMNS) {
+                    throw new IllegalArgumentException("Row " + (row + 1) + " must have " + Grid.COLUMNS + " columns, but has " + grid[row].length + ".");
+                }
+
+                int index = row * Grid.COLUMNS * levels.length + level;
+
+                for (int column = 0; column < Grid.COLUMNS; column++, index += levels.length) {
+                    values[index] = grid[row][column];
+                }
+            }
+
+            level++;
+        }
+
+        return new ProbabilityCube(levels, values);
+    }
+
+    /**
+     * <p>Builds a cube from grids of L(p) (e.g. from {@link Grid#loadByProbability(String)}).</p>
+     *
+     * @param gridsByProbability A map where each key is a p, and the corresponding value is the grid of L(p).
+     * @return A probability cube with a copy of the values
+     * @throws IllegalArgumentException If the map is empty or contains a non-positive p
+     */
+    public static ProbabilityCube of(NavigableMap<Double, Grid> gridsByProbability) {
+        double[] levels = levels(gridsByProbability.keySet());
+        double[] values = new double[checkedSize(levels.length)];
+        int level = 0;
+
+        for (Grid grid : gridsByProbability.values()) {
+            for (int cell = 0, index = level; cell < Grid.ROWS * Grid.COLUMNS; cell++, index += levels.length) {
+                values[index] = grid.value(cell);
+            }
+
+            level++;
+        }
+
+        return new ProbabilityCube(levels, values);
+    }
+
+    // ==================================================================================
+    //                                      Access
+    // ==================================================================================
+
+    /**
+     * <p>Returns the number of probability levels.</p>
+     *
+     * @return Number of levels
+     */
+    public int size() {
+        return levels.length;
+    }
+
+    /**
+     * <p>Returns the probability levels.</p>
+     *
+     * @return p values in percent, in ascending order
+     */
+    public double[] exceedanceProbabilities() {
+        return levels.clone();
+    }
+
+    /**
+     * <p>Returns the value of L(p) at a grid point and probability level.</p>
+     *
+     * @param row Row (latitude) index
+     * @param column Column (longitude) index
+     * @param level Level index, in ascending order of p
+     * @return L(p) in kg/m<sup>2</sup> (equivalently mm)
+     */
+    public double value(int row, int column, int level) {
+        return values[(row * Grid.COLUMNS + column) * levels.length + level];
+    }
+
+    /**
+     * <p>Returns the number of bytes used by the values.</p>
+     *
+     * @return Size of the values in bytes
+     */
+    public long sizeInBytes() {
+        return (long) values.length * Double.BYTES;
+    }
+
+    @Override
+    double interpolate(GridLocation location, int level) {
+        return Itu840.bilinearInterpolation(location, this, level);
+    }
+
+    // ==================================================================================
+    //                                 Helper Functions
+    // ==================================================================================
+
+    private static double[] levels(Set<Double> exceedanceProbabilities) {
+        if (exceedanceProbabilities.isEmpty()) {
+            throw new IllegalArgumentException("At least one grid of L(p) is required.");
+        }
+
+        double[] levels = new double[exceedanceProbabilities.size()];
+        int index = 0;
+
+        for (double exceedanceProbability : exceedanceProbabilities) {
+            if (!(exceedanceProbability > 0.0)) {
+                throw new IllegalArgumentException("p must be positive: " + exceedanceProbability + ".");
+            }
+
+            levels[index++] = exceedanceProbability;
+        }
+
+        return levels;
+    }
+
+    private static int checkedSize(int numberOfLevels) {
+        long size = (long) Grid.ROWS * Grid.COLUMNS * numberOfLevels;
+
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many probability levels for one cube: " + numberOfLevels + ".");
+        }
+
+        return (int) size;
+    }
+}
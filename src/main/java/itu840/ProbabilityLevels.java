@@ -0,0 +1,29 @@
+package itu840;
+
+/**
+ * <p><b>Probability levels of L(p) shared by the Equation (13) layouts</b></p>
+ *
+ * <p>Holds the sorted levels and their log<sub>10</sub> values, and interpolates L at one level at a grid location,
+ *    whatever the layout of the grids ({@link ProbabilityAxis} or {@link ProbabilityCube}). The curve and inverse
+ *    kernels of {@link Itu840} interpolate only the levels they need through this class, so they allocate nothing.</p>
+ */
+abstract sealed class ProbabilityLevels permits ProbabilityAxis, ProbabilityCube {
+
+    // Package-private for the Equation (13) kernels; never modified after construction
+    final double[] levels;
+    final double[] log10Levels;
+
+    ProbabilityLevels(double[] levels) {
+        this.levels = levels;
+        this.log10Levels = ProbabilityAxis.log10(levels);
+    }
+
+    /**
+     * <p>Performs bilinear interpolation of L at one probability level at a grid location.</p>
+     *
+     * @param location Grid location of the site
+     * @param level Level index, in ascending order of p
+     * @return L in kg/m<sup>2</sup>, or 0 if no valid neighbors exist
+     */
+    abstract double interpolate(GridLocation location, int level);
+}
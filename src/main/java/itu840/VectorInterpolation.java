@@ -0,0 +1,150 @@
+package itu840;
+
+import jdk.incubator.vector.*;
+
+/**
+ * <p><b>Vector API kernel of the batch bilinear interpolation</b></p>
+ *
+ * <p>Interpolates one lane per location: the grid indices, the fractions, and the four weights are computed lane-wise,
+ *    the corners are gathered from the values of a {@link Grid.DoubleGrid}, and the <code>NaN</code> corners are left
+ *    out of the weighted sum with masked additions in the same order as
+ *    {@link Itu840#bilinearInterpolation(double, double, Grid)}. Every operation is a correctly rounded IEEE 754
+ *    operation of the scalar code (no fused multiply-add), so the results are identical bit for bit.</p>
+ *
+ * <p>Only chunks whose locations all lie in [&minus;90°, 90°] × [&minus;180°, 180°] are vectorized; there the scaled
+ *    coordinates are non-negative, so truncation equals {@link Math#floor(double)}. Other chunks and the tail are
+ *    interpolated by the scalar method.</p>
+ *
+ * <p>This class links against <code>jdk.incubator.vector</code>. It is compiled only by the <code>vector-api</code>
+ *    profile, and {@link Itu840} loads it by name, only when that module is present
+ *    (see {@link Itu840#isBatchInterpolationVectorized()}).</p>
+ */
+final class VectorInterpolation implements BatchInterpolationKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * <p>Returns the number of locations interpolated per vector.</p>
+     *
+     * @return Number of double lanes of the preferred species
+     */
+    @Override
+    public int laneCount() {
+        return SPECIES.length();
+    }
+
+    /**
+     * <p>Interpolates a flat grid of doubles at each location.</p>
+     *
+     * @param latitudes Latitudes in degrees
+     * @param longitudes Longitudes in degrees, same length as the latitudes
+     * @param grid A flat grid of doubles
+     * @param destination Receives the interpolated values, at least as long as the latitudes
+     */
+    @Override
+    public void bilinearInterpolation(double[] latitudes, double[] longitudes, Grid.DoubleGrid grid, double[] destination) {
+        double[] values = grid.values;
+        int lanes = SPECIES.length();
+        int length = latitudes.length;
+        int vectorizedLength = SPECIES.loopBound(length);
+
+        // D2I halves the lane size, so the converted vector has twice the lanes; only the first half is used
+        int[] southWestIndices = new int[2 * lanes];
+        int[] southEastIndices = new int[2 * lanes];
+
+        DoubleVector one = DoubleVector.broadcast(SPECIES, 1.0);
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+
+        int i = 0;
+
+        for (; i < vectorizedLength; i += lanes) {
+            DoubleVector latitude = DoubleVector.fromArray(SPECIES, latitudes, i);
+            DoubleVector longitude = DoubleVector.fromArray(SPECIES, longitudes, i);
+
+            VectorMask<Double> inRange = latitude.compare(VectorOperators.GE, Itu840.LATITUDE_MIN_DEGREES)
+                    .and(latitude.compare(VectorOperators.LE, Itu840.LATITUDE_MAX_DEGREES))
+                    .and(longitude.compare(VectorOperators.GE, Itu840.LONGITUDE_MIN_DEGREES))
+                    .and(longitude.compare(VectorOperators.LE, Itu840.LONGITUDE_MAX_DEGREES));
+
+            if (!inRange.allTrue()) {
+                for (int j = i; j < i + lanes; j++) {
+                    destination[j] = Itu840.bilinearInterpolation(latitudes[j], longitudes[j], grid);
+                }
+                continue;
+            }
+
+            // Grid indices, held exactly as doubles
+            DoubleVector southernLatitudeIndex = truncate(latitude.sub(Itu840.GRID_LATITUDE_START_DEGREE).div(Itu840.GRID_LATITUDE_STEP_DEGREE))
+                    .min(Itu840.NUMBER_OF_LATITUDE_POINTS - 2);
+            DoubleVector northernLatitudeIndex = southernLatitudeIndex.add(1.0);
+
+            DoubleVector westernLongitudeIndex = truncate(longitude.sub(Itu840.GRID_LONGITUDE_START_DEGREE).div(Itu840.GRID_LONGITUDE_STEP_DEGREE));
+            DoubleVector easternLongitudeIndex = westernLongitudeIndex.add(1.0);
+            easternLongitudeIndex = easternLongitudeIndex.blend(1.0, easternLongitudeIndex.compare(VectorOperators.EQ, Itu840.NUMBER_OF_LONGITUDE_POINTS));
+
+            DoubleVector southernLatitude = southernLatitudeIndex.mul(Itu840.GRID_LATITUDE_STEP_DEGREE).add(Itu840.GRID_LATITUDE_START_DEGREE);
+            DoubleVector northernLatitude = northernLatitudeIndex.mul(Itu840.GRID_LATITUDE_STEP_DEGREE).add(Itu840.GRID_LATITUDE_START_DEGREE);
+            DoubleVector westernLongitude = westernLongitudeIndex.mul(Itu840.GRID_LONGITUDE_STEP_DEGREE).add(Itu840.GRID_LONGITUDE_START_DEGREE);
+            DoubleVector easternLongitude = easternLongitudeIndex.mul(Itu840.GRID_LONGITUDE_STEP_DEGREE).add(Itu840.GRID_LONGITUDE_START_DEGREE);
+
+            DoubleVector xFraction = longitude.sub(westernLongitude).div(easternLongitude.sub(westernLongitude));
+            DoubleVector yFraction = latitude.sub(southernLatitude).div(northernLatitude.sub(southernLatitude));
+
+            // Gather the corners; the northern ones are one row (1441 values) further
+            DoubleVector southernRowOffset = southernLatitudeIndex.mul(Itu840.NUMBER_OF_LONGITUDE_POINTS);
+
+            toIndices(southernRowOffset.add(westernLongitudeIndex), southWestIndices);
+            toIndices(southernRowOffset.add(easternLongitudeIndex), southEastIndices);
+
+            DoubleVector valueSouthWest = DoubleVector.fromArray(SPECIES, values, 0, southWestIndices, 0);
+            DoubleVector valueSouthEast = DoubleVector.fromArray(SPECIES, values, 0, southEastIndices, 0);
+            DoubleVector valueNorthWest = DoubleVector.fromArray(SPECIES, values, Itu840.NUMBER_OF_LONGITUDE_POINTS, southWestIndices, 0);
+            DoubleVector valueNorthEast = DoubleVector.fromArray(SPECIES, values, Itu840.NUMBER_OF_LONGITUDE_POINTS, southEastIndices, 0);
+
+            // Weighted sum over the valid corners (see Itu840.interpolateCorners)
+            DoubleVector weightSouthWest = one.sub(xFraction).mul(one.sub(yFraction));
+            DoubleVector weightSouthEast = xFraction.mul(one.sub(yFraction));
+            DoubleVector weightNorthWest = one.sub(xFraction).mul(yFraction);
+            DoubleVector weightNorthEast = xFraction.mul(yFraction);
+
+            DoubleVector weightedSum = zero;
+            DoubleVector totalWeight = zero;
+
+            VectorMask<Double> valid = valueSouthWest.test(VectorOperators.IS_NAN).not();
+            weightedSum = weightedSum.add(valueSouthWest.mul(weightSouthWest), valid);
+            totalWeight = totalWeight.add(weightSouthWest, valid);
+
+            valid = valueSouthEast.test(VectorOperators.IS_NAN).not();
+            weightedSum = weightedSum.add(valueSouthEast.mul(weightSouthEast), valid);
+            totalWeight = totalWeight.add(weightSouthEast, valid);
+
+            valid = valueNorthWest.test(VectorOperators.IS_NAN).not();
+            weightedSum = weightedSum.add(valueNorthWest.mul(weightNorthWest), valid);
+            totalWeight = totalWeight.add(weightNorthWest, valid);
+
+            valid = valueNorthEast.test(VectorOperators.IS_NAN).not();
+            weightedSum = weightedSum.add(valueNorthEast.mul(weightNorthEast), valid);
+            totalWeight = totalWeight.add(weightNorthEast, valid);
+
+            weightedSum.div(totalWeight)
+                    .blend(zero, totalWeight.compare(VectorOperators.GT, 0.0).not())
+                    .intoArray(destination, i);
+        }
+
+        for (; i < length; i++) {
+            destination[i] = Itu840.bilinearInterpolation(latitudes[i], longitudes[i], grid);
+        }
+    }
+
+    // ==================================================================================
+    //                                 Helper Functions
+    // ==================================================================================
+
+    private static DoubleVector truncate(DoubleVector vector) {
+        return (DoubleVector) vector.convert(VectorOperators.D2L, 0).convert(VectorOperators.L2D, 0);
+    }
+
+    private static void toIndices(DoubleVector vector, int[] indices) {
+        ((IntVector) vector.convert(VectorOperators.D2I, 0)).intoArray(indices, 0);
+    }
+}
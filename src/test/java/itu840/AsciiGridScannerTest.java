@@ -0,0 +1,95 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.nio.charset.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the allocation-free digital map scanner.</p>
+ *
+ * <p>Every token must give the same bits (or the same {@link NumberFormatException}) as {@link Double#parseDouble(String)},
+ *    and malformed rows must produce the same diagnostics as the line-by-line reader, both sequentially and with
+ *    the rows parsed on an executor.</p>
+ */
+public class AsciiGridScannerTest {
+
+    private static final String[] TOKEN_ALPHABET = {"0", "1", "5", "9", ".", "e", "E", "-", "+", "x", "N", "a", "f", "d", "I"};
+
+    @Test
+    void validateNumbersAgainstParseDouble() {
+        Random random = new Random(840);
+        List<String> tokens = new ArrayList<>(List.of(
+                "0", "-0", "-0.0", "+1", "NaN", "-NaN", "Infinity", "-Infinity", "1.", ".5", ".", "", "-", "1e", "1e+", "e5",
+                "1.5f", "2d", "0x1p3", "0.1", "0.30000000000000004", "123456789012345", "1234567890123456", "9007199254740993",
+                "1e22", "1e23", "1e-22", "1e-23", "4.9e-324", "1.7976931348623157e308", "1e400", "0e999", "0.000001234"));
+
+        for (int i = 0; i < 100_000; i++) {
+            tokens.add(Double.toString(Double.longBitsToDouble(random.nextLong())));
+            tokens.add(String.format(Locale.ROOT, "%." + random.nextInt(18) + "f", random.nextDouble() * Math.pow(10, random.nextInt(30) - 15)));
+
+            StringBuilder token = new StringBuilder();
+            int length = 1 + random.nextInt(8);
+
+            for (int k = 0; k < length; k++) {
+                token.append(TOKEN_ALPHABET[random.nextInt(random.nextBoolean() ? 5 : TOKEN_ALPHABET.length)]);
+            }
+
+            tokens.add(token.toString());
+        }
+
+        for (String token : tokens) {
+            byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+
+            String expected;
+            String actual;
+
+            try {
+                expected = Long.toHexString(Double.doubleToRawLongBits(Double.parseDouble(token)));
+            }
+            catch (NumberFormatException e) {
+                expected = "NumberFormatException";
+            }
+
+            try {
+                actual = Long.toHexString(Double.doubleToRawLongBits(AsciiGridScanner.parseDouble(bytes, 0, bytes.length)));
+            }
+            catch (NumberFormatException e) {
+                actual = "NumberFormatException";
+            }
+
+            assertEquals(expected, actual, "Token \"" + token + "\" is not parsed like Double.parseDouble.");
+        }
+    }
+
+    @Test
+    void validateDiagnostics() {
+        assertDiagnostic("1 2 3\n4 5 6\n", 2, 3, null);
+        assertDiagnostic(" \t1\t2  3 \r\n4 5 6\r", 2, 3, null);
+        assertDiagnostic("1 2 3\n", 2, 3, "Row 2 is missing.");
+        assertDiagnostic("1 2 3\n   \n4 5 6\n", 2, 3, "Row 2 is missing.");
+        assertDiagnostic("1 2 3\n4 5\n", 2, 3, "Row 2 has fewer columns than expected.");
+        assertDiagnostic("1 2 3\n4 x 6 7\n", 2, 3, "Row 2 has more columns than expected.");
+        assertDiagnostic("1 2 3\n4 x 6\n", 2, 3, "Invalid number at row 2, column 2: x.");
+        assertDiagnostic("1 2 3\n4 5 6\n\n", 2, 3, "File has more rows than expected.");
+    }
+
+    private static void assertDiagnostic(String content, int rows, int columns, String expectedMessage) {
+        byte[] bytes = content.getBytes(StandardCharsets.US_ASCII);
+
+        for (ExecutorService executor : Arrays.asList(null, ForkJoinPool.commonPool())) {
+            try {
+                double[][] grid = (executor == null) ? AsciiGridScanner.parseGrid(bytes, rows, columns) : AsciiGridScanner.parseGrid(bytes, rows, columns, executor);
+                assertNull(expectedMessage, "Expected \"" + expectedMessage + "\".");
+                assertEquals(6.0, grid[rows - 1][columns - 1]);
+            }
+            catch (IOException e) {
+                assertEquals(expectedMessage, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the parallel attenuation raster engine, using synthetic grids.</p>
+ *
+ * <p>Every raster value must be bit-for-bit identical to the point method at the same location, for Equation (13)
+ *    at a grid probability and between two, and for Equation (15).</p>
+ */
+public class AttenuationRasterTest {
+
+    @Test
+    void validateAgainstPointMethods() {
+        Random random = new Random(846);
+        TreeMap<Double, Grid> grids = new TreeMap<>();
+        grids.put(1.0, Grid.of(GridTest.syntheticGrid(random)));
+        grids.put(10.0, Grid.of(GridTest.syntheticGrid(random)));
+        ProbabilityAxis probabilityAxis = ProbabilityAxis.of(grids);
+
+        LogNormalGrids logNormalGrids = new LogNormalGrids(Grid.of(GridTest.syntheticGrid(random)), Grid.of(GridTest.syntheticGrid(random)),
+                                                           Grid.of(GridTest.syntheticGrid(random)));
+
+        AttenuationRaster globalRaster = AttenuationRaster.covering(-90.0, 90.0, -180.0, 180.0, 0.25);
+        assertEquals(Grid.ROWS, globalRaster.numberOfRows());
+        assertEquals(Grid.COLUMNS, globalRaster.numberOfColumns());
+
+        AttenuationRaster raster = AttenuationRaster.covering(-12.3, 47.9, 100.0, 180.0, 0.37);
+        double[] attenuations = new double[raster.size()];
+        ForkJoinPool pool = new ForkJoinPool(3);
+
+        try {
+            for (double exceedanceProbability : new double[] {1.0, 3.7}) {
+                raster.computeSlantPathStatisticalCloudAttenuation(30.0, exceedanceProbability, 20.0, probabilityAxis, attenuations, pool);
+
+                for (int row = 0; row < raster.numberOfRows(); row++) {
+                    for (int column = 0; column < raster.numberOfColumns(); column++) {
+                        assertEquals(Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, raster.latitude(row), raster.longitude(column), exceedanceProbability, 20.0, grids),
+                                     attenuations[row * raster.numberOfColumns() + column]);
+                    }
+                }
+            }
+
+            raster.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(30.0, 0.5, 20.0, logNormalGrids, attenuations, pool);
+
+            for (int row = 0; row < raster.numberOfRows(); row++) {
+                for (int column = 0; column < raster.numberOfColumns(); column++) {
+                    assertEquals(Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                                         30.0, raster.latitude(row), raster.longitude(column), 0.5, 20.0,
+                                         logNormalGrids.logNormalMeanParameterGrid(), logNormalGrids.logNormalStandardDeviationParameterGrid(), logNormalGrids.cloudProbabilityGrid()),
+                                 attenuations[row * raster.numberOfColumns() + column]);
+                }
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> raster.computeSlantPathStatisticalCloudAttenuation(30.0, 3.7, 20.0, probabilityAxis, new double[10]));
+        assertThrows(IllegalArgumentException.class, () -> AttenuationRaster.covering(-90.0, 90.0, -180.0, 180.5, 0.25));
+    }
+}
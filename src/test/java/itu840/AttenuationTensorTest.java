@@ -0,0 +1,88 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the site × frequency × probability attenuation tensor, using synthetic grids.</p>
+ *
+ * <p>Every tensor value must be bit-for-bit identical to the point method for its site, frequency, and probability,
+ *    for Equation (13) at grid probabilities and between them, and for Equation (15).</p>
+ */
+public class AttenuationTensorTest {
+
+    @Test
+    void validateAgainstPointMethods() {
+        Random random = new Random(23);
+        TreeMap<Double, Grid> grids = new TreeMap<>();
+        grids.put(0.1, Grid.of(GridTest.syntheticGrid(random)));
+        grids.put(1.0, Grid.of(GridTest.syntheticGrid(random)));
+        grids.put(10.0, Grid.of(GridTest.syntheticGrid(random)));
+        ProbabilityAxis probabilityAxis = ProbabilityAxis.of(grids);
+
+        LogNormalGrids logNormalGrids = new LogNormalGrids(Grid.of(GridTest.syntheticGrid(random)), Grid.of(GridTest.syntheticGrid(random)),
+                                                           Grid.of(GridTest.syntheticGrid(random)));
+
+        int numberOfSites = 101;
+        double[] latitudes = new double[numberOfSites];
+        double[] longitudes = new double[numberOfSites];
+
+        for (int site = 0; site < numberOfSites; site++) {
+            latitudes[site] = -90.0 + random.nextDouble() * 180.0;
+            longitudes[site] = -180.0 + random.nextDouble() * 360.0;
+        }
+
+        latitudes[0] = 90.0;
+        longitudes[0] = 180.0;
+
+        double[] frequencies = {1.0, 12.5, 30.0, 94.0, 200.0};
+        double[] exceedanceProbabilities = {5.0, 0.1, 1.0, 0.37, 10.0, 2.2};
+
+        AttenuationTensor tensor = new AttenuationTensor(latitudes, longitudes, frequencies, exceedanceProbabilities);
+        assertEquals(numberOfSites * frequencies.length * exceedanceProbabilities.length, tensor.size());
+
+        double[] attenuations = new double[tensor.size()];
+        ForkJoinPool pool = new ForkJoinPool(3);
+
+        try {
+            tensor.computeSlantPathStatisticalCloudAttenuation(20.0, probabilityAxis, attenuations, pool);
+
+            for (int site = 0; site < numberOfSites; site++) {
+                for (int f = 0; f < frequencies.length; f++) {
+                    for (int p = 0; p < exceedanceProbabilities.length; p++) {
+                        assertEquals(Itu840.computeSlantPathStatisticalCloudAttenuation(frequencies[f], latitudes[site], longitudes[site], exceedanceProbabilities[p], 20.0, grids),
+                                     attenuations[tensor.index(site, f, p)]);
+                    }
+                }
+            }
+
+            // Smaller p, so that Equation (15) is not 0 at most sites
+            double[] logNormalExceedanceProbabilities = {0.5, 0.01, 0.1, 0.037, 1.0, 0.22};
+            AttenuationTensor logNormalTensor = new AttenuationTensor(latitudes, longitudes, frequencies, logNormalExceedanceProbabilities);
+            logNormalTensor.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(20.0, logNormalGrids, attenuations, pool);
+
+            for (int site = 0; site < numberOfSites; site++) {
+                for (int f = 0; f < frequencies.length; f++) {
+                    for (int p = 0; p < logNormalExceedanceProbabilities.length; p++) {
+                        assertEquals(Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                                             frequencies[f], latitudes[site], longitudes[site], logNormalExceedanceProbabilities[p], 20.0,
+                                             logNormalGrids.logNormalMeanParameterGrid(), logNormalGrids.logNormalStandardDeviationParameterGrid(), logNormalGrids.cloudProbabilityGrid()),
+                                     attenuations[logNormalTensor.index(site, f, p)]);
+                    }
+                }
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> tensor.computeSlantPathStatisticalCloudAttenuation(20.0, probabilityAxis, new double[10]));
+        assertThrows(IllegalArgumentException.class, () -> new AttenuationTensor(latitudes, new double[1], frequencies, exceedanceProbabilities));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new AttenuationTensor(latitudes, longitudes, frequencies, new double[] {50.0}).computeSlantPathStatisticalCloudAttenuation(20.0, probabilityAxis, attenuations));
+    }
+}
@@ -0,0 +1,65 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the batch bilinear interpolation, using a synthetic grid.</p>
+ *
+ * <p>Each batch result must be bit-for-bit identical to the scalar method, whether the Vector API kernel is used or not,
+ *    including cells with <code>NaN</code> corners, the poles, the ±180° meridian, and locations outside the grid.</p>
+ */
+public class BatchInterpolationTest {
+
+    @Test
+    void validateAgainstScalarMethod() {
+        Random random = new Random(16);
+        double[][] values = GridTest.syntheticGrid(random);
+
+        // A cell without any valid corner
+        values[400][700] = values[400][701] = values[401][700] = values[401][701] = Double.NaN;
+
+        int numberOfLocations = 10_007;
+        double[] latitudes = new double[numberOfLocations];
+        double[] longitudes = new double[numberOfLocations];
+
+        for (int i = 0; i < numberOfLocations; i++) {
+            latitudes[i] = -90.0 + random.nextDouble() * 180.0;
+            longitudes[i] = -180.0 + random.nextDouble() * 360.0;
+        }
+
+        double[][] specialLocations = {
+                {-90.0, -180.0}, {90.0, 180.0}, {90.0, -180.0}, {-90.0, 180.0}, {0.0, 0.0}, {89.9, 179.9},
+                {10.0, -180.0}, {10.0, 180.0}, {-89.99, -179.99}, {10.125, 0.125}, {-0.0, -0.0},
+                {10.1, 175.1}, {10.2, -179.8}, {10.3, 179.8}, {10.4, 0.1}, {10.5, 120.3}, {10.6, -60.7}, {10.7, 33.3},
+                {95.0, 10.0}, {Double.NaN, 10.0}, {10.0, 180.5}
+        };
+
+        for (int i = 0; i < specialLocations.length; i++) {
+            latitudes[i] = specialLocations[i][0];
+            longitudes[i] = specialLocations[i][1];
+        }
+
+        latitudes[100] = 10.125;   // NaN-only cell
+        longitudes[100] = -4.875;
+
+        for (Grid.StorageMode storageMode : Grid.StorageMode.values()) {
+            Grid grid = Grid.of(values, storageMode);
+            double[] interpolations = new double[numberOfLocations];
+            Itu840.bilinearInterpolation(latitudes, longitudes, grid, interpolations);
+
+            for (int i = 0; i < numberOfLocations; i++) {
+                double expected = Itu840.bilinearInterpolation(latitudes[i], longitudes[i], grid);
+                assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(interpolations[i]),
+                             storageMode + " at (" + latitudes[i] + ", " + longitudes[i] + ")");
+            }
+        }
+
+        assertEquals(0.0, Itu840.bilinearInterpolation(10.125, -4.875, Grid.of(values)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Itu840.bilinearInterpolation(latitudes, new double[1], Grid.of(values), new double[numberOfLocations]));
+    }
+}
@@ -0,0 +1,75 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.lang.foreign.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the binary grid cache, using a synthetic 721 × 1441 digital map written to a temporary folder.</p>
+ *
+ * <p>The cached grid must be identical to the grid parsed by {@link Itu840#readGridFromFile(String)},
+ *    including <code>NaN</code> grid points, and a modified TXT map must invalidate its cache file.</p>
+ */
+public class BinaryGridFileTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void validateRoundTripAndStaleDetection() throws Exception {
+        Path textFile = temporaryDirectory.resolve("L_1.TXT");
+        writeSyntheticMap(textFile, 0.0);
+
+        String textFilePath = textFile.toString();
+        String binaryFilePath = BinaryGridFile.binaryFilePathFor(textFilePath);
+
+        assertFalse(BinaryGridFile.isUpToDate(textFilePath, binaryFilePath), "Cache file must not exist before the first read.");
+
+        double[][] parsedGrid = Itu840.readGridFromFile(textFilePath);
+        double[][] cachedGrid = BinaryGridFile.readGrid(textFilePath);
+
+        assertTrue(BinaryGridFile.isUpToDate(textFilePath, binaryFilePath), "Cache file must be valid after the first read.");
+        assertArrayEquals(parsedGrid, cachedGrid, "Cached grid differs from the parsed grid.");
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment values = BinaryGridFile.map(textFilePath, arena);
+            assertEquals(parsedGrid[360][720], BinaryGridFile.value(values, 360, 720));
+            assertTrue(Double.isNaN(BinaryGridFile.value(values, 0, 0)));
+        }
+
+        // Same content with a new modification time keeps the cache valid
+        Files.setLastModifiedTime(textFile, FileTime.fromMillis(0));
+        assertTrue(BinaryGridFile.isUpToDate(textFilePath, binaryFilePath), "Touching the TXT map must not invalidate its cache file.");
+
+        // New content invalidates the cache and is picked up by the next read
+        writeSyntheticMap(textFile, 1.0);
+        assertFalse(BinaryGridFile.isUpToDate(textFilePath, binaryFilePath), "Modified TXT map must invalidate its cache file.");
+        assertEquals(parsedGrid[360][720] + 1.0, BinaryGridFile.readGrid(textFilePath)[360][720], 1e-12);
+    }
+
+    static void writeSyntheticMap(Path file, double offset) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            for (int row = 0; row < 721; row++) {
+                StringBuilder line = new StringBuilder();
+
+                for (int column = 0; column < 1441; column++) {
+                    if (column > 0) {
+                        line.append(' ');
+                    }
+
+                    line.append(row == 0 && column == 0 ? "NaN" : Double.toString(offset + (row * 1441 + column) % 1000 / 1000.0));
+                }
+
+                writer.write(line.toString());
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the K<sub>L</sub>(f) table.</p>
+ *
+ * <p>The table must reproduce Equations (12, 14, 16) within a relative error of 10<sup>-9</sup> over 1–200 GHz, be exact
+ *    at the nodes and outside the range, and be used only where {@link CloudLiquidMassAbsorptionCoefficientTable.Mode#TABLE} is asked for.</p>
+ */
+public class CloudLiquidMassAbsorptionCoefficientTableTest {
+
+    private static final double MAXIMUM_RELATIVE_ERROR = 1e-9;
+
+    @Test
+    void validateAgainstExactCoefficient() {
+        assertTrue(CloudLiquidMassAbsorptionCoefficientTable.maximumRelativeError() < MAXIMUM_RELATIVE_ERROR,
+                   "Verified error: " + CloudLiquidMassAbsorptionCoefficientTable.maximumRelativeError());
+
+        Random random = new Random(20);
+
+        for (int i = 0; i < 200_000; i++) {
+            double frequency = 1.0 + random.nextDouble() * 199.0;
+            double exact = Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency);
+
+            assertEquals(exact, CloudLiquidMassAbsorptionCoefficientTable.value(frequency), Math.abs(exact) * MAXIMUM_RELATIVE_ERROR, "f = " + frequency);
+        }
+
+        for (double frequency : new double[] {1.0, 1.0625, 30.0, 199.9375, 200.0}) {
+            assertEquals(Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency), CloudLiquidMassAbsorptionCoefficientTable.value(frequency),
+                         Math.ulp(Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency)), "Node at f = " + frequency);
+        }
+
+        for (double frequency : new double[] {0.5, 250.0}) {
+            assertEquals(Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency), CloudLiquidMassAbsorptionCoefficientTable.value(frequency));
+        }
+    }
+
+    @Test
+    void validateModes() {
+        double frequency = 37.3;
+        double exact = Itu840.computeSlantPathInstantaneousCloudAttenuation(frequency, 0.8, 30.0);
+
+        assertEquals(Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency), CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT.value(frequency));
+        assertEquals(CloudLiquidMassAbsorptionCoefficientTable.value(frequency), CloudLiquidMassAbsorptionCoefficientTable.Mode.TABLE.value(frequency));
+
+        double[] frequencies = {frequency};
+        double[] attenuations = new double[1];
+
+        Itu840.computeSlantPathInstantaneousCloudAttenuation(frequencies, 0.8, 30.0, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT, attenuations);
+        assertEquals(exact, attenuations[0]);
+
+        Itu840.computeSlantPathInstantaneousCloudAttenuation(frequencies, 0.8, 30.0, CloudLiquidMassAbsorptionCoefficientTable.Mode.TABLE, attenuations);
+        assertEquals(CloudLiquidMassAbsorptionCoefficientTable.value(frequency) * 0.8 / Math.sin(Math.toRadians(30.0)), attenuations[0]);
+        assertEquals(exact, attenuations[0], exact * MAXIMUM_RELATIVE_ERROR);
+
+        // The methods without a mode stay exact
+        Itu840.computeSlantPathInstantaneousCloudAttenuation(frequencies, 0.8, 30.0, attenuations);
+        assertEquals(exact, attenuations[0]);
+
+        assertEquals(exact, Itu840.computeSlantPathInstantaneousCloudAttenuation(frequency, 0.8, 30.0, CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT));
+        assertEquals(CloudLiquidMassAbsorptionCoefficientTable.value(frequency) * 0.8 / Math.sin(Math.toRadians(30.0)),
+                     Itu840.computeSlantPathInstantaneousCloudAttenuation(frequency, 0.8, 30.0, CloudLiquidMassAbsorptionCoefficientTable.Mode.TABLE));
+        assertEquals(Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency) * 0.8 / Math.sin(Math.toRadians(30.0)), exact);
+    }
+}
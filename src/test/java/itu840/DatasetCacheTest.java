@@ -0,0 +1,117 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the memory-budgeted dataset cache, using synthetic digital maps written to a temporary data folder.</p>
+ *
+ * <p>The cache must stay within its budget by evicting the least recently used grids or datasets, count hits, misses,
+ *    and evictions, and give the same Equation (13) results as eagerly loaded grids after a reload.</p>
+ */
+public class DatasetCacheTest {
+
+    private static final long GRID_SIZE_IN_BYTES = (long) Grid.ROWS * Grid.COLUMNS * Double.BYTES;
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void validateGridEviction() throws Exception {
+        writeDataset(Dataset.ANNUAL, "L_1.TXT", "L_10.TXT", "L_50.TXT");
+
+        DatasetCache cache = new DatasetCache(temporaryDirectory.toString(), 2 * GRID_SIZE_IN_BYTES, Grid.StorageMode.DOUBLE, DatasetCache.EvictionUnit.GRID);
+        TreeMap<Double, Grid> gridsByProbability = Grid.loadByProbability(temporaryDirectory.resolve(Dataset.ANNUAL.folderName()).toString());
+
+        for (double exceedanceProbability : new double[] {3.0, 20.0, 3.0, 10.0}) {
+            assertEquals(Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, 12.3, -45.6, exceedanceProbability, 20.0, gridsByProbability),
+                         Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, 12.3, -45.6, exceedanceProbability, 20.0,
+                                                                            cache.bracketingGrids(Dataset.ANNUAL, exceedanceProbability)));
+            assertTrue(cache.residentSizeInBytes() <= cache.budgetInBytes(), "Cache exceeds its budget.");
+        }
+
+        // 3% reads 1 and 10; 20% hits 10, reads 50, and evicts 1; 3% reads 1 and 10 again, evicting 10 and 50; 10% hits
+        assertEquals(5, cache.missCount());
+        assertEquals(2, cache.hitCount());
+        assertEquals(3, cache.evictionCount());
+        assertTrue(cache.isResident(Dataset.ANNUAL, 1.0) && cache.isResident(Dataset.ANNUAL, 10.0));
+        assertFalse(cache.isResident(Dataset.ANNUAL, 50.0));
+    }
+
+    @Test
+    void validateDatasetEviction() throws Exception {
+        writeDataset(Dataset.MONTH_01, "L_1.TXT", "L_10.TXT");
+        writeDataset(Dataset.MONTH_02, "L_1.TXT", "L_10.TXT");
+
+        DatasetCache cache = new DatasetCache(temporaryDirectory.toString(), 3 * GRID_SIZE_IN_BYTES, Grid.StorageMode.FLOAT, DatasetCache.EvictionUnit.DATASET);
+
+        assertEquals(2, cache.gridsByProbability(Dataset.MONTH_01).size());
+        assertEquals(2, cache.gridsByProbability(Dataset.MONTH_02).size());
+        assertEquals(2 * GRID_SIZE_IN_BYTES, cache.residentSizeInBytes(), "Float grids of both months must fit.");
+
+        DatasetCache smallCache = new DatasetCache(temporaryDirectory.toString(), GRID_SIZE_IN_BYTES, Grid.StorageMode.FLOAT, DatasetCache.EvictionUnit.DATASET);
+        smallCache.gridsByProbability(Dataset.MONTH_01);
+        smallCache.grid(Dataset.MONTH_02, 1.0);
+
+        assertFalse(smallCache.isResident(Dataset.MONTH_01, 1.0) || smallCache.isResident(Dataset.MONTH_01, 10.0), "The whole stack must be evicted.");
+        assertEquals(2, smallCache.evictionCount());
+        assertThrows(IllegalArgumentException.class, () -> smallCache.grid(Dataset.LOG_NORMAL_ANNUAL, 1.0));
+    }
+
+    @Test
+    void validateClearDuringRead() throws Exception {
+        writeDataset(Dataset.ANNUAL, "L_1.TXT", "L_10.TXT");
+
+        DatasetCache cache = new DatasetCache(temporaryDirectory.toString(), 4 * GRID_SIZE_IN_BYTES, Grid.StorageMode.DOUBLE, DatasetCache.EvictionUnit.GRID);
+        cache.grid(Dataset.ANNUAL, 10.0);
+        cache.clear();
+
+        Thread reader = new Thread(() -> {
+            try {
+                cache.grid(Dataset.ANNUAL, 1.0);
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        reader.start();
+
+        // The reader registers its read under the lock, and parses the TXT map (no binary cache file yet) without it
+        while (cache.missCount() < 2) {
+            Thread.onSpinWait();
+        }
+
+        synchronized (cache.lock) {
+            // Wait until the read has finished and the reader waits for the lock to account the grid
+            while (reader.getState() != Thread.State.BLOCKED) {
+                Thread.sleep(1);
+            }
+
+            assertFalse(cache.isResident(Dataset.ANNUAL, 1.0), "The read must not be accounted yet.");
+
+            // Drop the finished read before it is accounted, and read the same grid again
+            cache.clear();
+            cache.grid(Dataset.ANNUAL, 1.0);
+            assertEquals(3, cache.missCount(), "The grid must be read again after clear().");
+        }
+
+        reader.join();
+
+        assertEquals(GRID_SIZE_IN_BYTES, cache.residentSizeInBytes(), "A read dropped by clear() must not be accounted.");
+        assertTrue(cache.isResident(Dataset.ANNUAL, 1.0));
+    }
+
+    private void writeDataset(Dataset dataset, String... fileNames) throws Exception {
+        Path folder = Files.createDirectories(temporaryDirectory.resolve(dataset.folderName()));
+
+        for (int i = 0; i < fileNames.length; i++) {
+            BinaryGridFileTest.writeSyntheticMap(folder.resolve(fileNames[i]), i);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the dataset registry, using synthetic digital maps written to a temporary data folder.</p>
+ *
+ * <p>Concurrent first requests of a dataset must share one load and one set of grids, and a failed load must not be
+ *    cached, so that the dataset can be requested again once its files are present.</p>
+ */
+public class DatasetRegistryTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void validateLoadedOnceAndRetriedAfterFailure() throws Exception {
+        Path annualFolder = Files.createDirectories(temporaryDirectory.resolve(Dataset.ANNUAL.folderName()));
+        BinaryGridFileTest.writeSyntheticMap(annualFolder.resolve("L_1.TXT"), 0.0);
+        BinaryGridFileTest.writeSyntheticMap(annualFolder.resolve("L_10.TXT"), 1.0);
+
+        DatasetRegistry registry = new DatasetRegistry(temporaryDirectory.toString(), Grid.StorageMode.FLOAT);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<NavigableMap<Double, Grid>>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> registry.gridsByProbability(Dataset.ANNUAL)));
+            }
+
+            NavigableMap<Double, Grid> grids = futures.get(0).get();
+
+            for (Future<NavigableMap<Double, Grid>> future : futures) {
+                assertSame(grids, future.get(), "Concurrent requests must share the same grids.");
+            }
+
+            assertEquals(Set.of(1.0, 10.0), grids.keySet());
+            assertEquals(Grid.StorageMode.FLOAT, grids.get(1.0).storageMode());
+            assertThrows(UnsupportedOperationException.class, () -> grids.remove(1.0));
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        assertEquals(EnumSet.of(Dataset.ANNUAL), registry.residentDatasets());
+        assertEquals(2L * Grid.ROWS * Grid.COLUMNS * Float.BYTES, registry.residentSizeInBytes());
+
+        assertThrows(IOException.class, () -> registry.gridsByProbability(Dataset.month(1)));
+        assertFalse(registry.isResident(Dataset.MONTH_01), "A failed load must not be cached.");
+
+        Path monthFolder = Files.createDirectories(temporaryDirectory.resolve(Dataset.MONTH_01.folderName()));
+        BinaryGridFileTest.writeSyntheticMap(monthFolder.resolve("L_1.TXT"), 0.0);
+
+        assertEquals(1, registry.gridsByProbability(Dataset.MONTH_01).size());
+        assertTrue(registry.isResident(Dataset.MONTH_01));
+        assertThrows(IllegalArgumentException.class, () -> registry.gridsByProbability(Dataset.LOG_NORMAL_ANNUAL));
+    }
+}
@@ -0,0 +1,95 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the temperature-dependent double-Debye model and its coefficient cache.</p>
+ *
+ * <p>At the reference temperature of 273.75 K every value must be identical, bit for bit, to the fixed-temperature method;
+ *    at other temperatures the coefficients must follow Equations (6)–(10), K<sub>l</sub> must grow as the water cools
+ *    below 10 GHz, invalid temperatures must be rejected, and the cache must reuse coefficients and stay within its capacity.</p>
+ */
+public class DebyeCoefficientsTest {
+
+    @Test
+    void validateAtReferenceTemperature() {
+        DebyeCoefficients coefficients = DebyeCoefficients.of(Itu840.REFERENCE_TEMPERATURE_KELVIN);
+
+        assertEquals(Itu840.REFERENCE_TEMPERATURE_KELVIN, coefficients.temperature());
+        assertSame(coefficients, DebyeCoefficients.of(Itu840.REFERENCE_TEMPERATURE_KELVIN));
+        assertEquals(Itu840.computeEpsilon0(), coefficients.epsilon0());
+        assertEquals(Itu840.computeEpsilon1(), coefficients.epsilon1());
+        assertEquals(Itu840.computeEpsilon2(), coefficients.epsilon2());
+        assertEquals(Itu840.computePrincipalRelaxationFrequency(), coefficients.principalRelaxationFrequency());
+        assertEquals(Itu840.computeSecondaryRelaxationFrequency(), coefficients.secondaryRelaxationFrequency());
+
+        Random random = new Random(25);
+
+        for (int i = 0; i < 10_000; i++) {
+            double frequency = 1.0 + random.nextDouble() * 199.0;
+            String message = "f = " + frequency;
+
+            assertEquals(Itu840.computeEpsilonReal(frequency), Itu840.computeEpsilonReal(frequency, 273.75), message);
+            assertEquals(Itu840.computeEpsilonImaginary(frequency), Itu840.computeEpsilonImaginary(frequency, 273.75), message);
+            assertEquals(Itu840.computeEta(frequency), Itu840.computeEta(frequency, 273.75), message);
+            assertEquals(Itu840.computeCloudLiquidWaterSpecificAttenuationCoefficient(frequency),
+                         Itu840.computeCloudLiquidWaterSpecificAttenuationCoefficient(frequency, 273.75), message);
+            assertEquals(Itu840.computeCloudLiquidWaterSpecificAttenuationCoefficient(frequency),
+                         Itu840.computeCloudLiquidWaterSpecificAttenuationCoefficient(frequency, coefficients), message);
+            assertEquals(Itu840.computeEta(frequency), Itu840.computeEta(frequency, coefficients), message);
+        }
+    }
+
+    @Test
+    void validateAtOtherTemperatures() {
+        // Equation (6) and (9) at T = 300 K, where 300/T − 1 = 0
+        DebyeCoefficients coefficients = DebyeCoefficients.of(300.0);
+        assertEquals(77.66, coefficients.epsilon0());
+        assertEquals(20.20, coefficients.principalRelaxationFrequency());
+        assertEquals(39.8 * 20.20, coefficients.secondaryRelaxationFrequency());
+        assertEquals(0.0671 * 77.66, coefficients.epsilon1());
+
+        double previous = 0.0;
+
+        for (double temperature = 310.0; temperature >= 250.0; temperature -= 5.0) {
+            double cloudLiquidWaterSpecificAttenuationCoefficient = Itu840.computeCloudLiquidWaterSpecificAttenuationCoefficient(5.0, temperature);
+
+            assertTrue(cloudLiquidWaterSpecificAttenuationCoefficient > previous, "T = " + temperature);
+            assertEquals(cloudLiquidWaterSpecificAttenuationCoefficient,
+                         Itu840.computeCloudLiquidWaterSpecificAttenuationCoefficient(5.0, DebyeCoefficients.of(temperature)));
+            previous = cloudLiquidWaterSpecificAttenuationCoefficient;
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> DebyeCoefficients.of(0.0));
+        assertThrows(IllegalArgumentException.class, () -> DebyeCoefficients.of(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Itu840.computeEta(10.0, Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> Itu840.computeEpsilon0(0.0));
+        assertThrows(IllegalArgumentException.class, () -> Itu840.computeEpsilon1(-10.0));
+        assertThrows(IllegalArgumentException.class, () -> Itu840.computePrincipalRelaxationFrequency(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Itu840.computeSecondaryRelaxationFrequency(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    void validateCache() {
+        // Reuse: the coefficients of a temperature are computed once, whichever method asks for them
+        DebyeCoefficients coefficients = DebyeCoefficients.of(283.15);
+        DebyeCoefficients.of(293.15);
+
+        assertSame(coefficients, DebyeCoefficients.of(283.15));
+        assertEquals(Itu840.computeEta(20.0, coefficients), Itu840.computeEta(20.0, 283.15));
+
+        // Bound: a run over more temperatures than the capacity keeps the cache within it, and keeps working
+        for (int i = 0; i < 3 * DebyeCoefficients.CACHE_CAPACITY; i++) {
+            double temperature = 240.0 + i * 1e-3;
+
+            assertEquals(temperature, DebyeCoefficients.of(temperature).temperature());
+            assertTrue(DebyeCoefficients.cachedTemperatureCount() <= DebyeCoefficients.CACHE_CAPACITY);
+        }
+
+        assertEquals(Itu840.computeEpsilon0(), DebyeCoefficients.of(Itu840.REFERENCE_TEMPERATURE_KELVIN).epsilon0());
+    }
+}
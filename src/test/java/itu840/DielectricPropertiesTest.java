@@ -0,0 +1,40 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the single-pass dielectric evaluation.</p>
+ *
+ * <p>Every intermediate must be identical, bit for bit, to the corresponding <code>compute</code> method, over
+ *    1–200 GHz and with one destination reused for all frequencies.</p>
+ */
+public class DielectricPropertiesTest {
+
+    @Test
+    void validateAgainstSeparateMethods() {
+        Random random = new Random(21);
+        DielectricProperties dielectricProperties = new DielectricProperties();
+
+        assertTrue(Double.isNaN(dielectricProperties.cloudLiquidMassAbsorptionCoefficient()));
+
+        for (int i = 0; i < 100_000; i++) {
+            double frequency = (i < 200) ? i + 1.0 : 1.0 + random.nextDouble() * 199.0;
+            String message = "f = " + frequency;
+
+            assertSame(dielectricProperties, Itu840.computeDielectricProperties(frequency, dielectricProperties));
+
+            assertEquals(frequency, dielectricProperties.frequency(), message);
+            assertEquals(Itu840.computeEpsilonReal(frequency), dielectricProperties.epsilonReal(), message);
+            assertEquals(Itu840.computeEpsilonImaginary(frequency), dielectricProperties.epsilonImaginary(), message);
+            assertEquals(Itu840.computeEta(frequency), dielectricProperties.eta(), message);
+            assertEquals(Itu840.computeCloudLiquidWaterSpecificAttenuationCoefficient(frequency),
+                         dielectricProperties.cloudLiquidWaterSpecificAttenuationCoefficient(), message);
+            assertEquals(Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency),
+                         dielectricProperties.cloudLiquidMassAbsorptionCoefficient(), message);
+        }
+    }
+}
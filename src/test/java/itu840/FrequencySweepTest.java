@@ -0,0 +1,110 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the frequency sweep methods, using synthetic grids.</p>
+ *
+ * <p>Each swept attenuation must be identical, bit for bit, to the single-frequency method at the same site, p, &theta;,
+ *    and K<sub>L</sub>(f) mode, and within the error of the table of the exact method with
+ *    {@link CloudLiquidMassAbsorptionCoefficientTable.Mode#TABLE}, including sites where Equation (15) is 0.</p>
+ */
+public class FrequencySweepTest {
+
+    private static final double MAXIMUM_RELATIVE_ERROR = 1e-9;
+
+    @Test
+    void validateAgainstSingleFrequencyMethods() {
+        Random random = new Random(22);
+
+        TreeMap<Double, Grid> gridsByProbability = new TreeMap<>();
+        gridsByProbability.put(0.1, Grid.of(GridTest.syntheticGrid(random)));
+        gridsByProbability.put(1.0, Grid.of(GridTest.syntheticGrid(random)));
+        gridsByProbability.put(10.0, Grid.of(GridTest.syntheticGrid(random)));
+        ProbabilityAxis probabilityAxis = ProbabilityAxis.of(gridsByProbability);
+
+        LogNormalGrids logNormalGrids = new LogNormalGrids(Grid.of(GridTest.syntheticGrid(random)), Grid.of(GridTest.syntheticGrid(random)),
+                                                           Grid.of(GridTest.syntheticGrid(random)));
+        PackedLogNormalGrid packedLogNormalGrid = PackedLogNormalGrid.of(logNormalGrids);
+
+        double[] frequencies = new double[2000];
+
+        for (int i = 0; i < frequencies.length; i++) {
+            frequencies[i] = 1.0 + i * 199.0 / (frequencies.length - 1);
+        }
+
+        double[] attenuations = new double[frequencies.length];
+        double[] packedAttenuations = new double[frequencies.length];
+        int zeroSweeps = 0;
+
+        for (CloudLiquidMassAbsorptionCoefficientTable.Mode mode : CloudLiquidMassAbsorptionCoefficientTable.Mode.values()) {
+            // The exact sweeps match the point methods bit for bit; the table sweeps within its relative error
+            double relativeTolerance = (mode == CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT) ? 0.0 : MAXIMUM_RELATIVE_ERROR;
+
+            for (int site = 0; site < 40; site++) {
+                double latitude = -90.0 + random.nextDouble() * 180.0;
+                double longitude = -180.0 + random.nextDouble() * 360.0;
+                double exceedanceProbability = (site == 0) ? 1.0 : 0.1 + random.nextDouble() * 9.9;
+                double elevationAngle = 5.0 + random.nextDouble() * 85.0;
+                GridLocation location = GridLocation.of(latitude, longitude);
+                String message = location + " at p = " + exceedanceProbability + ", mode " + mode;
+
+                if (mode == CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT) {
+                    Itu840.computeSlantPathStatisticalCloudAttenuation(frequencies, latitude, longitude, exceedanceProbability, elevationAngle,
+                                                                       probabilityAxis, attenuations);
+                }
+                else {
+                    Itu840.computeSlantPathStatisticalCloudAttenuation(frequencies, location, exceedanceProbability, elevationAngle,
+                                                                       probabilityAxis, mode, attenuations);
+                }
+
+                for (int i = 0; i < frequencies.length; i++) {
+                    double expected = Itu840.computeSlantPathStatisticalCloudAttenuation(frequencies[i], latitude, longitude, exceedanceProbability, elevationAngle,
+                                                                                         gridsByProbability);
+
+                    assertEquals(expected, attenuations[i], Math.abs(expected) * relativeTolerance, message);
+                    assertEquals(Itu840.computeSlantPathStatisticalCloudAttenuation(frequencies[i], latitude, longitude, exceedanceProbability, elevationAngle,
+                                                                                    probabilityAxis, mode), attenuations[i], message);
+                }
+
+                if (mode == CloudLiquidMassAbsorptionCoefficientTable.Mode.EXACT) {
+                    Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                            frequencies, latitude, longitude, exceedanceProbability / 10.0, elevationAngle,
+                            logNormalGrids.logNormalMeanParameterGrid(), logNormalGrids.logNormalStandardDeviationParameterGrid(), logNormalGrids.cloudProbabilityGrid(),
+                            attenuations);
+                    Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                            frequencies, location, exceedanceProbability / 10.0, elevationAngle, packedLogNormalGrid, packedAttenuations);
+                }
+                else {
+                    Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                            frequencies, location, exceedanceProbability / 10.0, elevationAngle,
+                            logNormalGrids.logNormalMeanParameterGrid(), logNormalGrids.logNormalStandardDeviationParameterGrid(), logNormalGrids.cloudProbabilityGrid(),
+                            mode, attenuations);
+                    Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                            frequencies, location, exceedanceProbability / 10.0, elevationAngle, packedLogNormalGrid, mode, packedAttenuations);
+                }
+
+                for (int i = 0; i < frequencies.length; i++) {
+                    double expected = Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                            frequencies[i], latitude, longitude, exceedanceProbability / 10.0, elevationAngle,
+                            logNormalGrids.logNormalMeanParameterGrid(), logNormalGrids.logNormalStandardDeviationParameterGrid(), logNormalGrids.cloudProbabilityGrid());
+
+                    assertEquals(expected, attenuations[i], Math.abs(expected) * relativeTolerance, message);
+                    assertEquals(expected, packedAttenuations[i], Math.abs(expected) * relativeTolerance, message);
+                    assertEquals(Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                            frequencies[i], location, exceedanceProbability / 10.0, elevationAngle, packedLogNormalGrid, mode), packedAttenuations[i], message);
+                }
+
+                if (attenuations[0] == 0.0) {
+                    zeroSweeps++;
+                }
+            }
+        }
+
+        assertTrue(zeroSweeps > 0 && zeroSweeps < 80, "Sweeps with A_C = 0: " + zeroSweeps);
+    }
+}
@@ -0,0 +1,76 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the fused Equation (15) kernel, using synthetic grids.</p>
+ *
+ * <p>The kernel and the frequency overloads must be identical, bit for bit, to Equation (15) evaluated step by step with
+ *    the latitude-longitude corner check and interpolations, including sites where a P<sub>L</sub> corner is at or
+ *    below 0.02%, where P<sub>L</sub> &le; p, and where corners are <code>NaN</code>.</p>
+ */
+public class FusedLogNormalKernelTest {
+
+    @Test
+    void validateAgainstStepByStepEquation15() {
+        Random random = new Random(18);
+        double[][] cloudProbabilities = GridTest.syntheticGrid(random);
+
+        // Corners at and around the 0.02% threshold
+        for (int column = 0; column < Grid.COLUMNS; column += 5) {
+            cloudProbabilities[500][column] = 0.02;
+            cloudProbabilities[501][column + 1 < Grid.COLUMNS ? column + 1 : column] = 0.0200001;
+        }
+
+        Grid logNormalMeanParameterGrid = Grid.of(GridTest.syntheticGrid(random));
+        Grid logNormalStandardDeviationParameterGrid = Grid.of(GridTest.syntheticGrid(random));
+        Grid cloudProbabilityGrid = Grid.of(cloudProbabilities);
+
+        double frequency = 30.0;
+        double elevationAngle = 20.0;
+        double cloudLiquidMassAbsorptionCoefficient = Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency);
+        double sineOfElevationAngle = Math.sin(Math.toRadians(elevationAngle));
+        int zeroAttenuations = 0;
+
+        for (int i = 0; i < 5000; i++) {
+            double latitude = (i % 2 == 0) ? 35.0 + random.nextDouble() : -90.0 + random.nextDouble() * 180.0;
+            double longitude = -180.0 + random.nextDouble() * 360.0;
+            double exceedanceProbability = 0.01 + random.nextDouble() * 2.0;
+
+            double expected = 0.0;
+
+            if (!Itu840.isAnyCornerCloudProbabilityBelowThreshold(latitude, longitude, cloudProbabilityGrid)) {
+                double logNormalMeanParameter = Itu840.bilinearInterpolation(latitude, longitude, logNormalMeanParameterGrid);
+                double logNormalStandardDeviationParameter = Itu840.bilinearInterpolation(latitude, longitude, logNormalStandardDeviationParameterGrid);
+                double cloudProbability = Itu840.bilinearInterpolation(latitude, longitude, cloudProbabilityGrid);
+
+                if (cloudProbability > 0.02 && exceedanceProbability < cloudProbability) {
+                    double inverseStandardNormalCCDF = Itu840.computeInverseStandardNormalCCDF(exceedanceProbability / cloudProbability);
+
+                    expected = cloudLiquidMassAbsorptionCoefficient *
+                               Math.exp(logNormalMeanParameter + logNormalStandardDeviationParameter * inverseStandardNormalCCDF) / sineOfElevationAngle;
+                }
+            }
+
+            GridLocation location = GridLocation.of(latitude, longitude);
+            String message = "(" + latitude + ", " + longitude + ") at p = " + exceedanceProbability;
+
+            assertEquals(expected, Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuationFused(
+                    cloudLiquidMassAbsorptionCoefficient, sineOfElevationAngle, location, exceedanceProbability,
+                    logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid), message);
+            assertEquals(expected, Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                    frequency, latitude, longitude, exceedanceProbability, elevationAngle,
+                    logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid), message);
+
+            if (expected == 0.0) {
+                zeroAttenuations++;
+            }
+        }
+
+        assertTrue(zeroAttenuations > 0 && zeroAttenuations < 5000);
+    }
+}
@@ -0,0 +1,102 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the precomputed grid locations, using synthetic grids.</p>
+ *
+ * <p>Interpolations and P<sub>L</sub> corner checks at a location must be identical to the latitude-longitude methods,
+ *    bit for bit, on array grids, flat grids, and probability cubes, including the poles and the ±180° meridian.
+ *    A location must also give the same attenuations for every month it is reused with.</p>
+ */
+public class GridLocationTest {
+
+    @Test
+    void validateAgainstLatitudeLongitudeMethods() {
+        Random random = new Random(17);
+        double[][] values = GridTest.syntheticGrid(random);
+        Grid grid = Grid.of(values);
+
+        TreeMap<Double, double[][]> gridsByProbability = new TreeMap<>();
+        gridsByProbability.put(1.0, values);
+        gridsByProbability.put(5.0, GridTest.syntheticGrid(random));
+        ProbabilityCube probabilityCube = ProbabilityCube.ofArrays(gridsByProbability);
+
+        double[][] sites = {
+                {-90.0, -180.0}, {90.0, 180.0}, {-90.0, 180.0}, {90.0, -180.0}, {0.0, 0.0}, {10.0, 180.0}, {-33.9, 151.2},
+                {51.5, -0.1}, {89.99, 179.99}, {-89.99, -179.99}, {45.125, 7.125}
+        };
+
+        List<double[]> locations = new ArrayList<>(Arrays.asList(sites));
+
+        for (int i = 0; i < 1000; i++) {
+            locations.add(new double[] {-90.0 + random.nextDouble() * 180.0, -180.0 + random.nextDouble() * 360.0});
+        }
+
+        double[] column = new double[probabilityCube.size()];
+
+        for (double[] site : locations) {
+            double latitude = site[0];
+            double longitude = site[1];
+            GridLocation location = GridLocation.of(latitude, longitude);
+            String message = "(" + latitude + ", " + longitude + ")";
+
+            assertEquals(latitude, location.latitude());
+            assertEquals(longitude, location.longitude());
+
+            assertEquals(Itu840.bilinearInterpolation(latitude, longitude, values), Itu840.bilinearInterpolation(location, values), message);
+            assertEquals(Itu840.bilinearInterpolation(latitude, longitude, grid), Itu840.bilinearInterpolation(location, grid), message);
+
+            Itu840.bilinearInterpolation(location, probabilityCube, column);
+
+            for (int level = 0; level < probabilityCube.size(); level++) {
+                double expected = Itu840.bilinearInterpolation(latitude, longitude, probabilityCube, level);
+
+                assertEquals(expected, Itu840.bilinearInterpolation(location, probabilityCube, level), message);
+                assertEquals(expected, column[level], message);
+            }
+
+            assertEquals(Itu840.isAnyCornerCloudProbabilityBelowThreshold(latitude, longitude, values),
+                         Itu840.isAnyCornerCloudProbabilityBelowThreshold(location, values), message);
+            assertEquals(Itu840.isAnyCornerCloudProbabilityBelowThreshold(latitude, longitude, grid),
+                         Itu840.isAnyCornerCloudProbabilityBelowThreshold(location, grid), message);
+        }
+    }
+
+    @Test
+    void validateReuseAcrossDatasets() {
+        Random random = new Random(1717);
+        List<NavigableMap<Double, Grid>> months = new ArrayList<>();
+
+        for (int month = 0; month < 3; month++) {
+            TreeMap<Double, Grid> grids = new TreeMap<>();
+            grids.put(0.1, Grid.of(GridTest.syntheticGrid(random)));
+            grids.put(1.0, Grid.of(GridTest.syntheticGrid(random)));
+            months.add(grids);
+        }
+
+        GridLocation location = GridLocation.of(48.85, 2.35);
+
+        for (NavigableMap<Double, Grid> grids : months) {
+            ProbabilityAxis probabilityAxis = ProbabilityAxis.of(grids);
+
+            // Equation (13) from the latitude-longitude interpolation
+            double integratedCloudLiquidWaterContentBelow = Itu840.bilinearInterpolation(48.85, 2.35, grids.get(0.1));
+            double integratedCloudLiquidWaterContentAbove = Itu840.bilinearInterpolation(48.85, 2.35, grids.get(1.0));
+
+            for (double exceedanceProbability : new double[] {0.1, 0.3, 1.0}) {
+                double integratedCloudLiquidWaterContent = (exceedanceProbability == 1.0) ? integratedCloudLiquidWaterContentAbove :
+                        integratedCloudLiquidWaterContentBelow + (integratedCloudLiquidWaterContentAbove - integratedCloudLiquidWaterContentBelow) *
+                                                                 (Math.log10(exceedanceProbability) - Math.log10(0.1)) / (Math.log10(1.0) - Math.log10(0.1));
+                double expected = Itu840.computeSlantPathInstantaneousCloudAttenuation(40.0, integratedCloudLiquidWaterContent, 25.0);
+
+                assertEquals(expected, Itu840.computeSlantPathStatisticalCloudAttenuation(40.0, location, exceedanceProbability, 25.0, grids));
+                assertEquals(expected, Itu840.computeSlantPathStatisticalCloudAttenuation(40.0, location, exceedanceProbability, 25.0, probabilityAxis));
+            }
+        }
+    }
+}
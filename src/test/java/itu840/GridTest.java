@@ -0,0 +1,98 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the flat grid type, using synthetic 721 × 1441 grids with <code>NaN</code> grid points.</p>
+ *
+ * <p>Interpolation and the P<sub>L</sub> corner check on a heap or off-heap {@link Grid} must be bit-for-bit identical to the
+ *    <code>double[][]</code> overloads, including at the poles and at the ±180° seam. The reduced-precision storage
+ *    modes must stay within the documented Equation (13) error bound.</p>
+ */
+public class GridTest {
+
+    private static final int NUMBER_OF_QUERIES = 20_000;
+
+    @Test
+    void validateAgainstArrayGrid() {
+        Random random = new Random(840);
+        double[][] arrayGrid = syntheticGrid(random);
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate((long) Grid.ROWS * Grid.COLUMNS * Double.BYTES, Double.BYTES);
+
+            for (int row = 0; row < Grid.ROWS; row++) {
+                MemorySegment.copy(arrayGrid[row], 0, segment, BinaryGridFile.DOUBLE, (long) row * Grid.COLUMNS * Double.BYTES, Grid.COLUMNS);
+            }
+
+            for (Grid grid : List.of(Grid.of(arrayGrid), Grid.ofSegment(segment))) {
+                assertArrayEquals(arrayGrid, grid.toArray(), "Flat grid does not round-trip.");
+
+                for (int i = 0; i < NUMBER_OF_QUERIES; i++) {
+                    double latitude = (i == 0) ? 90.0 : (i == 1) ? -90.0 : random.nextDouble() * 180.0 - 90.0;
+                    double longitude = (i == 0) ? 180.0 : (i == 1) ? -180.0 : random.nextDouble() * 360.0 - 180.0;
+
+                    assertEquals(Itu840.bilinearInterpolation(latitude, longitude, arrayGrid), Itu840.bilinearInterpolation(latitude, longitude, grid),
+                            "Interpolation differs at (" + latitude + ", " + longitude + ").");
+                    assertEquals(Itu840.isAnyCornerCloudProbabilityBelowThreshold(latitude, longitude, arrayGrid),
+                            Itu840.isAnyCornerCloudProbabilityBelowThreshold(latitude, longitude, grid),
+                            "Corner check differs at (" + latitude + ", " + longitude + ").");
+                }
+            }
+        }
+    }
+
+    @Test
+    void validateStorageModeErrorBound() {
+        Random random = new Random(841);
+        double[] probabilities = {0.1, 1.0, 10.0};
+        TreeMap<Double, double[][]> arrayGrids = new TreeMap<>();
+
+        for (double probability : probabilities) {
+            arrayGrids.put(probability, syntheticGrid(random));
+        }
+
+        for (Grid.StorageMode storageMode : Grid.StorageMode.values()) {
+            TreeMap<Double, Grid> grids = new TreeMap<>();
+            arrayGrids.forEach((probability, arrayGrid) -> grids.put(probability, Grid.of(arrayGrid, storageMode)));
+
+            double maximumAbsoluteError = 0.0;
+
+            for (Grid grid : grids.values()) {
+                assertEquals(storageMode, grid.storageMode());
+                maximumAbsoluteError = Math.max(maximumAbsoluteError, grid.maximumAbsoluteError());
+            }
+
+            for (int i = 0; i < NUMBER_OF_QUERIES; i++) {
+                double latitude = random.nextDouble() * 180.0 - 90.0;
+                double longitude = random.nextDouble() * 360.0 - 180.0;
+                double exceedanceProbability = 0.1 + random.nextDouble() * 9.9;
+                double frequency = 1.0 + random.nextDouble() * 199.0;
+                double elevationAngle = 1.0 + random.nextDouble() * 89.0;
+
+                double expected = Itu840.computeSlantPathStatisticalCloudAttenuation(frequency, latitude, longitude, exceedanceProbability, elevationAngle, arrayGrids);
+                double actual = Itu840.computeSlantPathStatisticalCloudAttenuation(frequency, latitude, longitude, exceedanceProbability, elevationAngle, grids);
+                double bound = Itu840.computeCloudLiquidMassAbsorptionCoefficient(frequency) * maximumAbsoluteError / Math.sin(Math.toRadians(elevationAngle));
+
+                assertEquals(expected, actual, bound + 1e-12 * Math.abs(expected), storageMode + " exceeds its error bound.");
+            }
+        }
+    }
+
+    static double[][] syntheticGrid(Random random) {
+        double[][] grid = new double[Grid.ROWS][Grid.COLUMNS];
+
+        for (int row = 0; row < Grid.ROWS; row++) {
+            for (int column = 0; column < Grid.COLUMNS; column++) {
+                grid[row][column] = ((row * 7 + column) % 997 == 0) ? Double.NaN : random.nextDouble() * 3.0;
+            }
+        }
+
+        return grid;
+    }
+}
@@ -0,0 +1,100 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the inverse prediction methods, using synthetic grids.</p>
+ *
+ * <p>The forward method at the returned p must give back the fade margin, for Equation (13) on a probability axis
+ *    and a probability cube, and for Equation (15).</p>
+ */
+public class InverseAttenuationTest {
+
+    private static final double[] LEVELS = {0.1, 1.0, 10.0, 50.0, 100.0};
+
+    @Test
+    void validateStatisticalInverse() {
+        Random random = new Random(844);
+        TreeMap<Double, Grid> grids = new TreeMap<>();
+
+        // L decreasing in p, as in the digital maps
+        double[][] baseGrid = GridTest.syntheticGrid(random);
+
+        for (int level = 0; level < LEVELS.length; level++) {
+            double[][] grid = new double[Grid.ROWS][Grid.COLUMNS];
+
+            for (int row = 0; row < Grid.ROWS; row++) {
+                for (int column = 0; column < Grid.COLUMNS; column++) {
+                    grid[row][column] = baseGrid[row][column] * (LEVELS.length - level) + 0.01;
+                }
+            }
+
+            grids.put(LEVELS[level], Grid.of(grid));
+        }
+
+        ProbabilityAxis probabilityAxis = ProbabilityAxis.of(grids);
+        ProbabilityCube probabilityCube = ProbabilityCube.of(grids);
+
+        for (int i = 0; i < 5_000; i++) {
+            double latitude = random.nextDouble() * 180.0 - 90.0;
+            double longitude = random.nextDouble() * 360.0 - 180.0;
+            double exceedanceProbability = Math.pow(10.0, -1.0 + random.nextDouble() * 3.0);
+            double attenuation = Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, latitude, longitude, exceedanceProbability, 20.0, probabilityAxis);
+
+            double solvedOnAxis = Itu840.computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(30.0, latitude, longitude, attenuation, 20.0, probabilityAxis);
+            double solvedOnCube = Itu840.computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(30.0, latitude, longitude, attenuation, 20.0, probabilityCube);
+
+            assertEquals(solvedOnAxis, solvedOnCube);
+            assertEquals(attenuation, Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, latitude, longitude, solvedOnAxis, 20.0, probabilityAxis),
+                         1e-9 * attenuation, "Equation (13) inverse does not round-trip at (" + latitude + ", " + longitude + ").");
+        }
+
+        assertEquals(0.1, Itu840.computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(30.0, 0.0, 0.0, 1e6, 20.0, probabilityAxis));
+        assertEquals(100.0, Itu840.computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(30.0, 0.0, 0.0, 1e-9, 20.0, probabilityAxis));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Itu840.computeExceedanceProbabilityOfSlantPathStatisticalCloudAttenuation(30.0, 0.0, 0.0, 0.0, 20.0, probabilityAxis));
+    }
+
+    @Test
+    void validateLogNormalInverse() {
+        Random random = new Random(845);
+        double[][] logNormalMeanParameterGrid = new double[Grid.ROWS][Grid.COLUMNS];
+        double[][] logNormalStandardDeviationParameterGrid = new double[Grid.ROWS][Grid.COLUMNS];
+        double[][] cloudProbabilityGrid = new double[Grid.ROWS][Grid.COLUMNS];
+
+        for (int row = 0; row < Grid.ROWS; row++) {
+            for (int column = 0; column < Grid.COLUMNS; column++) {
+                logNormalMeanParameterGrid[row][column] = -3.0 + 2.0 * random.nextDouble();
+                logNormalStandardDeviationParameterGrid[row][column] = 0.3 + random.nextDouble();
+                cloudProbabilityGrid[row][column] = (random.nextInt(50) == 0) ? 0.01 : 5.0 + 90.0 * random.nextDouble();
+            }
+        }
+
+        int zeroSites = 0;
+
+        for (int i = 0; i < 20_000; i++) {
+            double latitude = random.nextDouble() * 180.0 - 90.0;
+            double longitude = random.nextDouble() * 360.0 - 180.0;
+            double exceedanceProbability = Math.pow(10.0, -2.0 + random.nextDouble() * 3.0);
+
+            double attenuation = Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                    30.0, latitude, longitude, exceedanceProbability, 20.0, logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid);
+
+            if (attenuation == 0.0) {
+                zeroSites++;
+                continue;
+            }
+
+            double solved = Itu840.computeExceedanceProbabilityOfLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                    30.0, latitude, longitude, attenuation, 20.0, logNormalMeanParameterGrid, logNormalStandardDeviationParameterGrid, cloudProbabilityGrid);
+
+            assertEquals(exceedanceProbability, solved, 1e-8 * exceedanceProbability, "Equation (15) inverse does not round-trip.");
+        }
+
+        assertTrue(zeroSites > 0, "Corner rule sites must be exercised.");
+    }
+}
@@ -0,0 +1,52 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the demand-driven probability stack, using synthetic digital maps written to a temporary folder.</p>
+ *
+ * <p>A query must read only the grids that bracket p, and give the same Equation (13) result as the eagerly loaded grids.</p>
+ */
+public class LazyProbabilityStackTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void validateOnlyBracketingGridsAreRead() throws Exception {
+        String[] fileNames = {"L_01.TXT", "L_1.TXT", "L_10.TXT", "L_50.TXT", "L_mean.TXT"};
+
+        for (int i = 0; i < fileNames.length; i++) {
+            BinaryGridFileTest.writeSyntheticMap(temporaryDirectory.resolve(fileNames[i]), i);
+        }
+
+        String folderPath = temporaryDirectory.toString();
+        LazyProbabilityStack probabilityStack = LazyProbabilityStack.open(folderPath);
+
+        assertArrayEquals(new double[] {0.1, 1.0, 10.0, 50.0}, probabilityStack.exceedanceProbabilities());
+        assertEquals(0, probabilityStack.loadedCount(), "Opening the stack must not read any grid.");
+
+        TreeMap<Double, Grid> gridsByProbability = Grid.loadByProbability(folderPath);
+
+        double expected = Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, 12.3, -45.6, 3.0, 20.0, gridsByProbability);
+        double actual = Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, 12.3, -45.6, 3.0, 20.0, probabilityStack);
+
+        assertEquals(expected, actual);
+        assertEquals(2, probabilityStack.loadedCount());
+        assertTrue(probabilityStack.isLoaded(1.0) && probabilityStack.isLoaded(10.0), "Only the bracketing grids must be read.");
+        assertSame(probabilityStack.grid(1.0), probabilityStack.grid(1.0), "A grid must be read only once.");
+
+        assertEquals(Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, 12.3, -45.6, 50.0, 20.0, gridsByProbability),
+                     Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, 12.3, -45.6, 50.0, 20.0, probabilityStack));
+        assertEquals(3, probabilityStack.loadedCount());
+
+        assertThrows(IllegalArgumentException.class, () -> probabilityStack.grid(2.0));
+        assertThrows(IllegalArgumentException.class, () -> probabilityStack.floorProbability(0.01));
+    }
+}
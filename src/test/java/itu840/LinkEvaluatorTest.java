@@ -0,0 +1,133 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ * <p>Validator for the prepared link evaluator, using synthetic grids.</p>
+ *
+ * <p>Every query must be bit-for-bit identical to the point method, for Equation (13) at grid probabilities and
+ *    between them, and for Equation (15), including when one evaluator is shared by several threads. Once compiled,
+ *    latitude-longitude queries must not allocate.</p>
+ */
+public class LinkEvaluatorTest {
+
+    @Test
+    void validateAgainstPointMethods() throws Exception {
+        Random random = new Random(24);
+        TreeMap<Double, Grid> grids = new TreeMap<>();
+        grids.put(0.1, Grid.of(GridTest.syntheticGrid(random)));
+        grids.put(1.0, Grid.of(GridTest.syntheticGrid(random)));
+        grids.put(10.0, Grid.of(GridTest.syntheticGrid(random)));
+
+        LogNormalGrids logNormalGrids = new LogNormalGrids(Grid.of(GridTest.syntheticGrid(random)), Grid.of(GridTest.syntheticGrid(random)),
+                                                           Grid.of(GridTest.syntheticGrid(random)));
+
+        LinkEvaluator statisticalLink = LinkEvaluator.of(20.0, 35.0, ProbabilityAxis.of(grids));
+        LinkEvaluator logNormalLink = LinkEvaluator.of(20.0, 35.0, logNormalGrids);
+
+        assertFalse(statisticalLink.isLogNormal());
+        assertTrue(logNormalLink.isLogNormal());
+        assertEquals(Itu840.computeCloudLiquidMassAbsorptionCoefficient(20.0), statisticalLink.cloudLiquidMassAbsorptionCoefficient());
+
+        double[][] queries = new double[4000][];
+
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = new double[] {-90.0 + random.nextDouble() * 180.0, -180.0 + random.nextDouble() * 360.0,
+                                       (i % 10 == 0) ? 1.0 : 0.1 + random.nextDouble() * 9.9};
+        }
+
+        Callable<Void> validation = () -> {
+            for (double[] query : queries) {
+                double latitude = query[0];
+                double longitude = query[1];
+                double exceedanceProbability = query[2];
+
+                assertEquals(Itu840.computeSlantPathStatisticalCloudAttenuation(20.0, latitude, longitude, exceedanceProbability, 35.0, grids),
+                             statisticalLink.attenuation(latitude, longitude, exceedanceProbability));
+                assertEquals(Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                                     20.0, latitude, longitude, exceedanceProbability / 10.0, 35.0,
+                                     logNormalGrids.logNormalMeanParameterGrid(), logNormalGrids.logNormalStandardDeviationParameterGrid(), logNormalGrids.cloudProbabilityGrid()),
+                             logNormalLink.attenuation(latitude, longitude, exceedanceProbability / 10.0));
+            }
+
+            return null;
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            for (Future<Void> result : executor.invokeAll(List.of(validation, validation, validation))) {
+                result.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        double[] exceedanceProbabilities = {0.1, 0.5, 1.0, 7.0};
+        double[] attenuations = new double[exceedanceProbabilities.length];
+        statisticalLink.attenuation(45.0, 7.0, exceedanceProbabilities, attenuations);
+
+        for (int i = 0; i < exceedanceProbabilities.length; i++) {
+            assertEquals(Itu840.computeSlantPathStatisticalCloudAttenuation(20.0, 45.0, 7.0, exceedanceProbabilities[i], 35.0, grids), attenuations[i]);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> statisticalLink.attenuation(45.0, 7.0, 50.0));
+        assertThrows(IllegalArgumentException.class, () -> statisticalLink.attenuation(45.0, 7.0, exceedanceProbabilities, new double[3]));
+    }
+
+    @Test
+    void validateLatitudeLongitudeQueriesDoNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        Random random = new Random(240);
+        TreeMap<Double, Grid> grids = new TreeMap<>();
+        grids.put(0.1, Grid.of(GridTest.syntheticGrid(random)));
+        grids.put(1.0, Grid.of(GridTest.syntheticGrid(random)));
+        grids.put(10.0, Grid.of(GridTest.syntheticGrid(random)));
+
+        LogNormalGrids logNormalGrids = new LogNormalGrids(Grid.of(GridTest.syntheticGrid(random)), Grid.of(GridTest.syntheticGrid(random)),
+                                                           Grid.of(GridTest.syntheticGrid(random)));
+
+        double[] latitudes = new double[50_000];
+        double[] longitudes = new double[latitudes.length];
+        double[] exceedanceProbabilities = new double[latitudes.length];
+
+        for (int i = 0; i < latitudes.length; i++) {
+            latitudes[i] = -90.0 + random.nextDouble() * 180.0;
+            longitudes[i] = -180.0 + random.nextDouble() * 360.0;
+            exceedanceProbabilities[i] = 0.1 + random.nextDouble() * 9.9;
+        }
+
+        for (LinkEvaluator link : List.of(LinkEvaluator.of(20.0, 35.0, ProbabilityAxis.of(grids)), LinkEvaluator.of(20.0, 35.0, logNormalGrids))) {
+            double sum = 0.0;
+            long fewestBytes = Long.MAX_VALUE;
+
+            // The fewest bytes of the last rounds, once the query is compiled; a GridLocation per query would be 50 000 of them
+            for (int round = 0; round < 40; round++) {
+                long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+
+                for (int i = 0; i < latitudes.length; i++) {
+                    sum += link.attenuation(latitudes[i], longitudes[i], exceedanceProbabilities[i]);
+                }
+
+                long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+
+                if (round >= 30) {
+                    fewestBytes = Math.min(fewestBytes, bytes);
+                }
+            }
+
+            assertTrue(sum > 0.0);
+            assertTrue(fewestBytes < latitudes.length, link + " allocated " + fewestBytes + " bytes for " + latitudes.length + " queries");
+        }
+    }
+}
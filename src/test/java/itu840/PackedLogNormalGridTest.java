@@ -0,0 +1,103 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the packed log-normal parameter grid, using synthetic grids and digital maps.</p>
+ *
+ * <p>Equation (15) and the P<sub>L</sub> corner check with the packed grid must be identical, bit for bit, to the
+ *    separate flat grids, including cells on the ±180° meridian and at the poles. The packed file must be written on the
+ *    first read, reused on the next, and rebuilt when a digital map changes.</p>
+ */
+public class PackedLogNormalGridTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void validateAgainstSeparateGrids() {
+        Random random = new Random(19);
+        double[][] cloudProbabilities = GridTest.syntheticGrid(random);
+
+        for (int column = 0; column < Grid.COLUMNS; column += 7) {
+            cloudProbabilities[300][column] = 0.02;
+        }
+
+        cloudProbabilities[600][1] = 0.01; // Eastern corner of the last column
+
+        LogNormalGrids logNormalGrids = new LogNormalGrids(Grid.of(GridTest.syntheticGrid(random)), Grid.of(GridTest.syntheticGrid(random)),
+                                                           Grid.of(cloudProbabilities));
+        PackedLogNormalGrid packedLogNormalGrid = PackedLogNormalGrid.of(logNormalGrids);
+
+        assertEquals(Grid.ROWS * Grid.COLUMNS * 3L * Double.BYTES + (Grid.ROWS * Grid.COLUMNS + 63) / 64 * Long.BYTES, packedLogNormalGrid.sizeInBytes());
+        assertEquals(cloudProbabilities[600][1], packedLogNormalGrid.cloudProbability(600, 1));
+
+        List<double[]> sites = new ArrayList<>(Arrays.asList(new double[][] {
+                {-90.0, -180.0}, {90.0, 180.0}, {-15.125, 180.0}, {60.1, 179.9}, {0.0, 0.0}, {-14.9, -179.9}
+        }));
+
+        for (int i = 0; i < 5000; i++) {
+            double latitude = (i % 2 == 0) ? -15.0 - random.nextDouble() : -90.0 + random.nextDouble() * 180.0;
+            sites.add(new double[] {latitude, -180.0 + random.nextDouble() * 360.0});
+        }
+
+        for (double[] site : sites) {
+            GridLocation location = GridLocation.of(site[0], site[1]);
+            double exceedanceProbability = 0.01 + random.nextDouble() * 2.0;
+            String message = location + " at p = " + exceedanceProbability;
+
+            assertEquals(Itu840.isAnyCornerCloudProbabilityBelowThreshold(location, logNormalGrids.cloudProbabilityGrid()),
+                         Itu840.isAnyCornerCloudProbabilityBelowThreshold(location, packedLogNormalGrid), message);
+
+            double expected = Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                    30.0, site[0], site[1], exceedanceProbability, 20.0,
+                    logNormalGrids.logNormalMeanParameterGrid(), logNormalGrids.logNormalStandardDeviationParameterGrid(), logNormalGrids.cloudProbabilityGrid());
+
+            assertEquals(expected, Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                    30.0, site[0], site[1], exceedanceProbability, 20.0, packedLogNormalGrid), message);
+            assertEquals(expected, Itu840.computeLogNormalApproximationToTheSlantPathStatisticalCloudAttenuation(
+                    30.0, location, exceedanceProbability, 20.0, packedLogNormalGrid), message);
+        }
+    }
+
+    @Test
+    void validatePersistenceAndStaleDetection() throws Exception {
+        BinaryGridFileTest.writeSyntheticMap(temporaryDirectory.resolve("mL.TXT"), -1.0);
+        BinaryGridFileTest.writeSyntheticMap(temporaryDirectory.resolve("sL.TXT"), 0.5);
+        BinaryGridFileTest.writeSyntheticMap(temporaryDirectory.resolve("PL.TXT"), 0.0);
+
+        String folderPath = temporaryDirectory.toString();
+        Path packedFile = temporaryDirectory.resolve(PackedLogNormalGrid.FILE_NAME);
+
+        assertFalse(Files.exists(packedFile));
+
+        PackedLogNormalGrid built = PackedLogNormalGrid.readFromFolder(folderPath);
+        assertTrue(Files.exists(packedFile), "Packed file must be written on the first read.");
+
+        FileTime writtenTime = Files.getLastModifiedTime(packedFile);
+        PackedLogNormalGrid read = PackedLogNormalGrid.readFromFolder(folderPath);
+
+        assertEquals(writtenTime, Files.getLastModifiedTime(packedFile), "Up-to-date packed file must not be rewritten.");
+        assertArrayEquals(built.parameters, read.parameters);
+        assertArrayEquals(built.belowThresholdCells, read.belowThresholdCells);
+        assertArrayEquals(PackedLogNormalGrid.of(LogNormalGrids.readFromFolder(folderPath, Grid.StorageMode.DOUBLE)).parameters, read.parameters);
+
+        // A changed digital map must invalidate the packed file
+        Path cloudProbabilityFile = temporaryDirectory.resolve("PL.TXT");
+        FileTime previousTime = Files.getLastModifiedTime(cloudProbabilityFile);
+        BinaryGridFileTest.writeSyntheticMap(cloudProbabilityFile, 2.0);
+        Files.setLastModifiedTime(cloudProbabilityFile, FileTime.fromMillis(previousTime.toMillis() + 10_000));
+
+        PackedLogNormalGrid rebuilt = PackedLogNormalGrid.readFromFolder(folderPath);
+
+        assertEquals(2.0, rebuilt.cloudProbability(0, 500) - read.cloudProbability(0, 500), 1e-12);
+        assertArrayEquals(rebuilt.parameters, PackedLogNormalGrid.readFromFolder(folderPath).parameters);
+    }
+}
@@ -0,0 +1,112 @@
+package itu840;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * <p>Validator for the primitive probability axis and the cell-major probability cube, using synthetic grids
+ *    at the annual probability levels.</p>
+ *
+ * <p>Equation (13) on either layout must be bit-for-bit identical to the <code>TreeMap</code> overload,
+ *    including at the levels themselves and at both ends of the axis, and so must each value of a CCDF curve.</p>
+ */
+public class ProbabilityAxisTest {
+
+    private static final double[] LEVELS = {0.01, 0.02, 0.03, 0.05, 0.1, 0.2, 0.3, 0.5, 1, 2, 3, 5, 10, 20, 30, 50, 60, 70, 80, 90, 95, 99, 100};
+
+    @Test
+    void validateAgainstTreeMap() {
+        Random random = new Random(842);
+        TreeMap<Double, double[][]> arrayGrids = syntheticGridsByProbability(random);
+
+        ProbabilityAxis probabilityAxis = ProbabilityAxis.ofArrays(arrayGrids);
+        assertArrayEquals(LEVELS, probabilityAxis.exceedanceProbabilities());
+
+        for (int i = 0; i < 50_000; i++) {
+            double exceedanceProbability = (i < LEVELS.length) ? LEVELS[i] : Math.pow(10.0, -2.0 + random.nextDouble() * 4.0);
+            double latitude = random.nextDouble() * 180.0 - 90.0;
+            double longitude = random.nextDouble() * 360.0 - 180.0;
+
+            assertEquals(arrayGrids.floorKey(exceedanceProbability), probabilityAxis.level(probabilityAxis.floorIndex(exceedanceProbability)));
+            assertEquals(Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, latitude, longitude, exceedanceProbability, 20.0, arrayGrids),
+                         Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, latitude, longitude, exceedanceProbability, 20.0, probabilityAxis),
+                         "Equation (13) differs at p = " + exceedanceProbability + "%.");
+        }
+
+        assertCurveMatchesSingleQueries(random, exceedanceProbabilities -> Itu840.computeSlantPathStatisticalCloudAttenuation(
+                30.0, 12.3, -45.6, exceedanceProbabilities, 20.0, probabilityAxis), arrayGrids);
+
+        assertThrows(IllegalArgumentException.class, () -> probabilityAxis.floorIndex(0.001));
+        assertThrows(IllegalArgumentException.class, () -> probabilityAxis.floorIndex(Double.NaN));
+    }
+
+    @Test
+    void validateCubeAgainstTreeMap() {
+        Random random = new Random(843);
+        TreeMap<Double, double[][]> arrayGrids = syntheticGridsByProbability(random);
+        ProbabilityCube probabilityCube = ProbabilityCube.ofArrays(arrayGrids);
+        double[] column = new double[probabilityCube.size()];
+
+        for (int i = 0; i < 20_000; i++) {
+            double exceedanceProbability = (i < LEVELS.length) ? LEVELS[i] : Math.pow(10.0, -2.0 + random.nextDouble() * 4.0);
+            double latitude = (i == 0) ? 90.0 : random.nextDouble() * 180.0 - 90.0;
+            double longitude = (i == 0) ? 180.0 : random.nextDouble() * 360.0 - 180.0;
+
+            assertEquals(Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, latitude, longitude, exceedanceProbability, 20.0, arrayGrids),
+                         Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, latitude, longitude, exceedanceProbability, 20.0, probabilityCube),
+                         "Equation (13) differs at p = " + exceedanceProbability + "%.");
+
+            Itu840.bilinearInterpolation(latitude, longitude, probabilityCube, column);
+            int level = random.nextInt(LEVELS.length);
+            assertEquals(Itu840.bilinearInterpolation(latitude, longitude, arrayGrids.get(LEVELS[level])), column[level]);
+        }
+
+        assertCurveMatchesSingleQueries(random, exceedanceProbabilities -> Itu840.computeSlantPathStatisticalCloudAttenuation(
+                30.0, 12.3, -45.6, exceedanceProbabilities, 20.0, probabilityCube), arrayGrids);
+    }
+
+    private static void assertCurveMatchesSingleQueries(Random random, UnaryOperator<double[]> curve, TreeMap<Double, double[][]> arrayGrids) {
+        // Levels in descending order, random p, then ascending p between the levels
+        double[] exceedanceProbabilities = new double[64 + 2 * LEVELS.length];
+
+        for (int i = 0; i < exceedanceProbabilities.length; i++) {
+            exceedanceProbabilities[i] = (i < LEVELS.length) ? LEVELS[LEVELS.length - 1 - i]
+                                       : (i < 64) ? Math.pow(10.0, -2.0 + random.nextDouble() * 4.0)
+                                       : Math.min(LEVELS[LEVELS.length - 1], LEVELS[(i - 64) / 2] * (((i - 64) % 2 == 0) ? 1.0 : 1.001));
+        }
+
+        double[] attenuations = curve.apply(exceedanceProbabilities);
+
+        for (int i = 0; i < exceedanceProbabilities.length; i++) {
+            assertEquals(Itu840.computeSlantPathStatisticalCloudAttenuation(30.0, 12.3, -45.6, exceedanceProbabilities[i], 20.0, arrayGrids), attenuations[i],
+                         "Curve differs at p = " + exceedanceProbabilities[i] + "%.");
+        }
+    }
+
+    private static TreeMap<Double, double[][]> syntheticGridsByProbability(Random random) {
+        double[][] sharedGrid = GridTest.syntheticGrid(random);
+        TreeMap<Double, double[][]> arrayGrids = new TreeMap<>();
+
+        for (int i = 0; i < LEVELS.length; i++) {
+            // Distinct values per level from one synthetic grid keeps the test light
+            double[][] grid = new double[Grid.ROWS][];
+
+            for (int row = 0; row < Grid.ROWS; row++) {
+                grid[row] = sharedGrid[row].clone();
+                grid[row][(row * 31 + i) % Grid.COLUMNS] += i;
+
+                for (int column = 0; column < Grid.COLUMNS; column++) {
+                    grid[row][column] *= 1.0 + 0.05 * (LEVELS.length - i);
+                }
+            }
+
+            arrayGrids.put(LEVELS[i], grid);
+        }
+
+        return arrayGrids;
+    }
+}